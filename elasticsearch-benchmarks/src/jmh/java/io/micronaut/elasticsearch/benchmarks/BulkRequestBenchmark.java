@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Construction of bulk request bodies, uncompressed and gzip compressed. The {@code bytes} counter reports the size
+ * of the produced bodies, to weigh the CPU cost of the compression against the bytes saved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkRequestBenchmark {
+
+    @Param({"100", "1000"})
+    int operations;
+
+    @Param({"none", "gzip"})
+    String compression;
+
+    private JsonpMapper mapper;
+    private List<Movie> movies;
+    private ByteArrayOutputStream out;
+
+    /**
+     * Reports the size of the bodies.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        mapper = new JacksonJsonpMapper();
+        movies = Documents.movies(operations);
+        out = new ByteArrayOutputStream(operations * 512);
+    }
+
+    @Benchmark
+    public BulkRequest build() {
+        return Documents.bulkRequest(movies);
+    }
+
+    @Benchmark
+    public int buildAndSerialize(Bytes bytes) throws IOException {
+        out.reset();
+        BulkRequest request = Documents.bulkRequest(movies);
+        if ("gzip".equals(compression)) {
+            try (OutputStream gzip = new GZIPOutputStream(out)) {
+                Documents.writeNdJson(request, mapper, gzip);
+            }
+        } else {
+            Documents.writeNdJson(request, mapper, out);
+        }
+        bytes.bytes += out.size();
+        return out.size();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of the Micronaut configured client against an in-process stub server, with several
+ * connection pool sizes and with and without request compression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class ClientThroughputBenchmark {
+
+    private static final int BULK_OPERATIONS = 100;
+
+    @Param({"10", "30", "100"})
+    int maxConnections;
+
+    @Param({"false", "true"})
+    boolean requestCompression;
+
+    private StubServer server;
+    private ApplicationContext applicationContext;
+    private ElasticsearchClient client;
+    private BulkRequest bulkRequest;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new StubServer(Map.of(
+            "/_bulk", Documents.bulkResponse(BULK_OPERATIONS),
+            "/" + Documents.INDEX + "/_search", Documents.searchResponse(10, new JacksonJsonpMapper())
+        ));
+        applicationContext = ApplicationContext.run(Map.of(
+            "elasticsearch.httpHosts", server.getHttpHost(),
+            "elasticsearch.http.max-conn-per-route", maxConnections,
+            "elasticsearch.http.max-conn-total", maxConnections,
+            "elasticsearch.compression.request", requestCompression,
+            "endpoints.health.elasticsearch.enabled", false
+        ));
+        client = applicationContext.getBean(ElasticsearchClient.class);
+        bulkRequest = Documents.bulkRequest(Documents.movies(BULK_OPERATIONS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+        server.close();
+    }
+
+    @Benchmark
+    public SearchResponse<Movie> search() throws IOException {
+        return client.search(search -> search.index(Documents.INDEX), Movie.class);
+    }
+
+    @Benchmark
+    public BulkResponse bulk() throws IOException {
+        return client.bulk(bulkRequest);
+    }
+}
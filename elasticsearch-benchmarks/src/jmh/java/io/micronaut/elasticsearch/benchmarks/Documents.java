@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.NdJsonpSerializable;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Builds the documents and payloads shared by the benchmarks.
+ */
+final class Documents {
+
+    static final String INDEX = "movies";
+
+    private static final List<List<String>> GENRES = List.of(
+        List.of("Action", "Sci-Fi"),
+        List.of("Drama"),
+        List.of("Comedy", "Romance"),
+        List.of("Crime", "Drama", "Thriller")
+    );
+
+    private Documents() {
+    }
+
+    static Movie movie(int i) {
+        return new Movie(
+            String.format("tt%07d", i),
+            "Movie number " + i,
+            1950 + i % 75,
+            (i % 100) / 10.0,
+            GENRES.get(i % GENRES.size()),
+            "A plot long enough to look like a real synopsis, describing what happens to the characters of movie " + i
+                + " over two hours, with a twist in the middle and an ending nobody expected."
+        );
+    }
+
+    static List<Movie> movies(int count) {
+        List<Movie> movies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            movies.add(movie(i));
+        }
+        return movies;
+    }
+
+    static BulkRequest bulkRequest(List<Movie> movies) {
+        BulkRequest.Builder builder = new BulkRequest.Builder();
+        for (Movie movie : movies) {
+            builder.operations(op -> op.index(index -> index.index(INDEX).id(movie.getImdb()).document(movie)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes a request body the way the transport does: one JSON value per line.
+     */
+    static void writeNdJson(NdJsonpSerializable value, JsonpMapper mapper, OutputStream out) throws IOException {
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable serializable && item != value) {
+                writeNdJson(serializable, mapper, out);
+            } else {
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.flush();
+                out.write('\n');
+            }
+        }
+    }
+
+    static String bulkResponse(int operations) {
+        return IntStream.range(0, operations)
+            .mapToObj(i -> "{\"index\":{\"_index\":\"movies\",\"_id\":\"" + i + "\",\"_version\":1,\"result\":\"created\","
+                + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":" + i + ",\"_primary_term\":1,\"status\":201}}")
+            .collect(Collectors.joining(",", "{\"took\":3,\"errors\":false,\"items\":[", "]}"));
+    }
+
+    static String searchResponse(int hits, JsonpMapper mapper) {
+        StringBuilder json = new StringBuilder("{\"took\":2,\"timed_out\":false,")
+            .append("\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},")
+            .append("\"hits\":{\"total\":{\"value\":").append(hits).append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"_index\":\"movies\",\"_id\":\"").append(i).append("\",\"_score\":1.0,\"_source\":")
+                .append(toJson(movie(i), mapper))
+                .append('}');
+        }
+        return json.append("]}}").toString();
+    }
+
+    static String toJson(Object value, JsonpMapper mapper) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(writer)) {
+            mapper.serialize(value, generator);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import co.elastic.clients.json.JsonpMapper;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization of a single document with the Jackson databind and Micronaut Serialization
+ * mappers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonMappingBenchmark {
+
+    @Param({"jackson", "serde"})
+    String mapperName;
+
+    private Mappers mappers;
+    private JsonpMapper mapper;
+    private Movie movie;
+    private byte[] json;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        mappers = new Mappers(mapperName);
+        mapper = mappers.getMapper();
+        movie = Documents.movie(42);
+        json = Documents.toJson(movie, mapper).getBytes(StandardCharsets.UTF_8);
+        out = new ByteArrayOutputStream(json.length * 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        out.reset();
+        try (JsonGenerator generator = mapper.jsonProvider().createGenerator(out)) {
+            mapper.serialize(movie, generator);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Movie deserialize() {
+        try (JsonParser parser = mapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return mapper.deserialize(parser, Movie.class);
+        }
+    }
+}
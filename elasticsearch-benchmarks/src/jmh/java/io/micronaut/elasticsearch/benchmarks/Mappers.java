@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.elasticsearch.serde.SerdeJsonpMapper;
+import io.micronaut.serde.SerdeRegistry;
+
+/**
+ * Creates the {@link JsonpMapper} implementations compared by the benchmarks.
+ */
+final class Mappers implements AutoCloseable {
+
+    private final ApplicationContext applicationContext;
+    private final JsonpMapper mapper;
+
+    /**
+     * @param name {@code jackson} or {@code serde}
+     */
+    Mappers(String name) {
+        if ("serde".equals(name)) {
+            applicationContext = ApplicationContext.run();
+            mapper = new SerdeJsonpMapper(applicationContext.getBean(SerdeRegistry.class));
+        } else {
+            applicationContext = null;
+            mapper = new JacksonJsonpMapper();
+        }
+    }
+
+    JsonpMapper getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public void close() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.benchmarks;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+import java.util.List;
+
+/**
+ * A typical document, modelled after the {@code Movie} of the Java test suite with a few more fields.
+ */
+@Serdeable
+public class Movie {
+
+    private String imdb;
+    private String title;
+    private int year;
+    private double rating;
+    private List<String> genres;
+    private String plot;
+
+    /**
+     * Default constructor used by Jackson.
+     */
+    public Movie() {
+    }
+
+    /**
+     * @param imdb   The IMDb id
+     * @param title  The title
+     * @param year   The release year
+     * @param rating The rating
+     * @param genres The genres
+     * @param plot   The plot
+     */
+    public Movie(String imdb, String title, int year, double rating, List<String> genres, String plot) {
+        this.imdb = imdb;
+        this.title = title;
+        this.year = year;
+        this.rating = rating;
+        this.genres = genres;
+        this.plot = plot;
+    }
+
+    public String getImdb() {
+        return imdb;
+    }
+
+    public void setImdb(String imdb) {
+        this.imdb = imdb;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public void setRating(double rating) {
+        this.rating = rating;
+    }
+
+    public List<String> getGenres() {
+        return genres;
+    }
+
+    public void setGenres(List<String> genres) {
+        this.genres = genres;
+    }
+
+    public String getPlot() {
+        return plot;
+    }
+
+    public void setPlot(String plot) {
+        this.plot = plot;
+    }
+}
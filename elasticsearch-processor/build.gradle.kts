@@ -0,0 +1,11 @@
+plugins {
+    id("io.micronaut.build.internal.elasticsearch-module")
+}
+
+dependencies {
+    api(mn.micronaut.core.processor)
+    api(projects.micronautElasticsearch)
+
+    testImplementation(mn.micronaut.inject.java.test)
+    testImplementation(mn.groovy.json)
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.processor.mapping;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.mapping.ComponentTemplate;
+import io.micronaut.elasticsearch.mapping.DynamicMapping;
+import io.micronaut.elasticsearch.mapping.Field;
+import io.micronaut.elasticsearch.mapping.FieldType;
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+import io.micronaut.elasticsearch.mapping.TemplateMapping;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Computes the body of the put template request of the classes annotated with {@link IndexTemplate} or
+ * {@link ComponentTemplate}, and adds it to the class as a {@link TemplateMapping}. Each property is mapped with its
+ * {@link Field} annotation, or with the type inferred from its Java type. The properties ignored with
+ * {@code @JsonIgnore} are left out and the ones renamed with {@code @JsonProperty} use the new name. A property whose
+ * type can't be inferred, or with a {@link Field} parameter its type doesn't support, fails the compilation. The JSON is written in a stable order, so that its checksum, used as
+ * the version of the template, only changes with the mapping.
+ *
+ * @since 5.7.0
+ */
+public class ElasticsearchMappingVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final int KEYWORD_IGNORE_ABOVE = 256;
+    private static final Set<String> ARBITRARY_PRECISION_TYPES = Set.of(BigInteger.class.getName(), BigDecimal.class.getName());
+    private static final Set<FieldType> WITHOUT_DOC_VALUES = EnumSet.of(FieldType.TEXT, FieldType.OBJECT, FieldType.NESTED);
+    private static final Set<FieldType> WITH_IGNORE_ABOVE = EnumSet.of(FieldType.KEYWORD, FieldType.WILDCARD, FieldType.FLATTENED);
+    private static final Map<String, FieldType> INFERRED_TYPES = Map.ofEntries(
+        Map.entry(String.class.getName(), FieldType.TEXT),
+        Map.entry(CharSequence.class.getName(), FieldType.TEXT),
+        Map.entry("char", FieldType.KEYWORD),
+        Map.entry(Character.class.getName(), FieldType.KEYWORD),
+        Map.entry(UUID.class.getName(), FieldType.KEYWORD),
+        Map.entry("long", FieldType.LONG),
+        Map.entry(Long.class.getName(), FieldType.LONG),
+        Map.entry("int", FieldType.INTEGER),
+        Map.entry(Integer.class.getName(), FieldType.INTEGER),
+        Map.entry("short", FieldType.SHORT),
+        Map.entry(Short.class.getName(), FieldType.SHORT),
+        Map.entry("byte", FieldType.BYTE),
+        Map.entry(Byte.class.getName(), FieldType.BYTE),
+        Map.entry("double", FieldType.DOUBLE),
+        Map.entry(Double.class.getName(), FieldType.DOUBLE),
+        Map.entry("float", FieldType.FLOAT),
+        Map.entry(Float.class.getName(), FieldType.FLOAT),
+        Map.entry("boolean", FieldType.BOOLEAN),
+        Map.entry(Boolean.class.getName(), FieldType.BOOLEAN),
+        Map.entry(Instant.class.getName(), FieldType.DATE),
+        Map.entry(LocalDate.class.getName(), FieldType.DATE),
+        Map.entry(LocalDateTime.class.getName(), FieldType.DATE),
+        Map.entry(OffsetDateTime.class.getName(), FieldType.DATE),
+        Map.entry(ZonedDateTime.class.getName(), FieldType.DATE),
+        Map.entry(Date.class.getName(), FieldType.DATE),
+        Map.entry(InetAddress.class.getName(), FieldType.IP)
+    );
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(IndexTemplate.class.getName(), ComponentTemplate.class.getName());
+    }
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        AnnotationValue<IndexTemplate> indexTemplate = element.getDeclaredAnnotation(IndexTemplate.class);
+        AnnotationValue<ComponentTemplate> componentTemplate = element.getDeclaredAnnotation(ComponentTemplate.class);
+        if (indexTemplate == null && componentTemplate == null) {
+            return;
+        }
+        if (indexTemplate != null && componentTemplate != null) {
+            context.fail("A class can't be both an @IndexTemplate and a @ComponentTemplate", element);
+            return;
+        }
+        Map<String, Object> properties = properties(element, context, new HashSet<>());
+        if (properties == null) {
+            return;
+        }
+        AnnotationValue<?> template = indexTemplate != null ? indexTemplate : componentTemplate;
+        Map<String, Object> mappings = new LinkedHashMap<>();
+        mappings.put("dynamic", template.enumValue("dynamic", DynamicMapping.class).orElse(DynamicMapping.FALSE).toJson());
+        mappings.put("properties", properties);
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (indexTemplate != null) {
+            String[] indexPatterns = indexTemplate.stringValues("indexPatterns");
+            body.put("index_patterns", List.of(indexPatterns.length > 0 ? indexPatterns : indexTemplate.stringValues()));
+            String[] composedOf = indexTemplate.stringValues("composedOf");
+            if (composedOf.length > 0) {
+                body.put("composed_of", List.of(composedOf));
+            }
+            int priority = indexTemplate.intValue("priority").orElse(-1);
+            if (priority >= 0) {
+                body.put("priority", priority);
+            }
+        }
+        body.put("template", object("mappings", mappings));
+        body.put("_meta", object("managed_by", "micronaut-elasticsearch", "source", element.getName()));
+        CRC32 checksum = new CRC32();
+        checksum.update(toJson(body).getBytes(StandardCharsets.UTF_8));
+        long version = checksum.getValue();
+        body.put("version", version);
+        String json = toJson(body);
+        element.annotate(TemplateMapping.class, builder -> builder.value(json).member("version", version));
+    }
+
+    private @Nullable Map<String, Object> properties(ClassElement type, VisitorContext context, Set<String> visiting) {
+        if (!visiting.add(type.getName())) {
+            context.fail("The mapping of " + type.getName() + " is recursive", type);
+            return null;
+        }
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (PropertyElement property : type.getBeanProperties()) {
+            if (property.hasAnnotation(JSON_IGNORE)) {
+                continue;
+            }
+            Map<String, Object> field = field(property, context, visiting);
+            if (field == null) {
+                return null;
+            }
+            String name = property.stringValue(JSON_PROPERTY).filter(value -> !value.isEmpty()).orElse(property.getName());
+            properties.put(name, field);
+        }
+        visiting.remove(type.getName());
+        return properties;
+    }
+
+    private @Nullable Map<String, Object> field(PropertyElement property, VisitorContext context, Set<String> visiting) {
+        ClassElement type = property.getGenericType();
+        FieldType fieldType = property.enumValue(Field.class, "type", FieldType.class).orElse(FieldType.AUTO);
+        if (type.isArray() && type.fromArray().getName().equals("byte")) {
+            fieldType = fieldType == FieldType.AUTO ? FieldType.BINARY : fieldType;
+        } else {
+            type = elementType(type);
+        }
+        if (fieldType == FieldType.AUTO) {
+            fieldType = infer(type);
+        }
+        if (fieldType == null) {
+            String reason = ARBITRARY_PRECISION_TYPES.contains(type.getName())
+                ? " has an arbitrary precision that no numeric field keeps"
+                : " can't be inferred";
+            context.fail("The mapping of " + type.getName() + reason + ", set the type of the property "
+                + property.getName() + " with @Field", property);
+            return null;
+        }
+        Map<String, Object> field = new LinkedHashMap<>();
+        field.put("type", fieldType.toJson());
+        boolean object = fieldType == FieldType.OBJECT || fieldType == FieldType.NESTED;
+        if (object) {
+            Map<String, Object> properties = properties(type, context, visiting);
+            if (properties == null) {
+                return null;
+            }
+            field.put("properties", properties);
+        }
+        AnnotationValue<Field> annotation = property.getAnnotation(Field.class);
+        if (annotation == null) {
+            return field;
+        }
+        boolean keyword = annotation.booleanValue("keyword").orElse(false);
+        boolean index = annotation.booleanValue("index").orElse(true);
+        boolean docValues = annotation.booleanValue("docValues").orElse(true);
+        int ignoreAbove = annotation.intValue("ignoreAbove").orElse(-1);
+        String analyzer = annotation.stringValue("analyzer").filter(value -> !value.isEmpty()).orElse(null);
+        String format = annotation.stringValue("format").filter(value -> !value.isEmpty()).orElse(null);
+        double scalingFactor = annotation.doubleValue("scalingFactor").orElse(0);
+        String unsupported = unsupported(fieldType, keyword, index, docValues, ignoreAbove, analyzer, format, scalingFactor);
+        if (unsupported != null) {
+            context.fail("The property " + property.getName() + " can't be mapped as a " + fieldType.toJson() + " " + unsupported, property);
+            return null;
+        }
+        if (!index) {
+            field.put("index", false);
+        }
+        if (!docValues) {
+            field.put("doc_values", false);
+        }
+        if (ignoreAbove >= 0) {
+            field.put("ignore_above", ignoreAbove);
+        }
+        if (analyzer != null) {
+            field.put("analyzer", analyzer);
+        }
+        if (format != null) {
+            field.put("format", format);
+        }
+        if (fieldType == FieldType.SCALED_FLOAT) {
+            field.put("scaling_factor", scalingFactor);
+        }
+        if (keyword) {
+            field.put("fields", object("keyword", object("type", FieldType.KEYWORD.toJson(), "ignore_above", KEYWORD_IGNORE_ABOVE)));
+        }
+        return field;
+    }
+
+    private static @Nullable String unsupported(FieldType fieldType, boolean keyword, boolean index, boolean docValues,
+                                                int ignoreAbove, @Nullable String analyzer, @Nullable String format,
+                                                double scalingFactor) {
+        // Elasticsearch rejects the whole template when a field has a parameter its type doesn't support
+        boolean object = fieldType == FieldType.OBJECT || fieldType == FieldType.NESTED;
+        if (keyword && fieldType != FieldType.TEXT) {
+            return "with a keyword sub-field";
+        }
+        if (!index && object) {
+            return "that is not indexed";
+        }
+        if (!docValues && WITHOUT_DOC_VALUES.contains(fieldType)) {
+            return "without doc values";
+        }
+        if (ignoreAbove >= 0 && !WITH_IGNORE_ABOVE.contains(fieldType)) {
+            return "with ignoreAbove";
+        }
+        if (analyzer != null && fieldType != FieldType.TEXT) {
+            return "with an analyzer";
+        }
+        if (format != null && fieldType != FieldType.DATE) {
+            return "with a format";
+        }
+        if (fieldType == FieldType.SCALED_FLOAT ? scalingFactor <= 0 : scalingFactor != 0) {
+            return fieldType == FieldType.SCALED_FLOAT ? "without a positive scalingFactor" : "with a scalingFactor";
+        }
+        return null;
+    }
+
+    private static ClassElement elementType(ClassElement type) {
+        if (type.isArray()) {
+            return type.fromArray();
+        }
+        if (type.isOptional() || (type.isAssignable(Iterable.class) && !type.isAssignable(Map.class))) {
+            return type.getFirstTypeArgument().orElse(type);
+        }
+        return type;
+    }
+
+    private static @Nullable FieldType infer(ClassElement type) {
+        if (type.isEnum()) {
+            return FieldType.KEYWORD;
+        }
+        FieldType inferred = INFERRED_TYPES.get(type.getName());
+        if (inferred != null) {
+            return inferred;
+        }
+        if (type.isAssignable(Map.class)) {
+            return FieldType.FLATTENED;
+        }
+        if (!type.getName().startsWith("java.") && !type.getBeanProperties().isEmpty()) {
+            return FieldType.OBJECT;
+        }
+        return null;
+    }
+
+    private static Map<String, Object> object(Object... keyValues) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            object.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return object;
+    }
+
+    /**
+     * Writes maps, lists, strings, numbers and booleans as JSON, keeping the order of the map entries.
+     *
+     * @param value The value
+     * @return The JSON
+     */
+    static String toJson(Object value) {
+        StringBuilder json = new StringBuilder();
+        write(json, value);
+        return json.toString();
+    }
+
+    private static void write(StringBuilder json, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            json.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                write(json, entry.getKey().toString());
+                json.append(':');
+                write(json, entry.getValue());
+            }
+            json.append('}');
+        } else if (value instanceof List<?> list) {
+            json.append('[');
+            for (int i = 0; i < list.size(); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                write(json, list.get(i));
+            }
+            json.append(']');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            json.append('"');
+            String string = value.toString();
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                switch (c) {
+                    case '"' -> json.append("\\\"");
+                    case '\\' -> json.append("\\\\");
+                    case '\n' -> json.append("\\n");
+                    case '\r' -> json.append("\\r");
+                    case '\t' -> json.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            json.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            json.append(c);
+                        }
+                    }
+                }
+            }
+            json.append('"');
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.processor.repository;
+
+import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import io.micronaut.elasticsearch.repository.RepositoryEntity;
+import io.micronaut.elasticsearch.repository.RepositoryMethod;
+import io.micronaut.elasticsearch.repository.RepositoryMethod.Operation;
+import io.micronaut.elasticsearch.repository.RepositoryMethod.QueryType;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Adds the {@link RepositoryMethod} of each method of the {@link ElasticsearchRepository} interfaces, parsed from
+ * the method name and parameters, and the {@link RepositoryEntity} of the interface. The methods that can't be
+ * implemented fail the compilation.
+ *
+ * <ul>
+ *     <li>{@code save...(E)} and {@code save...(String id, E)} index a document, and {@code save...(Iterable<E>)}
+ *     indexes the documents with a bulk request</li>
+ *     <li>{@code findById(String)} gets a document, and {@code findById(Iterable<String>)} or
+ *     {@code findAllById(Iterable<String>)} get the documents with a multi get request</li>
+ *     <li>{@code deleteById(String)} deletes a document, and {@code deleteById(Iterable<String>)} or
+ *     {@code deleteAllById(Iterable<String>)} delete the documents with a bulk request</li>
+ *     <li>{@code find}, {@code get}, {@code query}, {@code search} or {@code read}, then optionally {@code First} or
+ *     {@code Top<n>}, then {@code By} and properties joined with {@code And}: searches the documents with a query per
+ *     property. A property is matched with a {@code match} query, or with a {@code term} query when suffixed with
+ *     {@code Equals} or {@code Is}. A collection parameter matches any of its values. A search returning a collection
+ *     must be bounded with {@code First} or {@code Top<n>}.</li>
+ *     <li>{@code countBy...} and {@code existsBy...} count the documents matching the properties</li>
+ * </ul>
+ *
+ * <p>The properties are named as in the documents: the ones ignored with {@code @JsonIgnore} can't be queried and
+ * the ones renamed with {@code @JsonProperty} are queried with their new name. The elements of the collection
+ * parameters and return types are checked against the document class, or {@link String} for the ids.</p>
+ *
+ * @since 5.7.0
+ */
+public class ElasticsearchRepositoryVisitor implements TypeElementVisitor<ElasticsearchRepository, Object> {
+
+    private static final Pattern DERIVED_QUERY = Pattern.compile("^(find|get|query|search|read|count|exists)(First|Top(\\d+))?By([A-Z]\\w*)$");
+    private static final Pattern SAVE = Pattern.compile("^(save|index)\\w*$");
+    private static final Pattern FIND_BY_ID = Pattern.compile("^(find|get)(All)?ById$");
+    private static final Pattern DELETE_BY_ID = Pattern.compile("^delete(All)?ById$");
+    private static final Pattern AND = Pattern.compile("(?<=[a-z0-9])And(?=[A-Z])");
+    private static final List<String> TERM_SUFFIXES = List.of("Equals", "Is");
+    private static final String MATCH_SUFFIX = "Matches";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final Set<String> COLLECTION_TYPES = Set.of(
+        Iterable.class.getName(), Collection.class.getName(), List.class.getName()
+    );
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(ElasticsearchRepository.class.getName());
+    }
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.ISOLATING;
+    }
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        ClassElement entity = element.getTypeArguments(ElasticsearchCrudRepository.class).get("E");
+        if (!element.isInterface() || entity == null) {
+            context.fail("@ElasticsearchRepository must annotate an interface extending ElasticsearchCrudRepository", element);
+            return;
+        }
+        element.annotate(RepositoryEntity.class, builder -> builder.value(new AnnotationClassValue<>(entity.getName())));
+        Map<String, String> properties = new HashMap<>();
+        for (PropertyElement property : entity.getBeanProperties()) {
+            if (!property.hasAnnotation(JSON_IGNORE)) {
+                String field = property.stringValue(JSON_PROPERTY).filter(value -> !value.isEmpty()).orElse(property.getName());
+                properties.put(property.getName(), field);
+            }
+        }
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS.onlyAbstract())) {
+            if (!method.hasAnnotation(RepositoryMethod.class)) {
+                visitRepositoryMethod(method, entity, properties, context);
+            }
+        }
+    }
+
+    private void visitRepositoryMethod(MethodElement method, ClassElement entity, Map<String, String> properties, VisitorContext context) {
+        String name = method.getName();
+        ParameterElement[] parameters = method.getParameters();
+        ClassElement returnType = method.getGenericReturnType();
+        boolean collection = parameters.length == 1 && parameters[0].getType().isAssignable(Iterable.class);
+        if (SAVE.matcher(name).matches()) {
+            if (collection) {
+                boolean valid = isIterableOf(parameters[0], entity.getName())
+                    && (isVoid(returnType) || isCollectionOf(returnType, String.class.getName()));
+                annotate(method, Operation.SAVE_ALL, valid, context);
+            } else {
+                boolean id = parameters.length == 2 && isString(parameters[0].getType());
+                ClassElement document = parameters.length > 0 ? parameters[parameters.length - 1].getType() : null;
+                boolean valid = (parameters.length == 1 || id) && document != null && document.getName().equals(entity.getName());
+                annotate(method, Operation.SAVE, valid && (isVoid(returnType) || isString(returnType)), context);
+            }
+        } else if (FIND_BY_ID.matcher(name).matches() && parameters.length == 1) {
+            if (collection) {
+                boolean valid = isIterableOf(parameters[0], String.class.getName()) && isCollectionOf(returnType, entity.getName());
+                annotate(method, Operation.FIND_ALL_BY_ID, valid, context);
+            } else {
+                annotate(method, Operation.FIND_BY_ID, isString(parameters[0].getType()) && isEntity(returnType, entity), context);
+            }
+        } else if (DELETE_BY_ID.matcher(name).matches() && parameters.length == 1) {
+            boolean valid = collection ? isIterableOf(parameters[0], String.class.getName()) : isString(parameters[0].getType());
+            annotate(method, collection ? Operation.DELETE_ALL_BY_ID : Operation.DELETE_BY_ID, valid && isVoid(returnType), context);
+        } else {
+            Matcher matcher = DERIVED_QUERY.matcher(name);
+            if (matcher.matches()) {
+                visitDerivedQuery(method, matcher, entity, properties, context);
+            } else {
+                context.fail("Unsupported repository method " + name
+                    + ", see ElasticsearchRepositoryVisitor for the supported names", method);
+            }
+        }
+    }
+
+    private void visitDerivedQuery(MethodElement method,
+                                   Matcher matcher,
+                                   ClassElement entity,
+                                   Map<String, String> properties,
+                                   VisitorContext context) {
+        ParameterElement[] parameters = method.getParameters();
+        String[] criteria = AND.split(matcher.group(4));
+        if (criteria.length != parameters.length) {
+            context.fail("Repository method " + method.getName() + " expects " + criteria.length + " parameters", method);
+            return;
+        }
+        String[] fields = new String[criteria.length];
+        QueryType[] queries = new QueryType[criteria.length];
+        for (int i = 0; i < criteria.length; i++) {
+            boolean collection = parameters[i].getType().isAssignable(Iterable.class);
+            String criterion = criteria[i];
+            QueryType query = QueryType.MATCH;
+            if (!properties.containsKey(NameUtils.decapitalize(criterion))) {
+                for (String suffix : TERM_SUFFIXES) {
+                    if (criterion.endsWith(suffix)) {
+                        criterion = criterion.substring(0, criterion.length() - suffix.length());
+                        query = QueryType.TERM;
+                        break;
+                    }
+                }
+                if (criterion.endsWith(MATCH_SUFFIX)) {
+                    criterion = criterion.substring(0, criterion.length() - MATCH_SUFFIX.length());
+                }
+            }
+            String property = NameUtils.decapitalize(criterion);
+            String field = properties.get(property);
+            if (field == null) {
+                context.fail("Repository method " + method.getName() + " queries " + property + " which is not a property of "
+                    + entity.getName(), method);
+                return;
+            }
+            fields[i] = field;
+            if (collection) {
+                queries[i] = query == QueryType.TERM ? QueryType.TERMS : QueryType.MATCH_ANY;
+            } else {
+                queries[i] = query;
+            }
+        }
+        ClassElement returnType = method.getGenericReturnType();
+        String prefix = matcher.group(1);
+        Operation operation;
+        boolean valid;
+        if (prefix.equals("count")) {
+            operation = Operation.COUNT;
+            valid = Set.of("long", Long.class.getName(), "int", Integer.class.getName()).contains(returnType.getName());
+        } else if (prefix.equals("exists")) {
+            operation = Operation.EXISTS;
+            valid = Set.of("boolean", Boolean.class.getName()).contains(returnType.getName());
+        } else {
+            operation = Operation.FIND;
+            valid = isCollectionOf(returnType, entity.getName()) || isEntity(returnType, entity);
+        }
+        int size = matcher.group(2) == null ? -1 : matcher.group(3) == null ? 1 : Integer.parseInt(matcher.group(3));
+        if (!valid) {
+            context.fail("Repository method " + method.getName() + " can't return " + returnType.getName(), method);
+            return;
+        }
+        if (operation == Operation.FIND && size < 0 && isCollection(returnType)) {
+            // Elasticsearch would silently return its default of 10 hits
+            context.fail("Repository method " + method.getName() + " returns a collection and must bound it with First or "
+                + "Top<n>, e.g. " + prefix + "Top100By" + matcher.group(4), method);
+            return;
+        }
+        method.annotate(RepositoryMethod.class, builder -> builder
+            .value(operation)
+            .member("fields", fields)
+            .member("queries", queries)
+            .member("size", size));
+    }
+
+    private static void annotate(MethodElement method, Operation operation, boolean valid, VisitorContext context) {
+        if (valid) {
+            method.annotate(RepositoryMethod.class, builder -> builder.value(operation));
+        } else {
+            context.fail("Invalid parameters or return type for the " + operation + " repository method " + method.getName(), method);
+        }
+    }
+
+    private static boolean isEntity(ClassElement type, ClassElement entity) {
+        if (type.isOptional()) {
+            return type.getFirstTypeArgument().map(argument -> argument.getName().equals(entity.getName())).orElse(false);
+        }
+        return type.getName().equals(entity.getName());
+    }
+
+    private static boolean isCollection(ClassElement type) {
+        return COLLECTION_TYPES.contains(type.getName());
+    }
+
+    private static boolean isCollectionOf(ClassElement type, String elementType) {
+        return isCollection(type) && isFirstTypeArgument(type, elementType);
+    }
+
+    private static boolean isIterableOf(ParameterElement parameter, String elementType) {
+        return isFirstTypeArgument(parameter.getGenericType(), elementType);
+    }
+
+    private static boolean isFirstTypeArgument(ClassElement type, String name) {
+        return type.getFirstTypeArgument().map(argument -> argument.getName().equals(name)).orElse(false);
+    }
+
+    private static boolean isString(ClassElement type) {
+        return type.getName().equals(String.class.getName());
+    }
+
+    private static boolean isVoid(ClassElement type) {
+        return type.getName().equals("void");
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.processor.mapping
+
+import groovy.json.JsonSlurper
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.core.beans.BeanIntrospection
+import io.micronaut.elasticsearch.mapping.TemplateMapping
+
+class ElasticsearchMappingVisitorSpec extends AbstractTypeElementSpec {
+
+    void "the index template is computed at compilation"() {
+        when:
+        BeanIntrospection introspection = buildBeanIntrospection('test.Movie', '''
+package test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micronaut.elasticsearch.mapping.DynamicMapping;
+import io.micronaut.elasticsearch.mapping.Field;
+import io.micronaut.elasticsearch.mapping.FieldType;
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@IndexTemplate(value = "movies", indexPatterns = "movies-*", composedOf = "audit", priority = 10, dynamic = DynamicMapping.STRICT)
+class Movie {
+    @Field(keyword = true, analyzer = "english")
+    private String title;
+    @Field(type = FieldType.KEYWORD)
+    private List<String> genres;
+    private int year;
+    @Field(type = FieldType.KEYWORD, index = false, docValues = false)
+    private String poster;
+    @Field(type = FieldType.SCALED_FLOAT, scalingFactor = 100)
+    private BigDecimal price;
+    private Instant released;
+    private Rating rating;
+    private Director director;
+    private Map<String, String> labels;
+    @JsonIgnore
+    private String cached;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public List<String> getGenres() { return genres; }
+    public void setGenres(List<String> genres) { this.genres = genres; }
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+    public String getPoster() { return poster; }
+    public void setPoster(String poster) { this.poster = poster; }
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+    public Instant getReleased() { return released; }
+    public void setReleased(Instant released) { this.released = released; }
+    public Rating getRating() { return rating; }
+    public void setRating(Rating rating) { this.rating = rating; }
+    public Director getDirector() { return director; }
+    public void setDirector(Director director) { this.director = director; }
+    public Map<String, String> getLabels() { return labels; }
+    public void setLabels(Map<String, String> labels) { this.labels = labels; }
+    public String getCached() { return cached; }
+    public void setCached(String cached) { this.cached = cached; }
+}
+
+enum Rating { G, PG, R }
+
+class Director {
+    private String name;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
+''')
+        Map body = new JsonSlurper().parseText(introspection.stringValue(TemplateMapping).get()) as Map
+        Map properties = body.template.mappings.properties as Map
+
+        then:
+        body.index_patterns == ['movies-*']
+        body.composed_of == ['audit']
+        body.priority == 10
+        body.version == introspection.longValue(TemplateMapping, 'version').asLong
+        body.template.mappings.dynamic == 'strict'
+        properties.title == [type: 'text', analyzer: 'english', fields: [keyword: [type: 'keyword', ignore_above: 256]]]
+        properties.genres == [type: 'keyword']
+        properties.year == [type: 'integer']
+        properties.poster == [type: 'keyword', index: false, doc_values: false]
+        properties.price == [type: 'scaled_float', scaling_factor: 100]
+        properties.released == [type: 'date']
+        properties.rating == [type: 'keyword']
+        properties.director == [type: 'object', properties: [name: [type: 'text']]]
+        properties.labels == [type: 'flattened']
+        !properties.containsKey('cached')
+    }
+
+    void "the component template defaults to no dynamic mapping"() {
+        when:
+        BeanIntrospection introspection = buildBeanIntrospection('test.Audit', '''
+package test;
+
+import io.micronaut.elasticsearch.mapping.ComponentTemplate;
+import java.time.Instant;
+
+@ComponentTemplate("audit")
+class Audit {
+    private Instant createdAt;
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
+''')
+        Map body = new JsonSlurper().parseText(introspection.stringValue(TemplateMapping).get()) as Map
+
+        then:
+        !body.containsKey('index_patterns')
+        body.template.mappings == [dynamic: 'false', properties: [createdAt: [type: 'date']]]
+    }
+
+    void "the version only changes with the mapping"() {
+        given:
+        String source = '''
+package test;
+
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+
+@IndexTemplate("movies")
+class Movie {
+    private String title;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+}
+'''
+
+        expect:
+        version(source) == version(source)
+        version(source) != version(source.replace('String', 'Long'))
+    }
+
+    void "a property whose type can't be inferred fails the compilation"() {
+        when:
+        buildBeanIntrospection('test.Movie', '''
+package test;
+
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+
+@IndexTemplate("movies")
+class Movie {
+    private Object payload;
+
+    public Object getPayload() { return payload; }
+    public void setPayload(Object payload) { this.payload = payload; }
+}
+''')
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains("The mapping of java.lang.Object can't be inferred")
+    }
+
+    void "a number of arbitrary precision must be mapped explicitly"() {
+        when:
+        buildBeanIntrospection('test.Movie', """
+package test;
+
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+
+@IndexTemplate("movies")
+class Movie {
+    private $type budget;
+
+    public $type getBudget() { return budget; }
+    public void setBudget($type budget) { this.budget = budget; }
+}
+""")
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains("The mapping of $type has an arbitrary precision that no numeric field keeps, set the type of the property budget with @Field")
+
+        where:
+        type << ['java.math.BigInteger', 'java.math.BigDecimal']
+    }
+
+    void "a parameter not supported by the type of the field fails the compilation"() {
+        when:
+        buildBeanIntrospection('test.Movie', """
+package test;
+
+import io.micronaut.elasticsearch.mapping.Field;
+import io.micronaut.elasticsearch.mapping.FieldType;
+import io.micronaut.elasticsearch.mapping.IndexTemplate;
+
+@IndexTemplate("movies")
+class Movie {
+    @Field($field)
+    private $type value;
+
+    public $type getValue() { return value; }
+    public void setValue($type value) { this.value = value; }
+}
+
+class Actor {
+    private String name;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
+""")
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains("The property value can't be mapped as a $message")
+
+        where:
+        field                                            | type                    | message
+        'docValues = false'                              | 'String'                | 'text without doc values'
+        'type = FieldType.NESTED, docValues = false'     | 'java.util.List<Actor>' | 'nested without doc values'
+        'ignoreAbove = 100'                              | 'String'                | 'text with ignoreAbove'
+        'type = FieldType.LONG, ignoreAbove = 100'       | 'Long'                  | 'long with ignoreAbove'
+        'type = FieldType.KEYWORD, analyzer = "english"' | 'String'                | 'keyword with an analyzer'
+        'format = "yyyy"'                                | 'String'                | 'text with a format'
+        'type = FieldType.SCALED_FLOAT'                  | 'java.math.BigDecimal'  | 'scaled_float without a positive scalingFactor'
+        'type = FieldType.DOUBLE, scalingFactor = 100'   | 'Double'                | 'double with a scalingFactor'
+    }
+
+    private long version(String source) {
+        buildBeanIntrospection('test.Movie', source).longValue(TemplateMapping, 'version').asLong
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.processor.repository
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.elasticsearch.repository.RepositoryEntity
+import io.micronaut.elasticsearch.repository.RepositoryMethod
+import io.micronaut.elasticsearch.repository.RepositoryMethod.Operation
+import io.micronaut.elasticsearch.repository.RepositoryMethod.QueryType
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.inject.ExecutableMethod
+
+class ElasticsearchRepositoryVisitorSpec extends AbstractTypeElementSpec {
+
+    private static final String MOVIE = '''
+class Movie {
+    private String title;
+    private String genre;
+    private int year;
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getGenre() { return genre; }
+    public void setGenre(String genre) { this.genre = genre; }
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+}
+'''
+
+    void "the repository methods are parsed at compilation"() {
+        when:
+        BeanDefinition definition = buildBeanDefinition('test.$MovieRepository$Intercepted', '''
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+import java.util.Optional;
+
+@ElasticsearchRepository("${elasticsearch.indexes.movies:movies}")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    List<Movie> findTop10ByTitle(String title);
+
+    Movie getByTitle(String title);
+
+    Optional<Movie> findFirstByTitleAndGenreEquals(String title, String genre);
+
+    List<Movie> findTop5ByGenreIs(List<String> genres);
+
+    List<Movie> searchByTitleMatches(List<String> titles);
+
+    long countByYearEquals(int year);
+
+    boolean existsByGenreEquals(String genre);
+
+    void saveMovies(List<Movie> movies);
+
+    List<Movie> findById(Iterable<String> ids);
+}
+''' + MOVIE)
+
+        then:
+        definition.classValue(RepositoryEntity).get().name == 'test.Movie'
+        operation(definition, 'findTop10ByTitle') == Operation.FIND
+        fields(definition, 'findTop10ByTitle') == ['title']
+        queries(definition, 'findTop10ByTitle') == [QueryType.MATCH]
+        size(definition, 'findTop10ByTitle') == 10
+        size(definition, 'getByTitle') == -1
+
+        operation(definition, 'findFirstByTitleAndGenreEquals') == Operation.FIND
+        fields(definition, 'findFirstByTitleAndGenreEquals') == ['title', 'genre']
+        queries(definition, 'findFirstByTitleAndGenreEquals') == [QueryType.MATCH, QueryType.TERM]
+        size(definition, 'findFirstByTitleAndGenreEquals') == 1
+
+        fields(definition, 'findTop5ByGenreIs') == ['genre']
+        queries(definition, 'findTop5ByGenreIs') == [QueryType.TERMS]
+        size(definition, 'findTop5ByGenreIs') == 5
+
+        queries(definition, 'searchByTitleMatches') == [QueryType.MATCH_ANY]
+
+        operation(definition, 'countByYearEquals') == Operation.COUNT
+        fields(definition, 'countByYearEquals') == ['year']
+        queries(definition, 'countByYearEquals') == [QueryType.TERM]
+
+        operation(definition, 'existsByGenreEquals') == Operation.EXISTS
+
+        and: "the collection parameters use the batch operations"
+        operation(definition, 'saveMovies') == Operation.SAVE_ALL
+        definition.findMethod('findById', Iterable).get().enumValue(RepositoryMethod, Operation).get() == Operation.FIND_ALL_BY_ID
+        definition.findMethod('findById', String).get().enumValue(RepositoryMethod, Operation).get() == Operation.FIND_BY_ID
+
+        and: "the inherited methods keep their declared operation"
+        operation(definition, 'save') == Operation.SAVE
+        operation(definition, 'saveAll') == Operation.SAVE_ALL
+        operation(definition, 'findAllById') == Operation.FIND_ALL_BY_ID
+        operation(definition, 'deleteAllById') == Operation.DELETE_ALL_BY_ID
+        operation(definition, 'count') == Operation.COUNT
+    }
+
+    void "a query on an unknown property fails the compilation"() {
+        when:
+        buildBeanDefinition('test.$MovieRepository$Intercepted', '''
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+
+@ElasticsearchRepository("movies")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    List<Movie> findByDirector(String director);
+}
+''' + MOVIE)
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains('queries director which is not a property of test.Movie')
+    }
+
+    void "the properties are queried with their JSON names"() {
+        when:
+        BeanDefinition definition = buildBeanDefinition('test.$ReviewRepository$Intercepted', '''
+package test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+
+@ElasticsearchRepository("reviews")
+interface ReviewRepository extends ElasticsearchCrudRepository<Review> {
+
+    List<Review> findTop10ByMovieTitleEquals(String movieTitle);
+}
+
+class Review {
+    @JsonProperty("movie_title")
+    private String movieTitle;
+
+    public String getMovieTitle() { return movieTitle; }
+    public void setMovieTitle(String movieTitle) { this.movieTitle = movieTitle; }
+}
+''')
+
+        then:
+        fields(definition, 'findTop10ByMovieTitleEquals') == ['movie_title']
+        queries(definition, 'findTop10ByMovieTitleEquals') == [QueryType.TERM]
+    }
+
+    void "a query on an ignored property fails the compilation"() {
+        when:
+        buildBeanDefinition('test.$ReviewRepository$Intercepted', '''
+package test;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.Optional;
+
+@ElasticsearchRepository("reviews")
+interface ReviewRepository extends ElasticsearchCrudRepository<Review> {
+
+    Optional<Review> findFirstByScore(int score);
+}
+
+class Review {
+    @JsonIgnore
+    private int score;
+
+    public int getScore() { return score; }
+    public void setScore(int score) { this.score = score; }
+}
+''')
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains('queries score which is not a property of test.Review')
+    }
+
+    void "a search returning an unbounded list fails the compilation"() {
+        when:
+        buildBeanDefinition('test.$MovieRepository$Intercepted', '''
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+
+@ElasticsearchRepository("movies")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    List<Movie> findByTitle(String title);
+}
+''' + MOVIE)
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains('findByTitle returns a collection and must bound it with First or Top<n>, e.g. findTop100ByTitle')
+    }
+
+    void "a collection of the wrong element type fails the compilation: #method"() {
+        when:
+        buildBeanDefinition('test.$MovieRepository$Intercepted', """
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+
+@ElasticsearchRepository("movies")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    $method;
+}
+""" + MOVIE)
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains(message)
+
+        where:
+        method                                       | message
+        'void deleteById(List<Long> ids)'            | 'DELETE_ALL_BY_ID repository method deleteById'
+        'List<Movie> findById(List<Integer> ids)'    | 'FIND_ALL_BY_ID repository method findById'
+        'List<String> findAllById(List<String> ids)' | 'FIND_ALL_BY_ID repository method findAllById'
+        'void saveTitles(List<String> titles)'       | 'SAVE_ALL repository method saveTitles'
+        'List<String> findTop5ByGenre(String genre)' | "can't return java.util.List"
+    }
+
+    void "a method without parameter for each property fails the compilation"() {
+        when:
+        buildBeanDefinition('test.$MovieRepository$Intercepted', '''
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import java.util.List;
+
+@ElasticsearchRepository("movies")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    List<Movie> findByTitleAndGenre(String title);
+}
+''' + MOVIE)
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains('expects 2 parameters')
+    }
+
+    void "an unsupported method name fails the compilation"() {
+        when:
+        buildBeanDefinition('test.$MovieRepository$Intercepted', '''
+package test;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+
+@ElasticsearchRepository("movies")
+interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    void reindex();
+}
+''' + MOVIE)
+
+        then:
+        RuntimeException e = thrown()
+        e.message.contains('Unsupported repository method reindex')
+    }
+
+    private static ExecutableMethod<?, ?> method(BeanDefinition definition, String name) {
+        definition.executableMethods.find { it.methodName == name }
+    }
+
+    private static Operation operation(BeanDefinition definition, String name) {
+        method(definition, name).enumValue(RepositoryMethod, Operation).get()
+    }
+
+    private static List<String> fields(BeanDefinition definition, String name) {
+        method(definition, name).stringValues(RepositoryMethod, 'fields') as List
+    }
+
+    private static List<QueryType> queries(BeanDefinition definition, String name) {
+        method(definition, name).enumValues(RepositoryMethod, 'queries', QueryType) as List
+    }
+
+    private static int size(BeanDefinition definition, String name) {
+        method(definition, name).intValue(RepositoryMethod, 'size').orElse(-1)
+    }
+}
@@ -13,15 +13,30 @@ dependencies {
     implementation(libs.managed.elasticsearch.rest.client) {
         exclude(group="commons-logging", module = "commons-logging")
     }
+    implementation(libs.managed.elasticsearch.rest.client.sniffer) {
+        exclude(group="commons-logging", module = "commons-logging")
+    }
     runtimeOnly(mnLogging.slf4j.jcl.over.slf4j)
     api(mn.micronaut.http)
 
     implementation(mn.micronaut.jackson.databind)
 
+    compileOnly(mnMicrometer.micronaut.micrometer.core)
+    compileOnly(libs.jackson.module.blackbird)
+    compileOnly(libs.caffeine)
+    compileOnly(mnSerde.micronaut.serde.jackson)
+
     testImplementation(mnTestResources.testcontainers.elasticsearch)
     testImplementation(mn.groovy.json)
     testImplementation(mnSecurity.micronaut.security)
     testImplementation(mn.reactor)
+    testImplementation(mn.micronaut.http.client)
+    testImplementation(mn.micronaut.http.server.netty)
+    testImplementation(mnMicrometer.micronaut.micrometer.core)
+    testImplementation(libs.jackson.module.blackbird)
+    testImplementation(libs.caffeine)
+    testImplementation(mnSerde.micronaut.serde.jackson)
+    testCompileOnly(mnSerde.micronaut.serde.processor)
 }
 
 
@@ -17,21 +17,53 @@ package io.micronaut.elasticsearch;
 
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.elasticsearch.bulk.BulkIngesterConfigurationProperties;
+import io.micronaut.elasticsearch.bulk.BulkRequestTracker;
+import io.micronaut.elasticsearch.cache.CacheInvalidatingTransport;
+import io.micronaut.elasticsearch.cache.CachingElasticsearchAsyncClient;
+import io.micronaut.elasticsearch.cache.CachingElasticsearchClient;
+import io.micronaut.elasticsearch.cache.SearchResponseCache;
+import io.micronaut.elasticsearch.coalescing.CoalescingConfiguration;
+import io.micronaut.elasticsearch.coalescing.CoalescingElasticsearchAsyncClient;
+import io.micronaut.elasticsearch.deadline.DeadlineConfigurationProperties;
+import io.micronaut.elasticsearch.deadline.DeadlineTransport;
+import io.micronaut.elasticsearch.jackson.ElasticsearchJacksonConfiguration;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimiter;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimitingTransport;
+import io.micronaut.elasticsearch.retry.RetryConfigurationProperties;
+import io.micronaut.elasticsearch.retry.RetryingTransport;
+import io.micronaut.elasticsearch.selector.NodeStatisticsAware;
+import io.micronaut.elasticsearch.serde.SerdeJsonpMapper;
+import io.micronaut.elasticsearch.transport.CompressingRestClientTransport;
+import io.micronaut.elasticsearch.transport.RequestCompressionListener;
+import io.micronaut.elasticsearch.transport.VirtualThreadFriendlyTransport;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
 import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * The default Factory for creating Elasticsearch client.
  *
@@ -44,47 +76,152 @@ import co.elastic.clients.transport.rest_client.RestClientTransport;
 public class DefaultElasticsearchClientFactory {
 
     /**
+     * The low-level client is a singleton that owns the IO reactor and the connection pool shared by all the
+     * Elasticsearch clients. The beans of the default cluster are primary over the ones of the named clusters.
+     *
      * @param elasticsearchConfiguration The {@link DefaultElasticsearchConfigurationProperties} object
+     * @param failureListeners The listeners notified when a node fails
      * @return The Elasticsearch Rest Client
      */
+    @Primary
+    @Singleton
     @Bean(preDestroy = "close")
-    RestClient restClient(DefaultElasticsearchConfigurationProperties elasticsearchConfiguration) {
-        return restClientBuilder(elasticsearchConfiguration).build();
+    RestClient restClient(DefaultElasticsearchConfigurationProperties elasticsearchConfiguration,
+                          List<RestClient.FailureListener> failureListeners) {
+        RestClientBuilder builder = restClientBuilder(elasticsearchConfiguration);
+        if (failureListeners.size() == 1) {
+            builder.setFailureListener(failureListeners.get(0));
+        } else if (!failureListeners.isEmpty()) {
+            builder.setFailureListener(new RestClient.FailureListener() {
+                @Override
+                public void onFailure(Node node) {
+                    for (RestClient.FailureListener failureListener : failureListeners) {
+                        failureListener.onFailure(node);
+                    }
+                }
+            });
+        }
+        return builder.build();
     }
 
     /**
      * @param transport The {@link ElasticsearchTransport} object.
+     * @param cache The {@link SearchResponseCache}, if enabled.
      * @return The ElasticsearchClient.
      * @since 4.2.0
      */
+    @Primary
     @Singleton
-    ElasticsearchClient elasticsearchClient(ElasticsearchTransport transport) {
-        return new ElasticsearchClient(transport);
+    ElasticsearchClient elasticsearchClient(ElasticsearchTransport transport, @Nullable SearchResponseCache cache) {
+        return cache != null ? new CachingElasticsearchClient(transport, cache) : new ElasticsearchClient(transport);
     }
 
     /**
      * @param transport The {@link ElasticsearchTransport} object.
+     * @param cache The {@link SearchResponseCache}, if enabled.
+     * @param coalescing The {@link CoalescingConfiguration}.
      * @return The ElasticsearchAsyncClient.
      * @since 4.2.0
      */
+    @Primary
     @Singleton
-    ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport transport) {
+    ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport transport, @Nullable SearchResponseCache cache,
+                                                      CoalescingConfiguration coalescing) {
+        if (cache != null) {
+            return new CachingElasticsearchAsyncClient(transport, cache, coalescing);
+        }
+        if (coalescing.isEnabled()) {
+            return new CoalescingElasticsearchAsyncClient(transport, coalescing);
+        }
         return new ElasticsearchAsyncClient(transport);
     }
 
     /**
-     * @param elasticsearchConfiguration The {@link DefaultElasticsearchConfigurationProperties} object.
-     * @param objectMapper The {@link ObjectMapper} object.
+     * The {@link BulkIngester} groups the added operations into bulk requests. Pending operations are flushed when
+     * the bean is destroyed.
+     *
+     * @param client The {@link ElasticsearchAsyncClient} object.
+     * @param configuration The {@link BulkIngesterConfigurationProperties} object.
+     * @param tracker The {@link BulkRequestTracker} listening to the bulk requests.
+     * @return The {@link BulkIngester}.
+     * @since 5.7.0
+     */
+    @Singleton
+    @Bean(preDestroy = "close")
+    BulkIngester<Void> bulkIngester(ElasticsearchAsyncClient client,
+                                    BulkIngesterConfigurationProperties configuration,
+                                    BulkRequestTracker tracker) {
+        return BulkIngester.of(builder -> {
+            builder.client(client)
+                .maxOperations(configuration.getMaxActions())
+                .maxSize(configuration.getMaxBytes())
+                .maxConcurrentRequests(configuration.getMaxConcurrentRequests())
+                .listener(tracker);
+            Duration flushInterval = configuration.getFlushInterval();
+            if (flushInterval != null && !flushInterval.isZero() && !flushInterval.isNegative()) {
+                builder.flushInterval(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return builder;
+        });
+    }
+
+    /**
+     * Creates the transport on top of the shared {@link RestClient} bean so that the low-level client,
+     * the transport and the API clients all use a single IO reactor and connection pool. The
+     * {@link RestClient} bean owns the connection pool and closes it on shutdown.
+     *
+     * When request compression is enabled, the bodies above the configured threshold are sent gzip encoded. When the
+     * limiter is enabled, the requests above its adaptive limit fail fast instead of being queued. When retries are
+     * enabled, the requests rejected with a retryable status are retried with backoff, each attempt going through the
+     * limiter. The requests with a {@link io.micronaut.elasticsearch.deadline.Deadline} are bounded by it, retries
+     * included. When the search response cache is enabled, the writes invalidate the cached responses of their indices.
+     *
+     * @param restClient The shared {@link RestClient}.
+     * @param jsonpMapper The {@link JsonpMapper} mapping the documents.
+     * @param elasticsearchConfiguration The {@link DefaultElasticsearchConfigurationProperties} object
+     * @param compressionListeners The listeners notified of the compressed request bodies
+     * @param limiter The {@link ConcurrencyLimiter}, if enabled
+     * @param retry The retry configuration
+     * @param deadline The deadline configuration
+     * @param cache The {@link SearchResponseCache}, if enabled
      * @return The {@link ElasticsearchTransport}.
      * @since 4.2.0
      */
+    @Primary
     @Singleton
-    @Bean(preDestroy = "close")
-    ElasticsearchTransport elasticsearchTransport(DefaultElasticsearchConfigurationProperties elasticsearchConfiguration, ObjectMapper objectMapper) {
-        RestClient restClient = restClientBuilder(elasticsearchConfiguration).build();
+    ElasticsearchTransport elasticsearchTransport(RestClient restClient,
+                                                  JsonpMapper jsonpMapper,
+                                                  DefaultElasticsearchConfigurationProperties elasticsearchConfiguration,
+                                                  List<RequestCompressionListener> compressionListeners,
+                                                  @Nullable ConcurrencyLimiter limiter,
+                                                  RetryConfigurationProperties retry,
+                                                  DeadlineConfigurationProperties deadline,
+                                                  @Nullable SearchResponseCache cache) {
+        ElasticsearchTransport transport = newTransport(restClient, jsonpMapper, elasticsearchConfiguration.getHttp(),
+            elasticsearchConfiguration.getCompression(), compressionListeners);
+        if (limiter != null) {
+            transport = new ConcurrencyLimitingTransport(transport, limiter);
+        }
+        transport = retrying(transport, retry, elasticsearchConfiguration);
+        transport = bounded(transport, deadline, elasticsearchConfiguration);
+        return cache != null ? new CacheInvalidatingTransport(transport, cache) : transport;
+    }
 
-        ElasticsearchTransport transport = new RestClientTransport(restClient, new JacksonJsonpMapper(objectMapper));
-        return transport;
+    /**
+     * The documents are mapped with the {@code elasticsearch} named {@link ObjectMapper} when it exists, and
+     * with the application-wide one otherwise. Replaced by the Micronaut Serialization mapper when
+     * {@code elasticsearch.serde.enabled} is set.
+     *
+     * @param elasticsearchObjectMapper The {@link ObjectMapper} dedicated to Elasticsearch, if enabled.
+     * @param objectMapper The application-wide {@link ObjectMapper}.
+     * @return The {@link JsonpMapper}.
+     * @since 5.7.0
+     */
+    @Singleton
+    @Requires(property = SerdeJsonpMapper.ENABLED_PROPERTY, notEquals = StringUtils.TRUE)
+    JsonpMapper jsonpMapper(@Nullable @Named(ElasticsearchJacksonConfiguration.NAME) ObjectMapper elasticsearchObjectMapper,
+                            ObjectMapper objectMapper) {
+        return new JacksonJsonpMapper(elasticsearchObjectMapper != null ? elasticsearchObjectMapper : objectMapper);
     }
 
     /**
@@ -92,13 +229,27 @@ public class DefaultElasticsearchClientFactory {
      * @return The {@link RestClientBuilder}
      */
     protected RestClientBuilder restClientBuilder(DefaultElasticsearchConfigurationProperties elasticsearchConfiguration) {
+        return newRestClientBuilder(elasticsearchConfiguration);
+    }
+
+    /**
+     * Creates the builder of a low-level client, for the default cluster as well as for the named ones.
+     *
+     * @param elasticsearchConfiguration The configuration of the cluster
+     * @return The {@link RestClientBuilder}
+     */
+    static RestClientBuilder newRestClientBuilder(DefaultElasticsearchConfiguration elasticsearchConfiguration) {
+        NodeSelector nodeSelector = elasticsearchConfiguration.getNodeSelector();
         RestClientBuilder builder = RestClient.builder(elasticsearchConfiguration.getHttpHosts())
             .setRequestConfigCallback(requestConfigBuilder -> {
-                requestConfigBuilder = elasticsearchConfiguration.requestConfigBuilder;
+                requestConfigBuilder = elasticsearchConfiguration.getRequestConfigBuilder();
                 return requestConfigBuilder;
             })
         .setHttpClientConfigCallback(httpClientBuilder -> {
-            httpClientBuilder = elasticsearchConfiguration.httpAsyncClientBuilder;
+            httpClientBuilder = elasticsearchConfiguration.getHttpAsyncClientBuilder();
+            if (nodeSelector instanceof NodeStatisticsAware aware && aware.getNodeStatistics() != null) {
+                aware.getNodeStatistics().register(httpClientBuilder);
+            }
             return httpClientBuilder;
         });
 
@@ -106,7 +257,68 @@ public class DefaultElasticsearchClientFactory {
             builder.setDefaultHeaders(elasticsearchConfiguration.getDefaultHeaders());
         }
 
+        if (nodeSelector != null) {
+            builder.setNodeSelector(nodeSelector);
+        }
+
         return builder;
     }
 
+    /**
+     * Creates the transport of a cluster, compressing the request bodies when enabled. When virtual threads are
+     * enabled, the blocking requests wait on the asynchronous path.
+     *
+     * @param restClient The low-level client of the cluster
+     * @param jsonpMapper The {@link JsonpMapper} mapping the documents
+     * @param http The connection configuration of the cluster
+     * @param compression The compression configuration of the cluster
+     * @param compressionListeners The listeners notified of the compressed request bodies
+     * @return The {@link ElasticsearchTransport}
+     */
+    static ElasticsearchTransport newTransport(RestClient restClient,
+                                               JsonpMapper jsonpMapper,
+                                               @Nullable ElasticsearchHttpConfiguration http,
+                                               @Nullable ElasticsearchCompressionConfiguration compression,
+                                               List<RequestCompressionListener> compressionListeners) {
+        ElasticsearchTransport transport;
+        if (compression != null && compression.isRequest()) {
+            transport = new CompressingRestClientTransport(restClient, jsonpMapper, compression.getThreshold(), compressionListeners);
+        } else {
+            transport = new RestClientTransport(restClient, jsonpMapper);
+        }
+        return http != null && http.isVirtualThreads() ? new VirtualThreadFriendlyTransport(transport) : transport;
+    }
+
+    /**
+     * Retries the rejected requests when enabled, for at most {@code maxRetryTimeoutMillis} when it is set.
+     *
+     * @param transport The transport of the cluster
+     * @param retry The retry configuration
+     * @param elasticsearchConfiguration The configuration of the cluster
+     * @return The {@link ElasticsearchTransport}
+     */
+    static ElasticsearchTransport retrying(ElasticsearchTransport transport,
+                                           RetryConfigurationProperties retry,
+                                           DefaultElasticsearchConfiguration elasticsearchConfiguration) {
+        if (retry.isEnabled()) {
+            return new RetryingTransport(transport, retry, elasticsearchConfiguration.getMaxRetryTimeoutMillis());
+        }
+        return transport;
+    }
+
+    /**
+     * Bounds the requests by their {@link io.micronaut.elasticsearch.deadline.Deadline}, when they have one.
+     *
+     * @param transport The transport of the cluster
+     * @param deadline The deadline configuration
+     * @param elasticsearchConfiguration The configuration of the cluster
+     * @return The {@link ElasticsearchTransport}
+     */
+    static ElasticsearchTransport bounded(ElasticsearchTransport transport,
+                                          DeadlineConfigurationProperties deadline,
+                                          DefaultElasticsearchConfiguration elasticsearchConfiguration) {
+        return new DeadlineTransport(transport, elasticsearchConfiguration.getRequestConfigBuilder().build(),
+            deadline.getServerTimeoutMargin());
+    }
+
 }
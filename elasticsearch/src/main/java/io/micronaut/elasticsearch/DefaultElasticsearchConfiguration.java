@@ -45,8 +45,9 @@ public interface DefaultElasticsearchConfiguration {
     Header[] getDefaultHeaders();
 
     /**
-     * The timeout that should be honoured in case multiple attempts are made for the same request.
-     * The default value is 30 seconds.
+     * The timeout that should be honoured in case multiple attempts are made for the same request. No retry is
+     * attempted once it would be exceeded. Only used when the retries under {@code elasticsearch.retry} are enabled.
+     * The default value (0) doesn't limit the retries.
      *
      * @return The maximum retry timeout in millis.
      */
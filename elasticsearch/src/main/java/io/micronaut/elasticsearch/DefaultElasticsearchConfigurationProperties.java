@@ -17,7 +17,9 @@ package io.micronaut.elasticsearch;
 
 import io.micronaut.context.annotation.ConfigurationBuilder;
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import jakarta.annotation.PostConstruct;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.client.config.RequestConfig;
@@ -35,6 +37,7 @@ import java.util.Collections;
  * @author Puneet Behl
  * @since 1.0.0
  */
+@Primary
 @Requires(classes = RestClientBuilder.class)
 @ConfigurationProperties(ElasticsearchSettings.PREFIX)
 public class DefaultElasticsearchConfigurationProperties implements DefaultElasticsearchConfiguration {
@@ -53,6 +56,8 @@ public class DefaultElasticsearchConfigurationProperties implements DefaultElast
     private NodeSelector nodeSelector;
     private HttpHost[] httpHosts = Collections.singletonList(ElasticsearchSettings.DEFAULT_HOST).toArray(new HttpHost[1]);
     private Header[] defaultHeaders;
+    private HttpConfigurationProperties http = new HttpConfigurationProperties();
+    private CompressionConfigurationProperties compression = new CompressionConfigurationProperties();
 
     @Override
     public HttpHost[] getHttpHosts() {
@@ -84,6 +89,22 @@ public class DefaultElasticsearchConfigurationProperties implements DefaultElast
         return httpAsyncClientBuilder;
     }
 
+    /**
+     * @return The connection pool and IO reactor configuration.
+     * @since 5.7.0
+     */
+    public HttpConfigurationProperties getHttp() {
+        return http;
+    }
+
+    /**
+     * @return The compression configurations.
+     * @since 5.7.0
+     */
+    public CompressionConfigurationProperties getCompression() {
+        return compression;
+    }
+
     /**
      * @param httpHosts One or more hosts that client will connect to.
      */
@@ -99,7 +120,7 @@ public class DefaultElasticsearchConfigurationProperties implements DefaultElast
     }
 
     /**
-     * @param maxRetryTimeoutMillis The maximum retry timeout in millis.
+     * @param maxRetryTimeoutMillis The maximum time spent retrying a request in millis, or 0 for no limit.
      */
     public void setMaxRetryTimeoutMillis(int maxRetryTimeoutMillis) {
         this.maxRetryTimeoutMillis = maxRetryTimeoutMillis;
@@ -119,4 +140,54 @@ public class DefaultElasticsearchConfigurationProperties implements DefaultElast
     public void setHttpAsyncClientBuilder(HttpAsyncClientBuilder httpAsyncClientBuilder) {
         this.httpAsyncClientBuilder = httpAsyncClientBuilder;
     }
+
+    /**
+     * @param http The connection pool and IO reactor configuration.
+     * @since 5.7.0
+     */
+    @Inject
+    public void setHttp(HttpConfigurationProperties http) {
+        this.http = http;
+    }
+
+    /**
+     * @param compression The compression configurations
+     * @since 5.7.0
+     */
+    @Inject
+    public void setCompression(CompressionConfigurationProperties compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Applies the keep-alive and compression configurations to the {@link HttpAsyncClientBuilder}, and the connection
+     * pool limits when it was replaced.
+     */
+    @PostConstruct
+    void configureHttpAsyncClientBuilder() {
+        if (httpAsyncClientBuilder != null && http != null) {
+            http.configure(httpAsyncClientBuilder);
+        }
+        if (httpAsyncClientBuilder != null && compression != null) {
+            compression.configure(httpAsyncClientBuilder);
+        }
+    }
+
+    /**
+     * Compression configurations of the default cluster.
+     *
+     * @since 5.7.0
+     */
+    @ConfigurationProperties("compression")
+    public static class CompressionConfigurationProperties extends ElasticsearchCompressionConfiguration {
+    }
+
+    /**
+     * Connection pool and IO reactor configurations of the default cluster.
+     *
+     * @since 5.7.0
+     */
+    @ConfigurationProperties("http")
+    public static class HttpConfigurationProperties extends ElasticsearchHttpConfiguration {
+    }
 }
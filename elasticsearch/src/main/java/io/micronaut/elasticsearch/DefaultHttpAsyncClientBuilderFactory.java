@@ -16,15 +16,33 @@
 package io.micronaut.elasticsearch;
 
 import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.ssl.ElasticsearchSslConfigurer;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import jakarta.inject.Singleton;
 
 /**
  * The default factory used to create {@link HttpAsyncClientBuilder} for HTTP client configurations.
  *
+ * <p>Each builder gets the connection manager of its cluster, so that the pool can be observed. The HTTP client
+ * ignores the connection pool limits, the IO reactor configuration and the TLS settings of a builder with a
+ * connection manager, hence they are applied to the connection manager instead.</p>
+ *
  * @author Puneet Behl
  * @since 1.0.0
  */
@@ -32,15 +50,97 @@ import jakarta.inject.Singleton;
 @Factory
 public class DefaultHttpAsyncClientBuilderFactory {
 
+    /**
+     * The connection pool of the default cluster. Its limits default to the ones of the low-level {@link RestClient}
+     * and, as well as the IO reactor configuration, can be changed under {@code elasticsearch.http}. The HTTPS
+     * connections are configured under {@code elasticsearch.ssl} when enabled.
+     *
+     * @param http          The connection pool and IO reactor configuration of the default cluster
+     * @param sslConfigurer The TLS configuration of the default cluster, if enabled
+     * @return The connection pool of the default cluster
+     * @since 5.7.0
+     */
+    @Primary
+    @Singleton
+    @Bean(preDestroy = "close")
+    protected ElasticsearchConnectionPool connectionPool(DefaultElasticsearchConfigurationProperties.HttpConfigurationProperties http,
+                                                         @Nullable ElasticsearchSslConfigurer sslConfigurer) {
+        SSLIOSessionStrategy sslStrategy = sslConfigurer != null ? sslConfigurer.sessionStrategy() : SSLIOSessionStrategy.getDefaultStrategy();
+        return new ElasticsearchConnectionPool(ElasticsearchConnectionPool.DEFAULT_CLUSTER, connectionManager(http, sslStrategy));
+    }
+
+    /**
+     * The connection pool of a named cluster, configured under {@code elasticsearch.clusters.<name>.http}. Its HTTPS
+     * connections trust the default trust store of the JVM.
+     *
+     * @param cluster The configuration of the named cluster
+     * @return The connection pool of the cluster
+     * @since 5.7.0
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    @Bean(preDestroy = "close")
+    protected ElasticsearchConnectionPool clusterConnectionPool(ElasticsearchClusterConfigurationProperties cluster) {
+        return new ElasticsearchConnectionPool(cluster.getName(), connectionManager(cluster.getHttp(), SSLIOSessionStrategy.getDefaultStrategy()));
+    }
+
     /**
      * The http client configuration (e.g. encrypted communication over ssl, or anything that
      * the {@link HttpAsyncClientBuilder} allows to set).
      *
+     * The builder of the default cluster is primary over the ones of the named clusters.
+     *
+     * @param connectionPool The connection pool of the default cluster
      * @return The {@link HttpAsyncClientBuilder} bean with default configurations.
      */
     @Bean
+    @Primary
     @Singleton
-    protected HttpAsyncClientBuilder httpAsyncClientBuilder() {
-        return HttpAsyncClientBuilder.create();
+    protected HttpAsyncClientBuilder httpAsyncClientBuilder(ElasticsearchConnectionPool connectionPool) {
+        return HttpAsyncClientBuilder.create()
+            .setConnectionManager(connectionPool.getConnectionManager());
+    }
+
+    /**
+     * The builder of a named cluster, qualified with its name, so that the listeners of the
+     * {@link HttpAsyncClientBuilder} beans apply to it and it can be replaced per cluster. The keep-alive and
+     * compression settings of the cluster are applied to it.
+     *
+     * @param cluster        The configuration of the named cluster
+     * @param connectionPool The connection pool of the named cluster
+     * @return The {@link HttpAsyncClientBuilder} bean of the cluster
+     * @since 5.7.0
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    protected HttpAsyncClientBuilder clusterHttpAsyncClientBuilder(ElasticsearchClusterConfigurationProperties cluster,
+                                                                   @Parameter ElasticsearchConnectionPool connectionPool) {
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create()
+            .setConnectionManager(connectionPool.getConnectionManager());
+        if (cluster.getHttp() != null) {
+            cluster.getHttp().configure(builder);
+        }
+        if (cluster.getCompression() != null) {
+            cluster.getCompression().configure(builder);
+        }
+        return builder;
+    }
+
+    private static PoolingNHttpClientConnectionManager connectionManager(@Nullable ElasticsearchHttpConfiguration http,
+                                                                         SchemeIOSessionStrategy sslStrategy) {
+        Integer maxConnTotal = http != null ? http.getMaxConnTotal() : null;
+        Integer maxConnPerRoute = http != null ? http.getMaxConnPerRoute() : null;
+        try {
+            PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(http != null ? http.ioReactorConfig() : null),
+                RegistryBuilder.<SchemeIOSessionStrategy>create()
+                    .register("http", NoopIOSessionStrategy.INSTANCE)
+                    .register("https", sslStrategy)
+                    .build()
+            );
+            connectionManager.setMaxTotal(maxConnTotal != null ? maxConnTotal : RestClientBuilder.DEFAULT_MAX_CONN_TOTAL);
+            connectionManager.setDefaultMaxPerRoute(maxConnPerRoute != null ? maxConnPerRoute : RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE);
+            return connectionManager;
+        } catch (IOReactorException e) {
+            throw new ConfigurationException("Failed to create the IO reactor of the Elasticsearch client: " + e.getMessage(), e);
+        }
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.ConfigurationBuilder;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.inject.Inject;
+import org.apache.http.Header;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RestClientBuilder;
+
+/**
+ * The configuration of a named Elasticsearch cluster, declared under {@code elasticsearch.clusters.<name>}. Each
+ * named cluster gets its own {@link HttpAsyncClientBuilder} bean, low-level client, connection pool and API clients,
+ * qualified with the cluster name.
+ *
+ * @since 5.7.0
+ */
+@Requires(classes = RestClientBuilder.class)
+@EachProperty(ElasticsearchClusterConfigurationProperties.PREFIX)
+public class ElasticsearchClusterConfigurationProperties implements DefaultElasticsearchConfiguration {
+
+    /**
+     * The prefix of the named clusters.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".clusters";
+
+    /**
+     * The default request configurations.
+     */
+    @ConfigurationBuilder(configurationPrefix = "request.default")
+    @SuppressWarnings("WeakerAccess")
+    protected RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+
+    private final String name;
+    private final BeanLocator beanLocator;
+    private int maxRetryTimeoutMillis;
+    private NodeSelector nodeSelector;
+    private HttpHost[] httpHosts = new HttpHost[] {ElasticsearchSettings.DEFAULT_HOST};
+    private Header[] defaultHeaders;
+    private HttpConfigurationProperties http = new HttpConfigurationProperties();
+    private CompressionConfigurationProperties compression = new CompressionConfigurationProperties();
+
+    /**
+     * @param name        The name of the cluster
+     * @param beanLocator The locator of the {@link HttpAsyncClientBuilder} bean of the cluster
+     */
+    public ElasticsearchClusterConfigurationProperties(@Parameter String name, BeanLocator beanLocator) {
+        this.name = name;
+        this.beanLocator = beanLocator;
+    }
+
+    /**
+     * @return The name of the cluster
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public HttpHost[] getHttpHosts() {
+        return httpHosts;
+    }
+
+    @Override
+    public Header[] getDefaultHeaders() {
+        return defaultHeaders;
+    }
+
+    @Override
+    public int getMaxRetryTimeoutMillis() {
+        return maxRetryTimeoutMillis;
+    }
+
+    @Override
+    public NodeSelector getNodeSelector() {
+        return nodeSelector;
+    }
+
+    @Override
+    public RequestConfig.Builder getRequestConfigBuilder() {
+        return requestConfigBuilder;
+    }
+
+    /**
+     * Each cluster has its own {@link HttpAsyncClientBuilder} bean, qualified with its name, hence its own IO
+     * reactor and connection pool.
+     *
+     * @return The {@link HttpAsyncClientBuilder} of the cluster.
+     */
+    @Override
+    public HttpAsyncClientBuilder getHttpAsyncClientBuilder() {
+        return beanLocator.getBean(HttpAsyncClientBuilder.class, Qualifiers.byName(name));
+    }
+
+    /**
+     * @return The connection pool and IO reactor configuration.
+     */
+    public HttpConfigurationProperties getHttp() {
+        return http;
+    }
+
+    /**
+     * @return The compression configurations.
+     */
+    public CompressionConfigurationProperties getCompression() {
+        return compression;
+    }
+
+    /**
+     * @param httpHosts One or more hosts that client will connect to.
+     */
+    public void setHttpHosts(HttpHost[] httpHosts) {
+        this.httpHosts = httpHosts;
+    }
+
+    /**
+     * @param defaultHeaders The defaults {@link Header} to sent with each request.
+     */
+    public void setDefaultHeaders(Header[] defaultHeaders) {
+        this.defaultHeaders = defaultHeaders;
+    }
+
+    /**
+     * @param maxRetryTimeoutMillis The maximum time spent retrying a request in millis, or 0 for no limit.
+     */
+    public void setMaxRetryTimeoutMillis(int maxRetryTimeoutMillis) {
+        this.maxRetryTimeoutMillis = maxRetryTimeoutMillis;
+    }
+
+    /**
+     * @param nodeSelector The {@link NodeSelector} to be used, in case of multiple nodes.
+     */
+    public void setNodeSelector(NodeSelector nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    /**
+     * @param http The connection pool and IO reactor configuration.
+     */
+    @Inject
+    public void setHttp(HttpConfigurationProperties http) {
+        this.http = http;
+    }
+
+    /**
+     * @param compression The compression configurations
+     */
+    @Inject
+    public void setCompression(CompressionConfigurationProperties compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Compression configurations of a named cluster.
+     */
+    @ConfigurationProperties("compression")
+    public static class CompressionConfigurationProperties extends ElasticsearchCompressionConfiguration {
+    }
+
+    /**
+     * Connection pool and IO reactor configurations of a named cluster.
+     */
+    @ConfigurationProperties("http")
+    public static class HttpConfigurationProperties extends ElasticsearchHttpConfiguration {
+    }
+}
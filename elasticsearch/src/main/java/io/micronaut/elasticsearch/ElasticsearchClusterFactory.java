@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.elasticsearch.deadline.DeadlineConfigurationProperties;
+import io.micronaut.elasticsearch.retry.RetryConfigurationProperties;
+import io.micronaut.elasticsearch.transport.RequestCompressionListener;
+import org.elasticsearch.client.RestClient;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+
+import java.util.List;
+
+/**
+ * Creates the clients of the named clusters configured under {@code elasticsearch.clusters.<name>}. The beans are
+ * qualified with the name of the cluster, e.g. {@code @Named("analytics") ElasticsearchAsyncClient}.
+ *
+ * <p>The sniffer, the failure listeners, the concurrency limiter, the search response cache, the bulk ingester and
+ * the coalescing only apply to the default cluster. The retries, the deadlines and the warmup are configured once, for
+ * all the clusters. Configuring any of them, or TLS, under a named cluster fails instead of being ignored.</p>
+ *
+ * @since 5.7.0
+ */
+@Requires(classes = RestClient.class)
+@Factory
+public class ElasticsearchClusterFactory {
+
+    private static final List<String> UNSUPPORTED_SETTINGS = List.of(
+        "sniffer", "limiter", "cache", "bulk", "coalescing", "warmup", "retry", "deadline"
+    );
+
+    private static final String SSL = "ssl";
+
+    /**
+     * @param cluster The configuration of the cluster
+     * @param environment The environment, to reject the settings not supported by the named clusters
+     * @return The low-level client of the cluster, owning its IO reactor and connection pool
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    @Bean(preDestroy = "close")
+    RestClient restClient(ElasticsearchClusterConfigurationProperties cluster, Environment environment) {
+        String clusterPrefix = ElasticsearchClusterConfigurationProperties.PREFIX + "." + cluster.getName() + ".";
+        for (String setting : UNSUPPORTED_SETTINGS) {
+            if (environment.containsProperties(clusterPrefix + setting)) {
+                throw new ConfigurationException(clusterPrefix + setting + " is not supported by the named clusters, configure "
+                    + ElasticsearchSettings.PREFIX + "." + setting + " instead");
+            }
+        }
+        if (environment.containsProperties(clusterPrefix + SSL)) {
+            throw new ConfigurationException(clusterPrefix + SSL + " is not supported by the named clusters, their HTTPS "
+                + "connections trust the default trust store of the JVM");
+        }
+        return DefaultElasticsearchClientFactory.newRestClientBuilder(cluster).build();
+    }
+
+    /**
+     * @param cluster The configuration of the cluster
+     * @param restClient The low-level client of the cluster
+     * @param jsonpMapper The {@link JsonpMapper} mapping the documents
+     * @param compressionListeners The listeners notified of the compressed request bodies
+     * @param retry The retry configuration
+     * @param deadline The deadline configuration
+     * @return The transport of the cluster
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    ElasticsearchTransport elasticsearchTransport(ElasticsearchClusterConfigurationProperties cluster,
+                                                  @Parameter RestClient restClient,
+                                                  JsonpMapper jsonpMapper,
+                                                  List<RequestCompressionListener> compressionListeners,
+                                                  RetryConfigurationProperties retry,
+                                                  DeadlineConfigurationProperties deadline) {
+        ElasticsearchTransport transport = DefaultElasticsearchClientFactory.newTransport(restClient, jsonpMapper, cluster.getHttp(),
+            cluster.getCompression(), compressionListeners);
+        transport = DefaultElasticsearchClientFactory.retrying(transport, retry, cluster);
+        return DefaultElasticsearchClientFactory.bounded(transport, deadline, cluster);
+    }
+
+    /**
+     * @param transport The transport of the cluster
+     * @return The ElasticsearchClient of the cluster
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    ElasticsearchClient elasticsearchClient(@Parameter ElasticsearchTransport transport) {
+        return new ElasticsearchClient(transport);
+    }
+
+    /**
+     * @param transport The transport of the cluster
+     * @return The ElasticsearchAsyncClient of the cluster
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    ElasticsearchAsyncClient elasticsearchAsyncClient(@Parameter ElasticsearchTransport transport) {
+        return new ElasticsearchAsyncClient(transport);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch;
+
+import io.micronaut.core.convert.format.ReadableBytes;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+/**
+ * Compression configurations. Request bodies of at least {@code threshold} bytes are sent gzip encoded and
+ * responses are requested gzip encoded. Both are disabled by default.
+ *
+ * @since 5.7.0
+ */
+public abstract class ElasticsearchCompressionConfiguration {
+
+    /**
+     * The default minimum size of the compressed request bodies.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private boolean request;
+    private boolean response;
+    private int threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * @return Whether the request bodies are compressed.
+     */
+    public boolean isRequest() {
+        return request;
+    }
+
+    /**
+     * @param request Whether the request bodies are compressed. Default value (false).
+     */
+    public void setRequest(boolean request) {
+        this.request = request;
+    }
+
+    /**
+     * @return Whether the responses are requested compressed.
+     */
+    public boolean isResponse() {
+        return response;
+    }
+
+    /**
+     * @param response Whether the responses are requested compressed with {@code Accept-Encoding: gzip}.
+     *                 Default value (false).
+     */
+    public void setResponse(boolean response) {
+        this.response = response;
+    }
+
+    /**
+     * @return The minimum size in bytes of the compressed request bodies.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @param threshold The minimum size of the compressed request bodies. Smaller bodies are sent
+     *                  uncompressed because the gzip overhead outweighs the savings. Default value (1KB).
+     */
+    public void setThreshold(@ReadableBytes int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Requests compressed responses when enabled. The low-level client decompresses gzip responses.
+     *
+     * @param builder The builder of the HTTP client
+     * @return The builder
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+        if (response) {
+            builder.addInterceptorLast((HttpRequestInterceptor) (httpRequest, context) -> {
+                if (!httpRequest.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+                    httpRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+                }
+            });
+        }
+        return builder;
+    }
+}
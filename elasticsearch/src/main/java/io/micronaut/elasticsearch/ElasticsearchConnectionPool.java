@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+
+/**
+ * The connection pool of a cluster, set on the {@link HttpAsyncClientBuilder} of the cluster by
+ * {@link DefaultHttpAsyncClientBuilderFactory}. The pool is shut down with the low-level client built from the
+ * builder, or with the bean when the client was never built.
+ *
+ * @since 5.7.0
+ */
+public final class ElasticsearchConnectionPool implements AutoCloseable {
+
+    /**
+     * The cluster name of the pool of the default cluster.
+     */
+    public static final String DEFAULT_CLUSTER = "default";
+
+    private final String cluster;
+    private final PoolingNHttpClientConnectionManager connectionManager;
+
+    /**
+     * @param cluster           The name of the cluster
+     * @param connectionManager The connection manager
+     */
+    public ElasticsearchConnectionPool(String cluster, PoolingNHttpClientConnectionManager connectionManager) {
+        this.cluster = cluster;
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * @return The name of the cluster, {@link #DEFAULT_CLUSTER} for the default cluster
+     */
+    public String getCluster() {
+        return cluster;
+    }
+
+    /**
+     * @return The connection manager
+     */
+    public PoolingNHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * @return The leased, pending and available connections across all the routes
+     */
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionManager.shutdown();
+    }
+}
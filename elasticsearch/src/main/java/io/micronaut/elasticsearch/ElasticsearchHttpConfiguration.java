@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch;
+
+import io.micronaut.core.annotation.Nullable;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and IO reactor configurations for the underlying HTTP client. Only the values that are
+ * explicitly configured are applied. The connection pool limits and the IO reactor configuration are applied by
+ * {@link DefaultHttpAsyncClientBuilderFactory} to the connection manager of the {@link HttpAsyncClientBuilder}. A
+ * builder replaced by the application keeps its own IO reactor configuration. Also selects how the blocking calls
+ * wait for their responses.
+ *
+ * @since 5.7.0
+ */
+public abstract class ElasticsearchHttpConfiguration {
+
+    private Integer maxConnPerRoute;
+    private Integer maxConnTotal;
+    private Integer ioThreadCount;
+    private Integer socketSendBufferSize;
+    private Integer socketReceiveBufferSize;
+    private Boolean tcpNoDelay;
+    private Boolean soKeepAlive;
+    private Duration keepAlive;
+    private boolean virtualThreads;
+
+    /**
+     * @return The maximum number of connections per route (node).
+     */
+    public @Nullable Integer getMaxConnPerRoute() {
+        return maxConnPerRoute;
+    }
+
+    /**
+     * @param maxConnPerRoute The maximum number of connections per route (node).
+     */
+    public void setMaxConnPerRoute(@Nullable Integer maxConnPerRoute) {
+        this.maxConnPerRoute = maxConnPerRoute;
+    }
+
+    /**
+     * @return The maximum number of connections across all the routes.
+     */
+    public @Nullable Integer getMaxConnTotal() {
+        return maxConnTotal;
+    }
+
+    /**
+     * @param maxConnTotal The maximum number of connections across all the routes.
+     */
+    public void setMaxConnTotal(@Nullable Integer maxConnTotal) {
+        this.maxConnTotal = maxConnTotal;
+    }
+
+    /**
+     * @return The number of IO dispatcher threads. Defaults to the number of available processors.
+     */
+    public @Nullable Integer getIoThreadCount() {
+        return ioThreadCount;
+    }
+
+    /**
+     * @param ioThreadCount The number of IO dispatcher threads.
+     */
+    public void setIoThreadCount(@Nullable Integer ioThreadCount) {
+        this.ioThreadCount = ioThreadCount;
+    }
+
+    /**
+     * @return The size of the socket send buffer (SO_SNDBUF) in bytes.
+     */
+    public @Nullable Integer getSocketSendBufferSize() {
+        return socketSendBufferSize;
+    }
+
+    /**
+     * @param socketSendBufferSize The size of the socket send buffer (SO_SNDBUF) in bytes.
+     */
+    public void setSocketSendBufferSize(@Nullable Integer socketSendBufferSize) {
+        this.socketSendBufferSize = socketSendBufferSize;
+    }
+
+    /**
+     * @return The size of the socket receive buffer (SO_RCVBUF) in bytes.
+     */
+    public @Nullable Integer getSocketReceiveBufferSize() {
+        return socketReceiveBufferSize;
+    }
+
+    /**
+     * @param socketReceiveBufferSize The size of the socket receive buffer (SO_RCVBUF) in bytes.
+     */
+    public void setSocketReceiveBufferSize(@Nullable Integer socketReceiveBufferSize) {
+        this.socketReceiveBufferSize = socketReceiveBufferSize;
+    }
+
+    /**
+     * @return Whether TCP_NODELAY is enabled.
+     */
+    public @Nullable Boolean getTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    /**
+     * @param tcpNoDelay Whether TCP_NODELAY is enabled.
+     */
+    public void setTcpNoDelay(@Nullable Boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    /**
+     * @return Whether SO_KEEPALIVE is enabled.
+     */
+    public @Nullable Boolean getSoKeepAlive() {
+        return soKeepAlive;
+    }
+
+    /**
+     * @param soKeepAlive Whether SO_KEEPALIVE is enabled.
+     */
+    public void setSoKeepAlive(@Nullable Boolean soKeepAlive) {
+        this.soKeepAlive = soKeepAlive;
+    }
+
+    /**
+     * @return The maximum time a connection is kept alive while idle in the pool.
+     */
+    public @Nullable Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * The maximum time a connection is kept alive while idle in the pool. An idle connection older than this is
+     * evicted instead of being reused. A shorter keep-alive advertised by the server is honoured.
+     *
+     * @param keepAlive The maximum time a connection is kept alive while idle in the pool.
+     */
+    public void setKeepAlive(@Nullable Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * @return Whether the blocking calls wait on the asynchronous path of the client.
+     * @see io.micronaut.elasticsearch.transport.VirtualThreadFriendlyTransport
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @param virtualThreads Whether the blocking calls wait on the asynchronous path of the client, so that they never
+     *                       pin the carrier thread of a virtual thread. Default value (false).
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Applies the configured connection pool and keep-alive values to the given builder. The connection pool limits
+     * are ignored by a builder with a connection manager, and the IO reactor values are not applied, see
+     * {@link #ioReactorConfig()}.
+     *
+     * @param builder The {@link HttpAsyncClientBuilder}
+     * @return The builder
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+        if (maxConnPerRoute != null) {
+            builder.setMaxConnPerRoute(maxConnPerRoute);
+        }
+        if (maxConnTotal != null) {
+            builder.setMaxConnTotal(maxConnTotal);
+        }
+        if (keepAlive != null) {
+            final long maxKeepAliveMillis = keepAlive.toMillis();
+            builder.setKeepAliveStrategy((response, context) -> {
+                long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return keepAliveMillis > 0 ? Math.min(keepAliveMillis, maxKeepAliveMillis) : maxKeepAliveMillis;
+            });
+        }
+        return builder;
+    }
+
+    /**
+     * Builds the IO reactor configuration from the configured values, the other values being the defaults of the
+     * HTTP client.
+     *
+     * @return The IO reactor configuration
+     */
+    public IOReactorConfig ioReactorConfig() {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (ioThreadCount != null) {
+            ioReactorConfig.setIoThreadCount(ioThreadCount);
+        }
+        if (socketSendBufferSize != null) {
+            ioReactorConfig.setSndBufSize(socketSendBufferSize);
+        }
+        if (socketReceiveBufferSize != null) {
+            ioReactorConfig.setRcvBufSize(socketReceiveBufferSize);
+        }
+        if (tcpNoDelay != null) {
+            ioReactorConfig.setTcpNoDelay(tcpNoDelay);
+        }
+        if (soKeepAlive != null) {
+            ioReactorConfig.setSoKeepAlive(soKeepAlive);
+        }
+        return ioReactorConfig.build();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.bulk;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.format.ReadableBytes;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the {@link co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester} bean.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(BulkIngesterConfigurationProperties.PREFIX)
+public class BulkIngesterConfigurationProperties {
+
+    /**
+     * The prefix to use for the bulk settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".bulk";
+
+    /**
+     * The default maximum number of operations per bulk request.
+     */
+    public static final int DEFAULT_MAX_ACTIONS = 1000;
+
+    /**
+     * The default maximum size of a bulk request in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 5L * 1024 * 1024;
+
+    /**
+     * The default maximum number of bulk requests in flight.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
+
+    /**
+     * The default interval after which pending operations are flushed.
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    private int maxActions = DEFAULT_MAX_ACTIONS;
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+    private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+    /**
+     * @return The maximum number of operations per bulk request.
+     */
+    public int getMaxActions() {
+        return maxActions;
+    }
+
+    /**
+     * Sets the maximum number of operations per bulk request. A value of {@code -1} disables the limit.
+     * Default value ({@value #DEFAULT_MAX_ACTIONS}).
+     *
+     * @param maxActions The maximum number of operations per bulk request.
+     */
+    public void setMaxActions(int maxActions) {
+        this.maxActions = maxActions;
+    }
+
+    /**
+     * @return The maximum size of a bulk request in bytes.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum size of a bulk request, for example {@code 5MB}. A value of {@code -1} disables the limit.
+     * Default value ({@value #DEFAULT_MAX_BYTES}).
+     *
+     * @param maxBytes The maximum size of a bulk request in bytes.
+     */
+    public void setMaxBytes(@ReadableBytes long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return The maximum number of bulk requests in flight.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum number of bulk requests in flight. Adding operations blocks, and the reactive subscriber
+     * stops requesting operations, while this limit is reached. Default value
+     * ({@value #DEFAULT_MAX_CONCURRENT_REQUESTS}).
+     *
+     * @param maxConcurrentRequests The maximum number of bulk requests in flight.
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * @return The interval after which pending operations are flushed.
+     */
+    public @Nullable Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Sets the interval after which pending operations are flushed even if the bulk request is not full.
+     * A zero duration only flushes full bulk requests. Default value (1 second).
+     *
+     * @param flushInterval The interval after which pending operations are flushed.
+     */
+    public void setFlushInterval(@Nullable Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.bulk;
+
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link BulkListener} that keeps track of the bulk requests in flight and logs the failed operations.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class BulkRequestTracker implements BulkListener<Void> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestTracker.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return The number of bulk requests that have been sent and not completed yet.
+     */
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request, List<Void> contexts) {
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, BulkResponse response) {
+        if (response.errors() && LOG.isErrorEnabled()) {
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    LOG.error("Bulk {} operation failed on index [{}] for id [{}]: {}",
+                        item.operationType().jsonValue(), item.index(), item.id(), item.error().reason());
+                }
+            }
+        }
+        completed();
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, Throwable failure) {
+        LOG.error("Bulk request of {} operations failed: {}", request.operations().size(), failure.getMessage(), failure);
+        completed();
+    }
+
+    /**
+     * Registers a callback invoked each time a bulk request completes.
+     *
+     * @param callback The callback
+     */
+    void addCompletionCallback(Runnable callback) {
+        completionCallbacks.add(callback);
+    }
+
+    /**
+     * @param callback The callback to remove
+     */
+    void removeCompletionCallback(Runnable callback) {
+        completionCallbacks.remove(callback);
+    }
+
+    private void completed() {
+        inFlight.decrementAndGet();
+        for (Runnable callback : completionCallbacks) {
+            callback.run();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.bulk;
+
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Feeds {@link BulkOperation} streams into the {@link BulkIngester} bean. The subscribers request operations one
+ * bulk request at a time and stop requesting while the maximum number of concurrent bulk requests is in flight.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class ReactiveBulkIngester {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveBulkIngester.class);
+
+    private final BulkIngester<Void> ingester;
+    private final BulkRequestTracker tracker;
+    private final BulkIngesterConfigurationProperties configuration;
+
+    /**
+     * @param ingester      The {@link BulkIngester}
+     * @param tracker       The {@link BulkRequestTracker} registered as listener of the ingester
+     * @param configuration The bulk configuration
+     */
+    public ReactiveBulkIngester(BulkIngester<Void> ingester,
+                                BulkRequestTracker tracker,
+                                BulkIngesterConfigurationProperties configuration) {
+        this.ingester = ingester;
+        this.tracker = tracker;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Creates a new subscriber that adds the received operations to the {@link BulkIngester}. A subscriber can only
+     * be subscribed once.
+     *
+     * @return A new {@link Subscriber}
+     */
+    public Subscriber<BulkOperation> subscriber() {
+        return new BulkOperationSubscriber();
+    }
+
+    /**
+     * Subscribes to the given publisher.
+     *
+     * @param operations The operations to ingest
+     */
+    public void ingest(Publisher<BulkOperation> operations) {
+        operations.subscribe(subscriber());
+    }
+
+    /**
+     * @return The {@link BulkIngester} the operations are added to.
+     */
+    public BulkIngester<Void> getIngester() {
+        return ingester;
+    }
+
+    private final class BulkOperationSubscriber implements Subscriber<BulkOperation> {
+
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        private final AtomicLong outstanding = new AtomicLong();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final Runnable onBulkCompleted = this::requestMore;
+        private final long batchSize = configuration.getMaxActions() > 0 ? configuration.getMaxActions() : 1;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (!subscription.compareAndSet(null, s)) {
+                s.cancel();
+                return;
+            }
+            tracker.addCompletionCallback(onBulkCompleted);
+            requestMore();
+        }
+
+        @Override
+        public void onNext(BulkOperation operation) {
+            outstanding.decrementAndGet();
+            ingester.add(operation);
+            requestMore();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOG.error("Bulk operation stream failed: {}", t.getMessage(), t);
+            terminate();
+        }
+
+        @Override
+        public void onComplete() {
+            terminate();
+        }
+
+        private void requestMore() {
+            Subscription s = subscription.get();
+            if (s == null || done.get() || tracker.getInFlightRequests() >= configuration.getMaxConcurrentRequests()) {
+                return;
+            }
+            if (outstanding.compareAndSet(0, batchSize)) {
+                s.request(batchSize);
+            }
+        }
+
+        private void terminate() {
+            if (done.compareAndSet(false, true)) {
+                tracker.removeCompletionCallback(onBulkCompleted);
+                ingester.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.ReindexRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperationBase;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ElasticsearchTransport} invalidating the cached search responses of the indices written through it.
+ * The indices are invalidated once the write completes, whether it succeeded or not.
+ *
+ * @since 5.7.0
+ */
+public final class CacheInvalidatingTransport extends DelegatingElasticsearchTransport {
+
+    private static final Set<String> WRITE_ENDPOINTS = Set.of(
+        "es/index", "es/create", "es/update", "es/delete", "es/bulk", "es/delete_by_query", "es/update_by_query",
+        "es/reindex", "es/indices.delete", "es/indices.refresh"
+    );
+
+    private final SearchResponseCache cache;
+
+    /**
+     * @param delegate The decorated transport
+     * @param cache    The cache of the search responses
+     */
+    public CacheInvalidatingTransport(ElasticsearchTransport delegate, SearchResponseCache cache) {
+        super(delegate);
+        this.cache = cache;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        if (!WRITE_ENDPOINTS.contains(endpoint.id())) {
+            return super.performRequest(request, endpoint, options);
+        }
+        try {
+            return super.performRequest(request, endpoint, options);
+        } finally {
+            invalidate(request, endpoint);
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        CompletableFuture<ResponseT> future = super.performRequestAsync(request, endpoint, options);
+        if (WRITE_ENDPOINTS.contains(endpoint.id())) {
+            future.whenComplete((response, error) -> invalidate(request, endpoint));
+        }
+        return future;
+    }
+
+    private <RequestT> void invalidate(RequestT request, Endpoint<RequestT, ?, ?> endpoint) {
+        Set<String> indices = new LinkedHashSet<>();
+        String url = endpoint.requestUrl(request);
+        int start = url.startsWith("/") ? 1 : 0;
+        int end = url.indexOf('/', start);
+        String index = end < 0 ? url.substring(start) : url.substring(start, end);
+        if (!index.isEmpty() && !index.startsWith("_")) {
+            indices.add(index);
+        }
+        if (request instanceof BulkRequest bulkRequest) {
+            for (BulkOperation operation : bulkRequest.operations()) {
+                if (operation._get() instanceof BulkOperationBase base && base.index() != null) {
+                    indices.add(base.index());
+                }
+            }
+        } else if (request instanceof ReindexRequest reindexRequest) {
+            indices.add(reindexRequest.dest().index());
+        }
+        if (indices.isEmpty()) {
+            cache.invalidateAll();
+        } else {
+            indices.forEach(cache::invalidate);
+        }
+    }
+}
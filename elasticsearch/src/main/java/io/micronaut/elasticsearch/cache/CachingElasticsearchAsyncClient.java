@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.coalescing.CoalescingConfiguration;
+import io.micronaut.elasticsearch.coalescing.CoalescingElasticsearchAsyncClient;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ElasticsearchAsyncClient} serving the repeated searches from a {@link SearchResponseCache}. When
+ * coalescing is enabled, the concurrent identical searches missing the cache share a single request. The copies made
+ * with {@link #withTransportOptions(TransportOptions)} share the cache, but only the searches sent with the same
+ * headers and query parameters share their responses.
+ *
+ * @since 5.7.0
+ */
+public class CachingElasticsearchAsyncClient extends CoalescingElasticsearchAsyncClient {
+
+    private final SearchResponseCache cache;
+
+    /**
+     * @param transport The transport
+     * @param cache     The cache of the search responses
+     */
+    public CachingElasticsearchAsyncClient(ElasticsearchTransport transport, SearchResponseCache cache) {
+        this(transport, null, cache);
+    }
+
+    /**
+     * @param transport  The transport
+     * @param cache      The cache of the search responses
+     * @param coalescing The coalescing configuration
+     */
+    public CachingElasticsearchAsyncClient(ElasticsearchTransport transport, SearchResponseCache cache,
+                                           CoalescingConfiguration coalescing) {
+        this(transport, null, cache, coalescing);
+    }
+
+    /**
+     * @param transport        The transport
+     * @param transportOptions The options of the requests
+     * @param cache            The cache of the search responses
+     */
+    public CachingElasticsearchAsyncClient(ElasticsearchTransport transport, @Nullable TransportOptions transportOptions,
+                                           SearchResponseCache cache) {
+        this(transport, transportOptions, cache, new CoalescingConfiguration());
+    }
+
+    /**
+     * @param transport        The transport
+     * @param transportOptions The options of the requests
+     * @param cache            The cache of the search responses
+     * @param coalescing       The coalescing configuration
+     */
+    public CachingElasticsearchAsyncClient(ElasticsearchTransport transport, @Nullable TransportOptions transportOptions,
+                                           SearchResponseCache cache, CoalescingConfiguration coalescing) {
+        super(transport, transportOptions, coalescing);
+        this.cache = cache;
+    }
+
+    @Override
+    public CachingElasticsearchAsyncClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+        return new CachingElasticsearchAsyncClient(this.transport, transportOptions, cache, getConfiguration());
+    }
+
+    @Override
+    public <TDocument> CompletableFuture<SearchResponse<TDocument>> search(SearchRequest request, Class<TDocument> tDocumentClass) {
+        TransportOptions options = transportOptions != null ? transportOptions : transport.options();
+        return cache.searchAsync(request, tDocumentClass, options, () -> super.search(request, tDocumentClass));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+
+/**
+ * An {@link ElasticsearchClient} serving the repeated searches from a {@link SearchResponseCache}. The copies made
+ * with {@link #withTransportOptions(TransportOptions)} share the cache, but only the searches sent with the same
+ * headers and query parameters share their responses.
+ *
+ * @since 5.7.0
+ */
+public class CachingElasticsearchClient extends ElasticsearchClient {
+
+    private final SearchResponseCache cache;
+
+    /**
+     * @param transport The transport
+     * @param cache     The cache of the search responses
+     */
+    public CachingElasticsearchClient(ElasticsearchTransport transport, SearchResponseCache cache) {
+        this(transport, null, cache);
+    }
+
+    /**
+     * @param transport        The transport
+     * @param transportOptions The options of the requests
+     * @param cache            The cache of the search responses
+     */
+    public CachingElasticsearchClient(ElasticsearchTransport transport, @Nullable TransportOptions transportOptions,
+                                      SearchResponseCache cache) {
+        super(transport, transportOptions);
+        this.cache = cache;
+    }
+
+    @Override
+    public CachingElasticsearchClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+        return new CachingElasticsearchClient(this.transport, transportOptions, cache);
+    }
+
+    @Override
+    public <TDocument> SearchResponse<TDocument> search(SearchRequest request, Class<TDocument> tDocumentClass)
+        throws IOException, ElasticsearchException {
+        TransportOptions options = transportOptions != null ? transportOptions : transport.options();
+        return cache.search(request, tDocumentClass, options, () -> super.search(request, tDocumentClass));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.TransportOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link SearchResponseCache}, backed by a Caffeine cache. The least likely to be used responses are
+ * evicted first once the maximum size is reached.
+ *
+ * <p>Instead of scanning the cache, a write to an index increments the generation of the index. The cache keys
+ * include the generations of the target indices, so that the responses cached before the write are never hit again
+ * and age out. The searches targeting index patterns, aliases listed as patterns, or all the indices follow a global
+ * generation incremented by every write.</p>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+@Requires(classes = Caffeine.class)
+@Requires(property = SearchResponseCacheConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class DefaultSearchResponseCache implements SearchResponseCache {
+
+    private static final String ALL = "_all";
+
+    private final SearchResponseCacheConfiguration configuration;
+    private final JsonpMapper jsonpMapper;
+    private final Cache<Key, SearchResponse<?>> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    /**
+     * @param configuration The cache configuration
+     * @param jsonpMapper   The mapper serializing the search requests
+     */
+    public DefaultSearchResponseCache(SearchResponseCacheConfiguration configuration, JsonpMapper jsonpMapper) {
+        this.configuration = configuration;
+        this.jsonpMapper = jsonpMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfter(new TtlExpiry())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return The underlying Caffeine cache.
+     */
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> SearchResponse<T> search(SearchRequest request, Class<T> documentClass, @Nullable TransportOptions options,
+                                        Search<T> search) throws IOException {
+        Key key = key(request, documentClass, options);
+        if (key == null) {
+            return search.search();
+        }
+        SearchResponse<T> cached = (SearchResponse<T>) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        SearchResponse<T> response = search.search();
+        cache.put(key, response);
+        return response;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<SearchResponse<T>> searchAsync(SearchRequest request, Class<T> documentClass,
+                                                                @Nullable TransportOptions options,
+                                                                Supplier<CompletableFuture<SearchResponse<T>>> search) {
+        Key key;
+        try {
+            key = key(request, documentClass, options);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (key == null) {
+            return search.get();
+        }
+        SearchResponse<T> cached = (SearchResponse<T>) cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SearchResponse<T>> future = search.get();
+        // cache on the returned future so that cancelling it still cancels the request
+        future.whenComplete((response, error) -> {
+            if (response != null) {
+                cache.put(key, response);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void invalidate(String index) {
+        globalGeneration.incrementAndGet();
+        for (String name : index.split(",")) {
+            if (isPattern(name)) {
+                invalidateAll();
+                return;
+            }
+            generations.computeIfAbsent(name, n -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    private @Nullable Key key(SearchRequest request, Class<?> documentClass, @Nullable TransportOptions options) throws IOException {
+        if (request.pit() != null || request.scroll() != null) {
+            // the results of a point in time or a scroll are not reused
+            return null;
+        }
+        List<String> indices = request.index();
+        boolean exact = !indices.isEmpty() && indices.stream().noneMatch(DefaultSearchResponseCache::isPattern);
+        List<Long> stamp = new ArrayList<>(indices.size());
+        if (exact) {
+            for (String index : indices) {
+                stamp.add(generations.computeIfAbsent(index, n -> new AtomicLong()).get());
+            }
+        } else {
+            stamp.add(globalGeneration.get());
+        }
+        StringWriter body = new StringWriter();
+        try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(body)) {
+            request.serialize(generator, jsonpMapper);
+        }
+        return new Key(SearchRequest._ENDPOINT.requestUrl(request), SearchRequest._ENDPOINT.queryParameters(request),
+            body.toString(), documentClass, headers(options), options != null ? new TreeMap<>(options.queryParameters()) : Map.of(),
+            exact ? indices : List.of(), stamp);
+    }
+
+    /**
+     * @param options The options the search is sent with
+     * @return The headers of the options, such as the credentials of the caller, with their names in lower case
+     */
+    private static List<String> headers(@Nullable TransportOptions options) {
+        if (options == null) {
+            return List.of();
+        }
+        List<String> headers = new ArrayList<>();
+        for (Map.Entry<String, String> header : options.headers()) {
+            headers.add(header.getKey().toLowerCase(Locale.ROOT) + ':' + header.getValue());
+        }
+        Collections.sort(headers);
+        return headers;
+    }
+
+    private static boolean isPattern(String index) {
+        return index.isEmpty() || ALL.equals(index) || index.indexOf('*') >= 0 || index.indexOf(',') >= 0;
+    }
+
+    /**
+     * The key of a cached response.
+     *
+     * @param url           The request URL
+     * @param parameters    The query parameters
+     * @param body          The serialized request body
+     * @param documentClass The class of the documents
+     * @param headers       The headers of the transport options
+     * @param options       The query parameters of the transport options
+     * @param indices       The target indices, if they are not patterns
+     * @param generations   The generations of the target indices
+     */
+    private record Key(String url, Map<String, String> parameters, String body, Class<?> documentClass,
+                       List<String> headers, Map<String, String> options, List<String> indices, List<Long> generations) {
+    }
+
+    /**
+     * Expires the responses after the shortest time to live of their indices.
+     */
+    private final class TtlExpiry implements Expiry<Key, SearchResponse<?>> {
+
+        @Override
+        public long expireAfterCreate(Key key, SearchResponse<?> value, long currentTime) {
+            if (key.indices().isEmpty()) {
+                return configuration.getTtl().toNanos();
+            }
+            long ttl = Long.MAX_VALUE;
+            for (String index : key.indices()) {
+                ttl = Math.min(ttl, configuration.ttl(index).toNanos());
+            }
+            return ttl;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, SearchResponse<?> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, SearchResponse<?> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
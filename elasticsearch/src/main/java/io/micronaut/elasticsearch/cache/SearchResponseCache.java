@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A client-side cache of the search responses, keyed by the target indices, the serialized search request, the
+ * document type, and the headers and query parameters of the transport options. The responses of an index are
+ * invalidated by the writes to the index made through the same client.
+ *
+ * <p>Searches sent with different credentials, such as another {@code Authorization} or
+ * {@code es-security-runas-user} header, never share their responses, which may be filtered by document and field
+ * level security.</p>
+ *
+ * <p>The cached responses are shared, the returned documents must not be modified.</p>
+ *
+ * @since 5.7.0
+ */
+public interface SearchResponseCache {
+
+    /**
+     * Returns the cached response of the search, or runs the search and caches its response.
+     *
+     * @param request       The search request
+     * @param documentClass The class of the documents
+     * @param options       The options the search is sent with
+     * @param search        Runs the search on a cache miss
+     * @param <T>           The type of the documents
+     * @return The search response
+     * @throws IOException If the search fails
+     */
+    <T> SearchResponse<T> search(SearchRequest request, Class<T> documentClass, @Nullable TransportOptions options,
+                                 Search<T> search) throws IOException;
+
+    /**
+     * Returns the cached response of the search, or runs the search and caches its response once it completes.
+     *
+     * @param request       The search request
+     * @param documentClass The class of the documents
+     * @param options       The options the search is sent with
+     * @param search        Runs the search on a cache miss
+     * @param <T>           The type of the documents
+     * @return The search response
+     */
+    <T> CompletableFuture<SearchResponse<T>> searchAsync(SearchRequest request, Class<T> documentClass,
+                                                         @Nullable TransportOptions options,
+                                                         Supplier<CompletableFuture<SearchResponse<T>>> search);
+
+    /**
+     * Invalidates the cached responses of an index, and of the searches targeting index patterns or all the indices.
+     *
+     * @param index The name of the index
+     */
+    void invalidate(String index);
+
+    /**
+     * Invalidates all the cached responses.
+     */
+    void invalidateAll();
+
+    /**
+     * A search run on a cache miss.
+     *
+     * @param <T> The type of the documents
+     */
+    @FunctionalInterface
+    interface Search<T> {
+
+        /**
+         * @return The search response
+         * @throws IOException If the search fails
+         */
+        SearchResponse<T> search() throws IOException;
+    }
+}
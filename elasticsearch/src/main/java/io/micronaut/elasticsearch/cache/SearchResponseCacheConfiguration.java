@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configurations of the {@link SearchResponseCache}. The cache is disabled by default.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(SearchResponseCacheConfiguration.PREFIX)
+public class SearchResponseCacheConfiguration {
+
+    /**
+     * The prefix to use for the cache settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".cache";
+
+    /**
+     * The property enabling the cache.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    /**
+     * The default maximum number of cached responses.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The default time to live of the cached responses.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    private boolean enabled;
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private Duration ttl = DEFAULT_TTL;
+    private Map<String, Duration> indexTtl = Collections.emptyMap();
+
+    /**
+     * @return Whether the search responses are cached.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the search responses are cached. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of cached responses.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @param maximumSize The maximum number of cached responses. The responses least likely to be used again are
+     *                    evicted first. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+     */
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return The time to live of the cached responses.
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * @param ttl The time to live of the cached responses. Default value (1m).
+     */
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * @return The time to live of the cached responses, per index.
+     */
+    public Map<String, Duration> getIndexTtl() {
+        return indexTtl;
+    }
+
+    /**
+     * Sets the time to live of the cached responses per index, overriding {@code ttl}. The responses of a search
+     * across several indices live for the shortest of their time to live.
+     *
+     * @param indexTtl The time to live of the cached responses, per index.
+     */
+    public void setIndexTtl(Map<String, Duration> indexTtl) {
+        this.indexTtl = indexTtl;
+    }
+
+    /**
+     * @param index The name of an index
+     * @return The time to live of the responses of the index
+     */
+    Duration ttl(String index) {
+        return indexTtl.getOrDefault(index, ttl);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.coalescing;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the coalescing of the concurrent identical requests of the {@link CoalescingElasticsearchAsyncClient}.
+ * Coalescing is disabled by default.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(CoalescingConfiguration.PREFIX)
+public class CoalescingConfiguration {
+
+    /**
+     * The prefix to use for the coalescing settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".coalescing";
+
+    /**
+     * The default time during which the gets are gathered into a multi get.
+     */
+    public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(2);
+
+    /**
+     * The default maximum number of gets gathered into a multi get.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private boolean enabled;
+    private boolean batchGets;
+    private Duration batchWindow = DEFAULT_BATCH_WINDOW;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * @return Whether the concurrent identical requests share a single request.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the concurrent identical get and search requests share a single request.
+     *                Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether the concurrent gets by id are gathered into a multi get.
+     */
+    public boolean isBatchGets() {
+        return batchGets;
+    }
+
+    /**
+     * @param batchGets Whether the concurrent gets by id are gathered into a multi get. Requires coalescing to be
+     *                  enabled. Default value (false).
+     */
+    public void setBatchGets(boolean batchGets) {
+        this.batchGets = batchGets;
+    }
+
+    /**
+     * @return The time during which the gets are gathered into a multi get.
+     */
+    public Duration getBatchWindow() {
+        return batchWindow;
+    }
+
+    /**
+     * @param batchWindow The time during which the gets are gathered into a multi get. It adds up to the latency of
+     *                    the gets. Default value (2ms).
+     */
+    public void setBatchWindow(Duration batchWindow) {
+        this.batchWindow = batchWindow;
+    }
+
+    /**
+     * @return The maximum number of gets gathered into a multi get.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @param maxBatchSize The maximum number of gets gathered into a multi get. A full batch is sent without waiting
+     *                     for the end of the window. Default value ({@value #DEFAULT_MAX_BATCH_SIZE}).
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.coalescing;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.get.GetResult;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.json.stream.JsonGenerator;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ElasticsearchAsyncClient} sharing a single request between the concurrent identical get and search calls.
+ * When enabled, the concurrent gets by id are also gathered into multi gets.
+ *
+ * <p>Each call receives its own future, so cancelling it does not cancel the shared request.</p>
+ *
+ * @since 5.7.0
+ */
+public class CoalescingElasticsearchAsyncClient extends ElasticsearchAsyncClient {
+
+    private final CoalescingConfiguration configuration;
+    private final Map<Key, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Batch<?>> batches = new ConcurrentHashMap<>();
+
+    /**
+     * @param transport     The transport
+     * @param configuration The coalescing configuration
+     */
+    public CoalescingElasticsearchAsyncClient(ElasticsearchTransport transport, CoalescingConfiguration configuration) {
+        this(transport, null, configuration);
+    }
+
+    /**
+     * @param transport        The transport
+     * @param transportOptions The options of the requests
+     * @param configuration    The coalescing configuration
+     */
+    public CoalescingElasticsearchAsyncClient(ElasticsearchTransport transport, @Nullable TransportOptions transportOptions,
+                                              CoalescingConfiguration configuration) {
+        super(transport, transportOptions);
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return The coalescing configuration
+     */
+    public CoalescingConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public CoalescingElasticsearchAsyncClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+        return new CoalescingElasticsearchAsyncClient(this.transport, transportOptions, configuration);
+    }
+
+    @Override
+    public <TDocument> CompletableFuture<GetResponse<TDocument>> get(GetRequest request, Class<TDocument> tDocumentClass) {
+        if (!configuration.isEnabled()) {
+            return super.get(request, tDocumentClass);
+        }
+        Key key = new Key(GetRequest._ENDPOINT.requestUrl(request), GetRequest._ENDPOINT.queryParameters(request), null, tDocumentClass);
+        if (configuration.isBatchGets() && key.parameters().isEmpty()) {
+            return coalesce(key, () -> batch(request, tDocumentClass));
+        }
+        return coalesce(key, () -> super.get(request, tDocumentClass));
+    }
+
+    @Override
+    public <TDocument> CompletableFuture<SearchResponse<TDocument>> search(SearchRequest request, Class<TDocument> tDocumentClass) {
+        if (!configuration.isEnabled()) {
+            return super.search(request, tDocumentClass);
+        }
+        StringWriter body = new StringWriter();
+        try (JsonGenerator generator = _jsonpMapper().jsonProvider().createGenerator(body)) {
+            request.serialize(generator, _jsonpMapper());
+        }
+        Key key = new Key(SearchRequest._ENDPOINT.requestUrl(request), SearchRequest._ENDPOINT.queryParameters(request),
+            body.toString(), tDocumentClass);
+        return coalesce(key, () -> super.search(request, tDocumentClass));
+    }
+
+    /**
+     * @return The number of the distinct requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Sends the request unless an identical one is in flight.
+     *
+     * @param key     The key of the request
+     * @param request Sends the request
+     * @param <T>     The type of the response
+     * @return A copy of the shared future
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesce(Key key, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            return existing.copy();
+        }
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            // removed before completing so that the dependents calling again send a new request
+            inFlight.remove(key, shared);
+            if (error != null) {
+                shared.completeExceptionally(error);
+            } else {
+                shared.complete(result);
+            }
+        });
+        return shared.copy();
+    }
+
+    /**
+     * Adds the get to the batch of its document class. The first get of a batch schedules it to be sent at the end of
+     * the window, the get filling it up sends it immediately.
+     *
+     * @param request        The get request, without query parameters
+     * @param tDocumentClass The class of the document
+     * @param <TDocument>    The type of the document
+     * @return The response of the get
+     */
+    @SuppressWarnings("unchecked")
+    private <TDocument> CompletableFuture<GetResponse<TDocument>> batch(GetRequest request, Class<TDocument> tDocumentClass) {
+        Pending<TDocument> pending = new Pending<>(request, new CompletableFuture<>());
+        List<Batch<TDocument>> full = new ArrayList<>(1);
+        batches.compute(tDocumentClass, (type, existing) -> {
+            Batch<TDocument> batch = (Batch<TDocument>) existing;
+            if (batch == null) {
+                Batch<TDocument> created = new Batch<>(tDocumentClass);
+                CompletableFuture.delayedExecutor(configuration.getBatchWindow().toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(() -> {
+                        if (batches.remove(tDocumentClass, created)) {
+                            send(created);
+                        }
+                    });
+                batch = created;
+            }
+            batch.pending().add(pending);
+            if (batch.pending().size() >= configuration.getMaxBatchSize()) {
+                full.add(batch);
+                return null;
+            }
+            return batch;
+        });
+        if (!full.isEmpty()) {
+            send(full.get(0));
+        }
+        return pending.response();
+    }
+
+    /**
+     * Sends the batch as a multi get, or as a get when it holds a single request. The gets failing in the multi get are
+     * retried alone so that they fail as they would have without batching.
+     *
+     * @param batch       The batch removed from the pending batches
+     * @param <TDocument> The type of the documents
+     */
+    private <TDocument> void send(Batch<TDocument> batch) {
+        List<Pending<TDocument>> pending = batch.pending();
+        if (pending.size() == 1) {
+            forward(super.get(pending.get(0).request(), batch.documentClass()), pending.get(0).response());
+            return;
+        }
+        MgetRequest.Builder builder = new MgetRequest.Builder();
+        for (Pending<TDocument> p : pending) {
+            builder.docs(d -> d.index(p.request().index()).id(p.request().id()));
+        }
+        CompletableFuture<MgetResponse<TDocument>> response;
+        try {
+            response = mget(builder.build(), batch.documentClass());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            for (int i = 0; i < pending.size(); i++) {
+                Pending<TDocument> p = pending.get(i);
+                if (error != null) {
+                    p.response().completeExceptionally(error);
+                } else if (i < result.docs().size() && result.docs().get(i).isResult()) {
+                    p.response().complete(toGetResponse(result.docs().get(i)));
+                } else {
+                    forward(super.get(p.request(), batch.documentClass()), p.response());
+                }
+            }
+        });
+    }
+
+    private static <T> void forward(CompletableFuture<T> from, CompletableFuture<T> to) {
+        from.whenComplete((result, error) -> {
+            if (error != null) {
+                to.completeExceptionally(error);
+            } else {
+                to.complete(result);
+            }
+        });
+    }
+
+    private static <TDocument> GetResponse<TDocument> toGetResponse(MultiGetResponseItem<TDocument> item) {
+        GetResult<TDocument> result = item.result();
+        return GetResponse.of(b -> b
+            .index(result.index())
+            .id(result.id())
+            .found(result.found())
+            .source(result.source())
+            .fields(result.fields())
+            .version(result.version())
+            .seqNo(result.seqNo())
+            .primaryTerm(result.primaryTerm())
+            .routing(result.routing()));
+    }
+
+    /**
+     * The key of a request.
+     *
+     * @param url           The request URL
+     * @param parameters    The query parameters
+     * @param body          The serialized request body, if any
+     * @param documentClass The class of the documents
+     */
+    private record Key(String url, Map<String, String> parameters, @Nullable String body, Class<?> documentClass) {
+    }
+
+    /**
+     * The gets gathered during a window. Only modified while it is mapped, under the lock of its mapping. Compared by
+     * identity, so that a late timer does not remove the next batch.
+     *
+     * @param <TDocument> The type of the documents
+     */
+    private static final class Batch<TDocument> {
+
+        private final Class<TDocument> documentClass;
+        private final List<Pending<TDocument>> pending = new ArrayList<>();
+
+        private Batch(Class<TDocument> documentClass) {
+            this.documentClass = documentClass;
+        }
+
+        Class<TDocument> documentClass() {
+            return documentClass;
+        }
+
+        List<Pending<TDocument>> pending() {
+            return pending;
+        }
+    }
+
+    /**
+     * A get waiting for its batch.
+     *
+     * @param request     The get request
+     * @param response    The response of the get
+     * @param <TDocument> The type of the document
+     */
+    private record Pending<TDocument>(GetRequest request, CompletableFuture<GetResponse<TDocument>> response) {
+    }
+}
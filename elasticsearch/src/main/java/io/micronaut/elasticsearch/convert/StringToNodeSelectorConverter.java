@@ -18,15 +18,26 @@ package io.micronaut.elasticsearch.convert;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.TypeConverter;
+import io.micronaut.elasticsearch.selector.ChainedNodeSelector;
+import io.micronaut.elasticsearch.selector.LatencyWeightedNodeSelector;
+import io.micronaut.elasticsearch.selector.LeastOutstandingRequestsNodeSelector;
+import io.micronaut.elasticsearch.selector.NodeStatistics;
+import io.micronaut.elasticsearch.selector.NodeStatisticsAware;
+import io.micronaut.elasticsearch.selector.PreferAttributeNodeSelector;
 import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RestClientBuilder;
 
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
 /**
- * Converts String to {@link NodeSelector}.
+ * Converts String to {@link NodeSelector}. Supported values are {@code ANY}, {@code SKIP_DEDICATED_MASTERS},
+ * {@code LEAST_OUTSTANDING_REQUESTS}, {@code LATENCY_WEIGHTED} and {@code PREFER_ATTRIBUTE:name=value}.
+ * Several selectors separated by commas are applied in order, for example
+ * {@code PREFER_ATTRIBUTE:zone=us-east-1a,LATENCY_WEIGHTED}.
  *
  * @author Puneet Behl
  * @since 1.0.0
@@ -35,16 +46,53 @@ import java.util.Optional;
 @Requires(classes = RestClientBuilder.class)
 public class StringToNodeSelectorConverter implements TypeConverter<CharSequence, NodeSelector> {
 
+    private static final String PREFER_ATTRIBUTE = "PREFER_ATTRIBUTE:";
+
     @Override
     public Optional<NodeSelector> convert(CharSequence object, Class<NodeSelector> targetType, ConversionContext context) {
-        String nodeSelector = object.toString().toUpperCase(Locale.ENGLISH);
+        String[] values = object.toString().split(",");
+        if (values.length == 1) {
+            return convert(values[0].trim(), null);
+        }
+        NodeStatistics statistics = new NodeStatistics();
+        List<NodeSelector> selectors = new ArrayList<>(values.length);
+        for (String value : values) {
+            Optional<NodeSelector> selector = convert(value.trim(), statistics);
+            if (selector.isEmpty()) {
+                return Optional.empty();
+            }
+            selectors.add(selector.get());
+        }
+        boolean usesStatistics = selectors.stream().anyMatch(NodeStatisticsAware.class::isInstance);
+        return Optional.of(new ChainedNodeSelector(selectors, usesStatistics ? statistics : null));
+    }
+
+    private Optional<NodeSelector> convert(String value, NodeStatistics sharedStatistics) {
+        String nodeSelector = value.toUpperCase(Locale.ENGLISH).replace('-', '_');
+        if (nodeSelector.startsWith(PREFER_ATTRIBUTE)) {
+            String attribute = value.substring(PREFER_ATTRIBUTE.length());
+            int separator = attribute.indexOf('=');
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new PreferAttributeNodeSelector(attribute.substring(0, separator).trim(),
+                attribute.substring(separator + 1).trim()));
+        }
         switch (nodeSelector) {
             case "SKIP_DEDICATED_MASTERS":
                 return Optional.of(NodeSelector.SKIP_DEDICATED_MASTERS);
             case "ANY":
                 return Optional.of(NodeSelector.ANY);
+            case "LEAST_OUTSTANDING_REQUESTS":
+                return Optional.of(new LeastOutstandingRequestsNodeSelector(statistics(sharedStatistics)));
+            case "LATENCY_WEIGHTED":
+                return Optional.of(new LatencyWeightedNodeSelector(statistics(sharedStatistics)));
             default:
                 return Optional.empty();
         }
     }
+
+    private static NodeStatistics statistics(NodeStatistics sharedStatistics) {
+        return sharedStatistics != null ? sharedStatistics : new NodeStatistics();
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import co.elastic.clients.ApiClient;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.propagation.PropagatedContextElement;
+
+import org.apache.http.client.config.RequestConfig;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time after which the Elasticsearch requests of a caller are not worth completing anymore.
+ *
+ * <p>A deadline is attached to the requests of a client with {@link #applyTo(ApiClient)} or {@link #options(TransportOptions)},
+ * or to all the requests sent in a scope with {@link #propagate()}. The deadline of the transport options takes
+ * precedence over the propagated one. The requests are sent with timeouts bounded by the remaining time, and they
+ * are aborted when the deadline expires or when it is cancelled.</p>
+ *
+ * @since 5.7.0
+ */
+public final class Deadline implements PropagatedContextElement {
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = scheduler();
+
+    private final long expiresAtNanos;
+    private final Set<Runnable> cancellationListeners = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * @param timeout The time left to the caller
+     * @return A deadline expiring after the given timeout
+     */
+    @NonNull
+    public static Deadline after(@NonNull Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * @return The deadline of the current {@link PropagatedContext}, if any
+     */
+    @NonNull
+    public static Optional<Deadline> current() {
+        return PropagatedContext.find().flatMap(context -> context.find(Deadline.class));
+    }
+
+    /**
+     * @param options The transport options of a request
+     * @return The deadline attached to the transport options, if any
+     */
+    @NonNull
+    public static Optional<Deadline> of(@Nullable TransportOptions options) {
+        return options instanceof DeadlineTransportOptions deadlineOptions ? Optional.of(deadlineOptions.getDeadline()) : Optional.empty();
+    }
+
+    /**
+     * @return The time left before the deadline expires, or zero once it has expired
+     */
+    @NonNull
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    /**
+     * @return Whether the deadline has expired or was cancelled
+     */
+    public boolean isExpired() {
+        return cancelled || remainingNanos() <= 0;
+    }
+
+    /**
+     * @return Whether the deadline was cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels the deadline because its caller gave up: the requests in flight are aborted and the next ones fail
+     * without being sent.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Runnable listener : cancellationListeners) {
+            if (cancellationListeners.remove(listener)) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Attaches the deadline to transport options. The deadline is not kept by {@link TransportOptions#toBuilder()}.
+     *
+     * @param options The transport options of the requests
+     * @return The transport options with the deadline
+     */
+    @NonNull
+    public TransportOptions options(@NonNull TransportOptions options) {
+        Objects.requireNonNull(options, "options");
+        if (options instanceof DeadlineTransportOptions deadlineOptions) {
+            return new DeadlineTransportOptions(deadlineOptions.getDelegate(), this);
+        }
+        return new DeadlineTransportOptions(options, this);
+    }
+
+    /**
+     * Attaches the deadline to the requests of a client, for instance
+     * {@code Deadline.after(Duration.ofMillis(500)).applyTo(client).search(...)}.
+     *
+     * @param client The client, such as the {@code ElasticsearchClient} or the {@code ElasticsearchAsyncClient}
+     * @param <C>    The type of the client
+     * @return A client sending its requests with the deadline
+     */
+    @NonNull
+    public <C extends ApiClient<?, C>> C applyTo(@NonNull C client) {
+        TransportOptions options = client._transportOptions() != null ? client._transportOptions() : client._transport().options();
+        return client.withTransportOptions(options(options));
+    }
+
+    /**
+     * Propagates the deadline to the requests sent in the returned scope, and to the reactive and asynchronous
+     * continuations started from it.
+     *
+     * @return The scope, to close once the deadline no longer applies
+     */
+    @NonNull
+    public PropagatedContext.Scope propagate() {
+        return PropagatedContext.getOrEmpty().plus(this).propagate();
+    }
+
+    /**
+     * Aborts a request when the deadline expires or is cancelled. Its future is then completed with a
+     * {@link CancellationException} caused by a {@link DeadlineExceededException}, which cancels the request as
+     * {@link CompletableFuture#cancel(boolean)} does.
+     *
+     * @param future     The future of the request
+     * @param endpointId The endpoint of the request
+     * @param <T>        The type of the response
+     * @return The given future
+     */
+    @NonNull
+    public <T> CompletableFuture<T> bind(@NonNull CompletableFuture<T> future, @NonNull String endpointId) {
+        ScheduledFuture<?> expiry = SCHEDULER.schedule(() -> abort(future, endpointId, false), remainingNanos(), TimeUnit.NANOSECONDS);
+        Runnable removeListener = onCancel(() -> abort(future, endpointId, true));
+        future.whenComplete((response, error) -> {
+            expiry.cancel(false);
+            removeListener.run();
+        });
+        return future;
+    }
+
+    /**
+     * @param config The configuration of a request
+     * @return The configuration with its connection, pool and socket timeouts bounded by the time left
+     */
+    @NonNull
+    public RequestConfig bound(@NonNull RequestConfig config) {
+        int remainingMillis = remainingMillis();
+        return RequestConfig.copy(config)
+            .setConnectionRequestTimeout(bounded(config.getConnectionRequestTimeout(), remainingMillis))
+            .setConnectTimeout(bounded(config.getConnectTimeout(), remainingMillis))
+            .setSocketTimeout(bounded(config.getSocketTimeout(), remainingMillis))
+            .build();
+    }
+
+    /**
+     * @param margin The time kept between the server-side timeout and the deadline
+     * @return The value of the {@code timeout} parameter bounding the work of the cluster by the time left
+     */
+    @NonNull
+    public String serverTimeout(@NonNull Duration margin) {
+        return Math.max(1, remainingMillis() - margin.toMillis()) + "ms";
+    }
+
+    /**
+     * @return The nanoseconds left before the deadline expires, negative once it has expired
+     */
+    long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    /**
+     * Registers a listener run once when the deadline is cancelled, or right away if it was already cancelled.
+     *
+     * @param listener The listener
+     * @return The action removing the listener
+     */
+    Runnable onCancel(Runnable listener) {
+        cancellationListeners.add(listener);
+        if (cancelled && cancellationListeners.remove(listener)) {
+            listener.run();
+        }
+        return () -> cancellationListeners.remove(listener);
+    }
+
+    private int remainingMillis() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos())));
+    }
+
+    /**
+     * @param timeout   A timeout of the request configuration, 0 for none and negative for the system default
+     * @param remaining The milliseconds left before the deadline expires
+     * @return The timeout bounded by the time left
+     */
+    private static int bounded(int timeout, int remaining) {
+        return timeout > 0 ? Math.min(timeout, remaining) : remaining;
+    }
+
+    private static void abort(CompletableFuture<?> future, String endpointId, boolean cancelled) {
+        // a CancellationException cancels the request like CompletableFuture#cancel and carries the reason
+        CancellationException cancellation = new CancellationException("Request [" + endpointId + "] aborted");
+        cancellation.initCause(new DeadlineExceededException(endpointId, cancelled));
+        future.completeExceptionally(cancellation);
+    }
+
+    private static ScheduledThreadPoolExecutor scheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "elasticsearch-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
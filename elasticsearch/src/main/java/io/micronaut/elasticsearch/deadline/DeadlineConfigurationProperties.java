@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the deadlines of the Elasticsearch requests. The deadlines of the Micronaut HTTP requests are
+ * disabled by default.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(DeadlineConfigurationProperties.PREFIX)
+public class DeadlineConfigurationProperties {
+
+    /**
+     * The prefix to use for the deadline settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".deadline";
+
+    /**
+     * The property enabling the deadlines of the Micronaut HTTP requests.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    /**
+     * The default header of the HTTP requests giving the time left to their caller, in milliseconds.
+     */
+    public static final String DEFAULT_HEADER = "X-Request-Timeout";
+
+    /**
+     * The default time kept between the server-side timeout of a request and its deadline.
+     */
+    public static final Duration DEFAULT_SERVER_TIMEOUT_MARGIN = Duration.ofMillis(20);
+
+    private boolean enabled;
+    private Duration timeout;
+    private String header = DEFAULT_HEADER;
+    private Duration serverTimeoutMargin = DEFAULT_SERVER_TIMEOUT_MARGIN;
+
+    /**
+     * @return Whether a deadline is propagated from each Micronaut HTTP request.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether a deadline is propagated from each Micronaut HTTP request. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The time given to each Micronaut HTTP request, or null when only the header sets it.
+     */
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout The time given to each Micronaut HTTP request, or null when only the header sets it.
+     */
+    public void setTimeout(@Nullable Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return The header of the HTTP requests giving the time left to their caller, in milliseconds.
+     */
+    @Nullable
+    public String getHeader() {
+        return header;
+    }
+
+    /**
+     * Sets the header of the HTTP requests giving the time left to their caller, in milliseconds. When both the
+     * header and the timeout are set, the shortest applies. Default value ({@value #DEFAULT_HEADER}).
+     *
+     * @param header The header of the HTTP requests giving the time left to their caller, or null to ignore it.
+     */
+    public void setHeader(@Nullable String header) {
+        this.header = header;
+    }
+
+    /**
+     * @return The time kept between the server-side timeout of a request and its deadline.
+     */
+    public Duration getServerTimeoutMargin() {
+        return serverTimeoutMargin;
+    }
+
+    /**
+     * Sets the time kept between the server-side timeout of a request and its deadline, so that Elasticsearch
+     * returns its partial results before the request is aborted. Default value (20ms).
+     *
+     * @param serverTimeoutMargin The time kept between the server-side timeout of a request and its deadline.
+     */
+    public void setServerTimeoutMargin(Duration serverTimeoutMargin) {
+        this.serverTimeoutMargin = serverTimeoutMargin;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request is not sent or is aborted because its {@link Deadline} expired or was cancelled.
+ *
+ * @since 5.7.0
+ */
+public class DeadlineExceededException extends IOException {
+
+    /**
+     * @param endpointId The endpoint of the request
+     * @param cancelled  Whether the deadline was cancelled before it expired
+     */
+    public DeadlineExceededException(String endpointId, boolean cancelled) {
+        super("Request [" + endpointId + "] aborted: " + (cancelled ? "its caller gave up" : "its deadline was exceeded"));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Publisher} cancelling a {@link Deadline} once its subscriber is done with it: when the stream completes,
+ * fails or is cancelled.
+ *
+ * @param <T> The type of the elements
+ * @since 5.7.0
+ */
+final class DeadlinePublisher<T> implements Publisher<T> {
+
+    private final Publisher<T> delegate;
+    private final Deadline deadline;
+
+    /**
+     * @param delegate The streamed body
+     * @param deadline The deadline of the request streaming the body
+     */
+    DeadlinePublisher(Publisher<T> delegate, Deadline deadline) {
+        this.delegate = delegate;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        delegate.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                        deadline.cancel();
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(T element) {
+                subscriber.onNext(element);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                deadline.cancel();
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                deadline.cancel();
+                subscriber.onComplete();
+            }
+        });
+    }
+}
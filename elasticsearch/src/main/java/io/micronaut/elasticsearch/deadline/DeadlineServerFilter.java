@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.propagation.MutablePropagatedContext;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Propagates a {@link Deadline} from each Micronaut HTTP request to the Elasticsearch requests sent while handling it,
+ * and cancels it once the response is complete so that the Elasticsearch requests still in flight are aborted. The
+ * deadline of a streamed response is cancelled when its body is complete or when the client disconnects.
+ *
+ * @since 5.7.0
+ */
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+@Requires(property = DeadlineConfigurationProperties.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class DeadlineServerFilter {
+
+    /**
+     * The attribute of the HTTP request holding its deadline.
+     */
+    public static final String ATTRIBUTE = "micronaut.elasticsearch.deadline";
+
+    private final DeadlineConfigurationProperties configuration;
+
+    /**
+     * @param configuration The deadline configuration
+     */
+    public DeadlineServerFilter(DeadlineConfigurationProperties configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Propagates the deadline of the request, when its timeout is configured or given by its header.
+     *
+     * @param request           The HTTP request
+     * @param propagatedContext The context propagated to the handling of the request
+     */
+    @RequestFilter
+    public void propagateDeadline(HttpRequest<?> request, MutablePropagatedContext propagatedContext) {
+        Duration timeout = configuration.getTimeout();
+        if (configuration.getHeader() != null) {
+            Optional<Long> millis = request.getHeaders().get(configuration.getHeader(), Long.class);
+            if (millis.isPresent() && millis.get() >= 0 && (timeout == null || millis.get() < timeout.toMillis())) {
+                timeout = Duration.ofMillis(millis.get());
+            }
+        }
+        if (timeout != null) {
+            Deadline deadline = Deadline.after(timeout);
+            request.setAttribute(ATTRIBUTE, deadline);
+            propagatedContext.add(deadline);
+        }
+    }
+
+    /**
+     * Cancels the deadline of the request once its response is complete. The body of a streamed response is only
+     * produced after the response is filtered, so its deadline is cancelled when the stream terminates instead.
+     *
+     * @param request  The HTTP request
+     * @param response The HTTP response
+     */
+    @ResponseFilter
+    public void cancelDeadline(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        Optional<Deadline> deadline = request.getAttribute(ATTRIBUTE, Deadline.class);
+        if (deadline.isEmpty()) {
+            return;
+        }
+        if (response.body() instanceof Publisher<?> body) {
+            response.body(new DeadlinePublisher<>(body, deadline.get()));
+        } else {
+            deadline.get().cancel();
+        }
+    }
+}
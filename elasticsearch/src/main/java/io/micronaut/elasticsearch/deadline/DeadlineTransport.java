@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport;
+import io.micronaut.elasticsearch.transport.ResponseFutures;
+import org.apache.http.client.config.RequestConfig;
+import org.elasticsearch.client.RequestOptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ElasticsearchTransport} bounding the requests by their {@link Deadline}, taken from the transport options
+ * or from the current propagated context.
+ *
+ * <p>The connection, pool and socket timeouts of a request are bounded by the time left, and the endpoints
+ * accepting a {@code timeout} parameter receive it so that the cluster stops working on the request when its caller
+ * no longer waits. The request is aborted when the deadline expires or when it is cancelled. The blocking requests
+ * wait on the asynchronous path, so that they are aborted too.</p>
+ *
+ * @since 5.7.0
+ */
+public final class DeadlineTransport extends DelegatingElasticsearchTransport {
+
+    /**
+     * The query parameter bounding the work of the cluster.
+     */
+    static final String TIMEOUT_PARAMETER = "timeout";
+
+    // the endpoints whose timeout parameter bounds the work of the cluster rather than the wait for a master node
+    private static final Set<String> SERVER_TIMEOUT_ENDPOINTS = Set.of(
+        "es/search", "es/index", "es/create", "es/update", "es/delete", "es/bulk", "es/delete_by_query", "es/update_by_query");
+
+    private final RequestConfig requestConfig;
+    private final Duration serverTimeoutMargin;
+
+    /**
+     * @param delegate            The decorated transport
+     * @param requestConfig       The default request configuration of the cluster
+     * @param serverTimeoutMargin The time kept between the server-side timeout of a request and its deadline
+     */
+    public DeadlineTransport(ElasticsearchTransport delegate, RequestConfig requestConfig, Duration serverTimeoutMargin) {
+        super(delegate);
+        this.requestConfig = requestConfig;
+        this.serverTimeoutMargin = serverTimeoutMargin;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        Deadline deadline = deadline(options);
+        if (deadline == null) {
+            return super.performRequest(request, endpoint, options);
+        }
+        return ResponseFutures.await(performRequestAsync(request, endpoint, options, deadline), endpoint.id());
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        Deadline deadline = deadline(options);
+        if (deadline == null) {
+            return super.performRequestAsync(request, endpoint, options);
+        }
+        return performRequestAsync(request, endpoint, options, deadline);
+    }
+
+    private <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                          Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                          @Nullable TransportOptions options,
+                                                                                          Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException(endpoint.id(), deadline.isCancelled()));
+        }
+        // the returned future is aborted so that the request is cancelled, as when the caller cancels it
+        return deadline.bind(super.performRequestAsync(request, endpoint, options(request, endpoint, options, deadline)), endpoint.id());
+    }
+
+    private <RequestT> TransportOptions options(RequestT request,
+                                                Endpoint<RequestT, ?, ?> endpoint,
+                                                @Nullable TransportOptions options,
+                                                Deadline deadline) {
+        TransportOptions base = options instanceof DeadlineTransportOptions deadlineOptions ? deadlineOptions.getDelegate() : options;
+        RestClientOptions restClientOptions = RestClientOptions.of(base != null ? base : options());
+        RequestOptions requestOptions = restClientOptions.restClientRequestOptions();
+        RequestConfig config = requestOptions.getRequestConfig() != null ? requestOptions.getRequestConfig() : requestConfig;
+        RequestOptions.Builder builder = requestOptions.toBuilder().setRequestConfig(deadline.bound(config));
+        if (acceptsServerTimeout(request, endpoint) && !restClientOptions.queryParameters().containsKey(TIMEOUT_PARAMETER)) {
+            builder.addParameter(TIMEOUT_PARAMETER, deadline.serverTimeout(serverTimeoutMargin));
+        }
+        return new RestClientOptions(builder.build(), restClientOptions.keepResponseBodyOnException());
+    }
+
+    @Nullable
+    private static Deadline deadline(@Nullable TransportOptions options) {
+        return Deadline.of(options).or(Deadline::current).orElse(null);
+    }
+
+    private static <RequestT> boolean acceptsServerTimeout(RequestT request, Endpoint<RequestT, ?, ?> endpoint) {
+        if (!SERVER_TIMEOUT_ENDPOINTS.contains(endpoint.id()) || endpoint.queryParameters(request).containsKey(TIMEOUT_PARAMETER)) {
+            return false;
+        }
+        // the timeout of a search is sent in its body, which the parameter would override
+        return !(request instanceof SearchRequest searchRequest) || searchRequest.timeout() == null;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline;
+
+import co.elastic.clients.transport.TransportOptions;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link TransportOptions} carrying a {@link Deadline} down to the {@link DeadlineTransport}.
+ *
+ * @since 5.7.0
+ */
+final class DeadlineTransportOptions implements TransportOptions {
+
+    private final TransportOptions delegate;
+    private final Deadline deadline;
+
+    /**
+     * @param delegate The transport options of the requests
+     * @param deadline The deadline of the requests
+     */
+    DeadlineTransportOptions(TransportOptions delegate, Deadline deadline) {
+        this.delegate = delegate;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return The transport options of the requests
+     */
+    TransportOptions getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return The deadline of the requests
+     */
+    Deadline getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public Collection<Map.Entry<String, String>> headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public Map<String, String> queryParameters() {
+        return delegate.queryParameters();
+    }
+
+    @Override
+    public Function<List<String>, Boolean> onWarnings() {
+        return delegate.onWarnings();
+    }
+
+    @Override
+    public boolean keepResponseBodyOnException() {
+        return delegate.keepResponseBodyOnException();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return delegate.toBuilder();
+    }
+}
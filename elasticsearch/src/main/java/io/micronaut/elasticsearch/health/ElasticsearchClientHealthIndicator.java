@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2020 original authors
+ * Copyright 2017-2026 original authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,14 @@
  */
 package io.micronaut.elasticsearch.health;
 
+import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.management.endpoint.health.HealthEndpoint;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.inject.Inject;
 import org.reactivestreams.Publisher;
 
 import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
@@ -28,32 +31,77 @@ import jakarta.inject.Singleton;
 
 import static io.micronaut.health.HealthStatus.DOWN;
 import static io.micronaut.health.HealthStatus.UP;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A {@link HealthIndicator} for Elasticsearch that uses an automatically-configured high-level REST client, injected as a dependency, to communicate
  * with Elasticsearch.
  *
+ * <p>Concurrent calls share a single in-flight request, and results are reused for
+ * {@link ElasticsearchHealthIndicatorConfiguration#getCacheTtl() cache-ttl}.</p>
+ *
  * @author Puneet Behl
  * @author Robyn Dalgleish
  * @since 1.0.0
  */
 @Requires(beans = HealthEndpoint.class)
 @Requires(property = HealthEndpoint.PREFIX + ".elasticsearch.enabled", notEquals = "false")
+@Primary
 @Singleton
 public class ElasticsearchClientHealthIndicator implements HealthIndicator {
 
-    private static final String NAME = "elasticsearchclient";
+    /**
+     * The name of the health indicator of the default cluster. The indicators of the named clusters are suffixed
+     * with the name of the cluster.
+     */
+    public static final String NAME = "elasticsearchclient";
 
+    private final String name;
     private final ElasticsearchAsyncClient client;
+    private final ElasticsearchHealthIndicatorConfiguration configuration;
+    private final AtomicReference<CompletableFuture<HealthResult>> current = new AtomicReference<>();
+    private volatile long completedAt;
 
     /**
      * Constructor.
      *
      * @param client The Elasticsearch high level REST client.
+     * @deprecated Use {@link #ElasticsearchClientHealthIndicator(ElasticsearchAsyncClient, ElasticsearchHealthIndicatorConfiguration)} instead.
      */
+    @Deprecated(since = "5.7.0", forRemoval = true)
     public ElasticsearchClientHealthIndicator(ElasticsearchAsyncClient client) {
+        this(client, new ElasticsearchHealthIndicatorConfiguration());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client The Elasticsearch high level REST client.
+     * @param configuration The health indicator configuration.
+     * @since 5.7.0
+     */
+    @Inject
+    public ElasticsearchClientHealthIndicator(ElasticsearchAsyncClient client, ElasticsearchHealthIndicatorConfiguration configuration) {
+        this(client, configuration, NAME);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client The Elasticsearch high level REST client.
+     * @param configuration The health indicator configuration.
+     * @param name The name of the health indicator.
+     * @since 5.7.0
+     */
+    public ElasticsearchClientHealthIndicator(ElasticsearchAsyncClient client, ElasticsearchHealthIndicatorConfiguration configuration, String name) {
         this.client = client;
+        this.configuration = configuration;
+        this.name = name;
     }
 
     /**
@@ -65,41 +113,67 @@ public class ElasticsearchClientHealthIndicator implements HealthIndicator {
      */
     @Override
     public Publisher<HealthResult> getResult() {
-        return (subscriber -> client.cluster().health()
-            .handle((health, exception) -> {
-                final HealthResult.Builder resultBuilder = HealthResult.builder(NAME);
-                if (exception != null) {
-                    subscriber.onNext(resultBuilder.status(DOWN).exception(exception).build());
-                    subscriber.onComplete();
-                } else {
-                    HealthStatus status = health.status() == co.elastic.clients.elasticsearch._types.HealthStatus.Red ? DOWN : UP;
-                    subscriber.onNext(resultBuilder.status(status).details(healthResultDetails(health)).build());
-                    subscriber.onComplete();
-                }
-                return health;
-            }));
+        // each subscriber gets a copy so that cancelling one subscription doesn't cancel the shared request
+        return Publishers.fromCompletableFuture(() -> result().copy());
     }
 
-    private String healthResultDetails(HealthResponse response) {
-        return "{"
-            + "\"cluster_name\":\"" + response.clusterName() + "\","
-            + "\"status\":\"" + response.status().name().toLowerCase(Locale.ENGLISH) + "\","
-            + "\"timed_out\":" + response.timedOut() + ","
-            + "\"number_of_nodes\":" + response.numberOfNodes() + ","
-            + "\"number_of_data_nodes\":" + response.numberOfDataNodes() + ","
-            + "\"number_of_pending_tasks\":" + response.numberOfPendingTasks() + ","
-            + "\"number_of_in_flight_fetch\":" + response.numberOfInFlightFetch() + ","
-            + "\"task_max_waiting_in_queue\":\"" + response.taskMaxWaitingInQueueMillis() + "\","
-            + "\"task_max_waiting_in_queue_millis\":" + response.taskMaxWaitingInQueueMillis() + ","
-            + "\"active_shards_percent_as_number\":\"" + response.activeShardsPercentAsNumber() + "\","
-            + "\"active_primary_shards\":" + response.activePrimaryShards() + ","
-            + "\"active_shards\":" + response.activeShards() + ","
-            + "\"relocating_shards\":" + response.relocatingShards() + ","
-            + "\"initializing_shards\":" + response.initializingShards() + ","
-            + "\"unassigned_shards\":" + response.unassignedShards() + ","
-            + "\"delayed_unassigned_shards\":" + response.delayedUnassignedShards()
-            + "}";
+    private CompletableFuture<HealthResult> result() {
+        CompletableFuture<HealthResult> result = current.get();
+        if (result != null && (!result.isDone() || System.nanoTime() - completedAt < configuration.getCacheTtl().toNanos())) {
+            return result;
+        }
+        CompletableFuture<HealthResult> next = new CompletableFuture<>();
+        if (!current.compareAndSet(result, next)) {
+            return current.get();
+        }
+        check().whenComplete((healthResult, exception) -> {
+            completedAt = System.nanoTime();
+            next.complete(healthResult != null ? healthResult : down(exception));
+        });
+        return next;
     }
-}
 
+    private CompletableFuture<HealthResult> check() {
+        try {
+            if (configuration.getCheck() == ElasticsearchHealthIndicatorConfiguration.Check.PING) {
+                return client.ping().handle((response, exception) -> exception != null ? down(exception)
+                    : HealthResult.builder(name).status(response.value() ? UP : DOWN).build());
+            }
+            return client.cluster().health(health -> configuration.isLocal() ? health.local(true) : health)
+                .handle((health, exception) -> {
+                    if (exception != null) {
+                        return down(exception);
+                    }
+                    HealthStatus status = health.status() == co.elastic.clients.elasticsearch._types.HealthStatus.Red ? DOWN : UP;
+                    return HealthResult.builder(name).status(status).details(healthResultDetails(health)).build();
+                });
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(down(e));
+        }
+    }
+
+    private HealthResult down(Throwable exception) {
+        Throwable cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+        return HealthResult.builder(name).status(DOWN).exception(cause).build();
+    }
 
+    private Map<String, Object> healthResultDetails(HealthResponse response) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("cluster_name", response.clusterName());
+        details.put("status", response.status().name().toLowerCase(Locale.ENGLISH));
+        details.put("timed_out", response.timedOut());
+        details.put("number_of_nodes", response.numberOfNodes());
+        details.put("number_of_data_nodes", response.numberOfDataNodes());
+        details.put("number_of_pending_tasks", response.numberOfPendingTasks());
+        details.put("number_of_in_flight_fetch", response.numberOfInFlightFetch());
+        details.put("task_max_waiting_in_queue_millis", response.taskMaxWaitingInQueueMillis());
+        details.put("active_shards_percent_as_number", response.activeShardsPercentAsNumber());
+        details.put("active_primary_shards", response.activePrimaryShards());
+        details.put("active_shards", response.activeShards());
+        details.put("relocating_shards", response.relocatingShards());
+        details.put("initializing_shards", response.initializingShards());
+        details.put("unassigned_shards", response.unassignedShards());
+        details.put("delayed_unassigned_shards", response.delayedUnassignedShards());
+        return details;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.health;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.elasticsearch.ElasticsearchClusterConfigurationProperties;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+
+/**
+ * Creates a health indicator for each named cluster, named {@code elasticsearchclient-<name>}.
+ *
+ * @since 5.7.0
+ */
+@Requires(beans = HealthEndpoint.class)
+@Requires(property = HealthEndpoint.PREFIX + ".elasticsearch.enabled", notEquals = "false")
+@Factory
+public class ElasticsearchClusterHealthIndicatorFactory {
+
+    /**
+     * @param cluster The configuration of the cluster
+     * @param client The client of the cluster
+     * @param configuration The health indicator configuration
+     * @return The health indicator of the cluster
+     */
+    @EachBean(ElasticsearchClusterConfigurationProperties.class)
+    ElasticsearchClientHealthIndicator clusterHealthIndicator(ElasticsearchClusterConfigurationProperties cluster,
+                                                              @Parameter ElasticsearchAsyncClient client,
+                                                              ElasticsearchHealthIndicatorConfiguration configuration) {
+        return new ElasticsearchClientHealthIndicator(client, configuration, ElasticsearchClientHealthIndicator.NAME + "-" + cluster.getName());
+    }
+}
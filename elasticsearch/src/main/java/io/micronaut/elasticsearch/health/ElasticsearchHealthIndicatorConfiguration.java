@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.health;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the {@link ElasticsearchClientHealthIndicator}.
+ *
+ * @since 5.7.0
+ */
+@Requires(beans = HealthEndpoint.class)
+@ConfigurationProperties(ElasticsearchHealthIndicatorConfiguration.PREFIX)
+public class ElasticsearchHealthIndicatorConfiguration {
+
+    /**
+     * The prefix to use for the Elasticsearch health indicator settings.
+     */
+    public static final String PREFIX = HealthEndpoint.PREFIX + ".elasticsearch";
+
+    private Duration cacheTtl = Duration.ZERO;
+    private boolean local;
+    private Check check = Check.CLUSTER_HEALTH;
+
+    /**
+     * @return How long a health result is reused.
+     */
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    /**
+     * @param cacheTtl How long a health result is reused before the cluster is called again. Concurrent
+     *                 calls share a single in-flight request whatever the value. Default value (0s).
+     */
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * @return Whether the cluster health is read from the local node.
+     */
+    public boolean isLocal() {
+        return local;
+    }
+
+    /**
+     * @param local Whether the cluster health is read from the node receiving the request instead of the elected
+     *              master node. Default value (false).
+     */
+    public void setLocal(boolean local) {
+        this.local = local;
+    }
+
+    /**
+     * @return The request checking the cluster.
+     */
+    public Check getCheck() {
+        return check;
+    }
+
+    /**
+     * @param check The request checking the cluster. Default value (CLUSTER_HEALTH).
+     */
+    public void setCheck(Check check) {
+        this.check = check;
+    }
+
+    /**
+     * The requests checking the cluster.
+     */
+    public enum Check {
+
+        /**
+         * Calls the cluster health API. The cluster is DOWN when its status is red.
+         */
+        CLUSTER_HEALTH,
+
+        /**
+         * Sends a {@code HEAD /} request. The cluster is UP when a node answers.
+         */
+        PING
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configurations of the {@link com.fasterxml.jackson.databind.ObjectMapper} dedicated to the Elasticsearch
+ * documents.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(ElasticsearchJacksonConfiguration.PREFIX)
+public class ElasticsearchJacksonConfiguration {
+
+    /**
+     * The prefix to use for the Elasticsearch Jackson settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".jackson";
+
+    /**
+     * The name of the dedicated {@link com.fasterxml.jackson.databind.ObjectMapper} bean.
+     */
+    public static final String NAME = "elasticsearch";
+
+    private boolean enabled;
+    private boolean blackbird;
+    private RecyclerPool recyclerPool = RecyclerPool.THREAD_LOCAL;
+    private JsonInclude.Include serializationInclusion = JsonInclude.Include.NON_NULL;
+    private Map<SerializationFeature, Boolean> serialization = Collections.emptyMap();
+    private Map<DeserializationFeature, Boolean> deserialization = Collections.emptyMap();
+
+    /**
+     * @return Whether the transport uses the dedicated mapper.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the transport uses the dedicated mapper. When disabled, the application-wide mapper
+     *                is used. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether the Blackbird module is registered.
+     */
+    public boolean isBlackbird() {
+        return blackbird;
+    }
+
+    /**
+     * @param blackbird Whether the Blackbird module, which replaces reflection with generated lambdas, is registered.
+     *                  Requires {@code com.fasterxml.jackson.module:jackson-module-blackbird} on the classpath and is
+     *                  not supported in native images. Default value (false).
+     */
+    public void setBlackbird(boolean blackbird) {
+        this.blackbird = blackbird;
+    }
+
+    /**
+     * @return The pool recycling the parser and generator buffers.
+     */
+    public RecyclerPool getRecyclerPool() {
+        return recyclerPool;
+    }
+
+    /**
+     * @param recyclerPool The pool recycling the parser and generator buffers. Default value (THREAD_LOCAL).
+     */
+    public void setRecyclerPool(RecyclerPool recyclerPool) {
+        this.recyclerPool = recyclerPool;
+    }
+
+    /**
+     * @return Which properties are serialized.
+     */
+    public JsonInclude.Include getSerializationInclusion() {
+        return serializationInclusion;
+    }
+
+    /**
+     * @param serializationInclusion Which properties are serialized. Default value (NON_NULL).
+     */
+    public void setSerializationInclusion(JsonInclude.Include serializationInclusion) {
+        this.serializationInclusion = serializationInclusion;
+    }
+
+    /**
+     * @return The serialization features to enable or disable.
+     */
+    public Map<SerializationFeature, Boolean> getSerialization() {
+        return serialization;
+    }
+
+    /**
+     * @param serialization The serialization features to enable or disable
+     */
+    public void setSerialization(Map<SerializationFeature, Boolean> serialization) {
+        this.serialization = serialization != null ? new EnumMap<>(serialization) : Collections.emptyMap();
+    }
+
+    /**
+     * @return The deserialization features to enable or disable.
+     */
+    public Map<DeserializationFeature, Boolean> getDeserialization() {
+        return deserialization;
+    }
+
+    /**
+     * @param deserialization The deserialization features to enable or disable. {@code FAIL_ON_UNKNOWN_PROPERTIES}
+     *                        is disabled unless enabled here.
+     */
+    public void setDeserialization(Map<DeserializationFeature, Boolean> deserialization) {
+        this.deserialization = deserialization != null ? new EnumMap<>(deserialization) : Collections.emptyMap();
+    }
+
+    /**
+     * The pools recycling the parser and generator buffers.
+     */
+    public enum RecyclerPool {
+
+        /**
+         * One buffer per thread, the Jackson default. Best with a bounded set of platform threads.
+         */
+        THREAD_LOCAL,
+
+        /**
+         * A shared lock-free pool, suited to virtual threads.
+         */
+        LOCK_FREE,
+
+        /**
+         * A shared pool backed by a concurrent deque.
+         */
+        CONCURRENT_DEQUE,
+
+        /**
+         * No recycling.
+         */
+        NONE
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+
+/**
+ * Creates the {@link ObjectMapper} dedicated to the Elasticsearch documents when enabled. Unlike the
+ * application-wide mapper, it only registers the Java 8 and Java time modules, so that the modules and features
+ * registered for the web layer don't apply to the documents.
+ *
+ * @since 5.7.0
+ */
+@Factory
+@Requires(property = ElasticsearchJacksonConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class ElasticsearchObjectMapperFactory {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    /**
+     * @param configuration The Elasticsearch Jackson configuration
+     * @return The dedicated {@link ObjectMapper}
+     */
+    @Singleton
+    @Named(ElasticsearchJacksonConfiguration.NAME)
+    ObjectMapper elasticsearchObjectMapper(ElasticsearchJacksonConfiguration configuration) {
+        JsonFactory jsonFactory = JsonFactory.builder()
+            .recyclerPool(switch (configuration.getRecyclerPool()) {
+                case LOCK_FREE -> JsonRecyclerPools.newLockFreePool();
+                case CONCURRENT_DEQUE -> JsonRecyclerPools.newConcurrentDequePool();
+                case NONE -> JsonRecyclerPools.nonRecyclingPool();
+                default -> JsonRecyclerPools.threadLocalPool();
+            })
+            .build();
+        JsonMapper.Builder builder = JsonMapper.builder(jsonFactory)
+            .addModule(new Jdk8Module())
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .serializationInclusion(configuration.getSerializationInclusion());
+        if (configuration.isBlackbird()) {
+            if (!ClassUtils.isPresent(BLACKBIRD_MODULE, getClass().getClassLoader())) {
+                throw new ConfigurationException(ElasticsearchJacksonConfiguration.PREFIX
+                    + ".blackbird requires com.fasterxml.jackson.module:jackson-module-blackbird on the classpath");
+            }
+            builder.addModule(BlackbirdSupport.module());
+        }
+        for (Map.Entry<SerializationFeature, Boolean> feature : configuration.getSerialization().entrySet()) {
+            builder.configure(feature.getKey(), feature.getValue());
+        }
+        for (Map.Entry<DeserializationFeature, Boolean> feature : configuration.getDeserialization().entrySet()) {
+            builder.configure(feature.getKey(), feature.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Only loaded when the Blackbird module is on the classpath.
+     */
+    private static final class BlackbirdSupport {
+
+        private static Module module() {
+            return new BlackbirdModule();
+        }
+    }
+}
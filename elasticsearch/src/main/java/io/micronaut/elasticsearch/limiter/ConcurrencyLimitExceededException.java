@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.limiter;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request is rejected because the limit of requests in flight is reached.
+ *
+ * @since 5.7.0
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+
+    private final int limit;
+
+    /**
+     * @param endpointId The endpoint of the rejected request
+     * @param limit      The limit of requests in flight
+     */
+    public ConcurrencyLimitExceededException(String endpointId, int limit) {
+        super("Request [" + endpointId + "] rejected: the limit of " + limit + " Elasticsearch requests in flight is reached");
+        this.limit = limit;
+    }
+
+    /**
+     * @return The limit of requests in flight when the request was rejected.
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
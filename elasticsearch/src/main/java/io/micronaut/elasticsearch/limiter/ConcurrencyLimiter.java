@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.limiter;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of Elasticsearch requests in flight with a limit adapted to the observed latency and to the
+ * requests rejected by the cluster. Requests above the limit are rejected instead of being queued by the HTTP client.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+@Requires(property = ConcurrencyLimiterConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class ConcurrencyLimiter {
+
+    /**
+     * The number of samples after which the Vegas algorithm forgets the lowest observed latency, so that the
+     * limit follows a lasting change of the cluster latency.
+     */
+    private static final int VEGAS_PROBE_INTERVAL = 1000;
+
+    /**
+     * The outcomes of a request.
+     */
+    public enum Outcome {
+
+        /**
+         * Elasticsearch answered the request. The latency of the request adapts the limit.
+         */
+        SUCCESS,
+
+        /**
+         * The request was rejected by Elasticsearch or timed out, the limit is decreased.
+         */
+        DROPPED,
+
+        /**
+         * The request failed for a reason unrelated to the load of the cluster, the limit is left unchanged.
+         */
+        IGNORED
+    }
+
+    private final ConcurrencyLimiterConfiguration configuration;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong noLoadLatency = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicInteger samples = new AtomicInteger();
+
+    /**
+     * @param configuration The limiter configuration
+     */
+    public ConcurrencyLimiter(ConcurrencyLimiterConfiguration configuration) {
+        this.configuration = configuration;
+        this.limit = new AtomicInteger(clamp(configuration.getInitialLimit()));
+    }
+
+    /**
+     * Acquires a slot for a request.
+     *
+     * @return Whether the request can be sent. When {@code true}, {@link #release(long, Outcome)} must be called once
+     * the request completes.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the slot of a completed request and adapts the limit.
+     *
+     * @param latencyNanos The latency of the request
+     * @param outcome      The outcome of the request
+     */
+    public void release(long latencyNanos, Outcome outcome) {
+        int requests = inFlight.getAndDecrement();
+        switch (outcome) {
+            case SUCCESS -> {
+                if (configuration.getAlgorithm() == ConcurrencyLimiterConfiguration.Algorithm.VEGAS) {
+                    vegas(latencyNanos, requests);
+                } else if (latencyNanos > configuration.getLatencyThreshold().toNanos()) {
+                    decrease();
+                } else if (requests * 2 >= limit.get()) {
+                    // only grow when the limit is actually used
+                    limit.updateAndGet(current -> clamp(current + 1));
+                }
+            }
+            case DROPPED -> decrease();
+            default -> {
+                // the limit is left unchanged
+            }
+        }
+    }
+
+    /**
+     * @return The current limit of requests in flight.
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * @return The number of requests in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of requests rejected because the limit was reached.
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private void vegas(long latencyNanos, int requests) {
+        if (samples.incrementAndGet() % VEGAS_PROBE_INTERVAL == 0) {
+            noLoadLatency.set(latencyNanos);
+        }
+        long noLoad = noLoadLatency.accumulateAndGet(Math.max(1, latencyNanos), Math::min);
+        int current = limit.get();
+        double queue = current * (1 - (double) noLoad / Math.max(1, latencyNanos));
+        if (queue < configuration.getAlpha() && requests * 2 >= current) {
+            limit.compareAndSet(current, clamp(current + 1));
+        } else if (queue > configuration.getBeta()) {
+            limit.compareAndSet(current, clamp(current - 1));
+        }
+    }
+
+    private void decrease() {
+        limit.updateAndGet(current -> clamp(Math.min(current - 1, (int) (current * configuration.getBackoffRatio()))));
+    }
+
+    private int clamp(int value) {
+        return Math.max(configuration.getMinLimit(), Math.min(configuration.getMaxLimit(), value));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.limiter;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the {@link ConcurrencyLimiter}. The limiter is disabled by default.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(ConcurrencyLimiterConfiguration.PREFIX)
+public class ConcurrencyLimiterConfiguration {
+
+    /**
+     * The prefix to use for the limiter settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".limiter";
+
+    /**
+     * The property enabling the limiter.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    /**
+     * The default initial limit.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /**
+     * The default minimum limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * The default maximum limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    /**
+     * The default ratio applied to the limit when a request is dropped.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The default latency above which a request counts as dropped.
+     */
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofSeconds(5);
+
+    /**
+     * The default queue size below which the Vegas limit grows.
+     */
+    public static final int DEFAULT_ALPHA = 3;
+
+    /**
+     * The default queue size above which the Vegas limit shrinks.
+     */
+    public static final int DEFAULT_BETA = 6;
+
+    /**
+     * The algorithms adapting the limit.
+     */
+    public enum Algorithm {
+
+        /**
+         * Additive increase, multiplicative decrease: the limit grows by one per successful request and is multiplied
+         * by the backoff ratio when a request is rejected by Elasticsearch, times out or exceeds the latency threshold.
+         */
+        AIMD,
+
+        /**
+         * Vegas-style: the limit follows the queueing estimated from the ratio between the lowest observed latency
+         * and the current one, and is multiplied by the backoff ratio when a request is dropped.
+         */
+        VEGAS
+    }
+
+    private boolean enabled;
+    private Algorithm algorithm = Algorithm.AIMD;
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+    private int alpha = DEFAULT_ALPHA;
+    private int beta = DEFAULT_BETA;
+
+    /**
+     * @return Whether the limiter is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the limiter is enabled. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The algorithm adapting the limit.
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @param algorithm The algorithm adapting the limit. Default value (AIMD).
+     */
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * @return The initial limit of requests in flight.
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * @param initialLimit The initial limit of requests in flight. Default value ({@value #DEFAULT_INITIAL_LIMIT}).
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * @return The minimum limit of requests in flight.
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * @param minLimit The minimum limit of requests in flight. Default value ({@value #DEFAULT_MIN_LIMIT}).
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * @return The maximum limit of requests in flight.
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * @param maxLimit The maximum limit of requests in flight. Default value ({@value #DEFAULT_MAX_LIMIT}).
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @return The ratio applied to the limit when a request is dropped.
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * @param backoffRatio The ratio, between 0 and 1, applied to the limit when a request is dropped.
+     *                     Default value ({@value #DEFAULT_BACKOFF_RATIO}).
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * @return The latency above which a request counts as dropped.
+     */
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    /**
+     * @param latencyThreshold The latency above which a successful request counts as dropped by the AIMD algorithm.
+     *                         Default value (5s).
+     */
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    /**
+     * @return The estimated queue size below which the Vegas limit grows.
+     */
+    public int getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * @param alpha The estimated queue size below which the Vegas limit grows. Default value ({@value #DEFAULT_ALPHA}).
+     */
+    public void setAlpha(int alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * @return The estimated queue size above which the Vegas limit shrinks.
+     */
+    public int getBeta() {
+        return beta;
+    }
+
+    /**
+     * @param beta The estimated queue size above which the Vegas limit shrinks. Default value ({@value #DEFAULT_BETA}).
+     */
+    public void setBeta(int beta) {
+        this.beta = beta;
+    }
+}
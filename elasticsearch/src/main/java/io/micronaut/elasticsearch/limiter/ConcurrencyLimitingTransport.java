@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.limiter;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportException;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An {@link ElasticsearchTransport} failing fast with a {@link ConcurrencyLimitExceededException} when the
+ * {@link ConcurrencyLimiter} limit of requests in flight is reached.
+ *
+ * @since 5.7.0
+ */
+public final class ConcurrencyLimitingTransport extends DelegatingElasticsearchTransport {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * @param delegate The decorated transport
+     * @param limiter  The limiter
+     */
+    public ConcurrencyLimitingTransport(ElasticsearchTransport delegate, ConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return The limiter.
+     */
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(endpoint.id(), limiter.getLimit());
+        }
+        long start = System.nanoTime();
+        try {
+            ResponseT response = super.performRequest(request, endpoint, options);
+            limiter.release(System.nanoTime() - start, outcome(response, null));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            limiter.release(System.nanoTime() - start, outcome(null, e));
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        if (!limiter.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(endpoint.id(), limiter.getLimit()));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<ResponseT> future;
+        try {
+            future = super.performRequestAsync(request, endpoint, options);
+        } catch (RuntimeException e) {
+            limiter.release(System.nanoTime() - start, ConcurrencyLimiter.Outcome.IGNORED);
+            throw e;
+        }
+        // release on the returned future so that cancelling it still cancels the request
+        future.whenComplete((response, error) -> limiter.release(System.nanoTime() - start, outcome(response, error)));
+        return future;
+    }
+
+    /**
+     * Requests rejected by Elasticsearch with a 429 status, including the items of a bulk request, and the requests
+     * that timed out are dropped. Any other response of Elasticsearch is a success.
+     *
+     * @param response The response, if any
+     * @param error    The error, if any
+     * @return The outcome of the request
+     */
+    public static ConcurrencyLimiter.Outcome outcome(@Nullable Object response, @Nullable Throwable error) {
+        if (error == null) {
+            if (response instanceof BulkResponse bulk && bulk.errors()
+                && bulk.items().stream().anyMatch(item -> item.status() == TOO_MANY_REQUESTS)) {
+                return ConcurrencyLimiter.Outcome.DROPPED;
+            }
+            return ConcurrencyLimiter.Outcome.SUCCESS;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ElasticsearchException elasticsearchException) {
+            return elasticsearchException.status() == TOO_MANY_REQUESTS ? ConcurrencyLimiter.Outcome.DROPPED : ConcurrencyLimiter.Outcome.SUCCESS;
+        }
+        if (cause instanceof TransportException transportException && transportException.statusCode() == TOO_MANY_REQUESTS) {
+            return ConcurrencyLimiter.Outcome.DROPPED;
+        }
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            // socket, connect and connection pool timeouts
+            if (t instanceof InterruptedIOException) {
+                return ConcurrencyLimiter.Outcome.DROPPED;
+            }
+        }
+        return ConcurrencyLimiter.Outcome.IGNORED;
+    }
+}
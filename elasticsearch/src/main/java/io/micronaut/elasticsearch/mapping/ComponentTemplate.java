@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a component template whose mappings are computed at compilation from the properties of the annotated
+ * class, to be shared by the {@link IndexTemplate#composedOf()} index templates. The template is put at startup when
+ * {@code elasticsearch.templates.enabled} is set.
+ *
+ * @since 5.7.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Introspected
+public @interface ComponentTemplate {
+
+    /**
+     * @return The name of the template
+     */
+    String value();
+
+    /**
+     * @return How the fields missing from the mapping are handled
+     */
+    DynamicMapping dynamic() default DynamicMapping.FALSE;
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+/**
+ * How the fields missing from the mapping are handled.
+ *
+ * @since 5.7.0
+ */
+public enum DynamicMapping {
+
+    /**
+     * The new fields are added to the mapping.
+     */
+    TRUE,
+
+    /**
+     * The new fields are kept in the source but neither indexed nor added to the mapping.
+     */
+    FALSE,
+
+    /**
+     * A document with a new field is rejected.
+     */
+    STRICT,
+
+    /**
+     * The new fields are added to the mapping as runtime fields, which are not indexed.
+     */
+    RUNTIME;
+
+    /**
+     * @return The value of the {@code dynamic} mapping parameter
+     */
+    public String toJson() {
+        return name().toLowerCase();
+    }
+}
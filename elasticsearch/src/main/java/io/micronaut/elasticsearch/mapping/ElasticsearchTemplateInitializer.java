@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puts the {@link ComponentTemplate} and then the {@link IndexTemplate} templates at startup. The bodies of the
+ * templates are computed at compilation, so no document class is inspected at runtime. A template is only put when
+ * its version, a checksum of its body, differs from the version of the template in the cluster, which makes the
+ * startup idempotent.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+@Requires(property = TemplatesConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class ElasticsearchTemplateInitializer implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchTemplateInitializer.class);
+
+    private static final int NOT_FOUND = 404;
+
+    private final ElasticsearchClient client;
+    private final TemplatesConfiguration configuration;
+
+    /**
+     * @param client        The client
+     * @param configuration The templates configuration
+     */
+    public ElasticsearchTemplateInitializer(ElasticsearchClient client, TemplatesConfiguration configuration) {
+        this.client = client;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        apply();
+    }
+
+    /**
+     * Puts the templates missing from the cluster or whose version changed.
+     *
+     * @return The names of the templates put
+     */
+    public List<String> apply() {
+        List<String> put = new ArrayList<>();
+        for (BeanIntrospection<Object> introspection : BeanIntrospector.SHARED.findIntrospections(ComponentTemplate.class)) {
+            apply(introspection, ComponentTemplate.class, put);
+        }
+        for (BeanIntrospection<Object> introspection : BeanIntrospector.SHARED.findIntrospections(IndexTemplate.class)) {
+            apply(introspection, IndexTemplate.class, put);
+        }
+        return put;
+    }
+
+    private void apply(BeanIntrospection<Object> introspection, Class<? extends Annotation> kind, List<String> put) {
+        String name = introspection.stringValue(kind).orElseThrow();
+        Optional<String> body = introspection.stringValue(TemplateMapping.class);
+        if (body.isEmpty()) {
+            LOG.warn("The template {} of {} was not processed at compilation, add micronaut-elasticsearch-processor to the annotation processors",
+                name, introspection.getBeanType().getName());
+            return;
+        }
+        long version = introspection.longValue(TemplateMapping.class, "version").orElse(0);
+        boolean component = kind == ComponentTemplate.class;
+        try {
+            Long current = component ? componentTemplateVersion(name) : indexTemplateVersion(name);
+            if (current != null && current == version) {
+                LOG.debug("The template {} is up to date with version {}", name, version);
+                return;
+            }
+            if (component) {
+                client.cluster().putComponentTemplate(p -> p.withJson(new StringReader(body.get())).name(name));
+            } else {
+                client.indices().putIndexTemplate(p -> p.withJson(new StringReader(body.get())).name(name));
+            }
+            put.add(name);
+            LOG.info("Put the template {} with version {} replacing version {}", name, version, current);
+        } catch (IOException e) {
+            failed(name, new UncheckedIOException(e));
+        } catch (ElasticsearchException e) {
+            failed(name, e);
+        }
+    }
+
+    private void failed(String name, RuntimeException e) {
+        if (configuration.isFailOnError()) {
+            throw e;
+        }
+        LOG.error("Failed to put the template {}", name, e);
+    }
+
+    private @Nullable Long indexTemplateVersion(String name) throws IOException {
+        try {
+            return client.indices().getIndexTemplate(g -> g.name(name)).indexTemplates().stream()
+                .findFirst()
+                .map(item -> item.indexTemplate().version())
+                .orElse(null);
+        } catch (ElasticsearchException e) {
+            if (e.status() == NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private @Nullable Long componentTemplateVersion(String name) throws IOException {
+        try {
+            return client.cluster().getComponentTemplate(g -> g.name(name)).componentTemplates().stream()
+                .findFirst()
+                .map(item -> item.componentTemplate().version())
+                .orElse(null);
+        } catch (ElasticsearchException e) {
+            if (e.status() == NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The mapping of a property of a document class annotated with {@link IndexTemplate} or {@link ComponentTemplate}.
+ * The properties without this annotation are mapped with the type inferred from their Java type.
+ *
+ * @since 5.7.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Field {
+
+    /**
+     * @return The type of the field, inferred from the Java type by default
+     */
+    FieldType type() default FieldType.AUTO;
+
+    /**
+     * @return Whether the field is searchable. A field that is only returned in the source should not be indexed.
+     */
+    boolean index() default true;
+
+    /**
+     * @return Whether the field is stored in doc values, which are needed to sort and aggregate on it. Text, object and
+     * nested fields have none to disable
+     */
+    boolean docValues() default true;
+
+    /**
+     * @return Whether a text field has a {@code keyword} sub-field, to also sort, aggregate and match it exactly
+     */
+    boolean keyword() default false;
+
+    /**
+     * @return The strings longer than this are not indexed by a keyword field, or -1 for no limit
+     */
+    int ignoreAbove() default -1;
+
+    /**
+     * @return The analyzer of a text field, or empty for the default one
+     */
+    String analyzer() default "";
+
+    /**
+     * @return The format of a date field, or empty for the default one
+     */
+    String format() default "";
+
+    /**
+     * @return The factor a scaled float field is multiplied by before being stored, e.g. 100 for two decimals
+     */
+    double scalingFactor() default 0;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+/**
+ * The type of a field in the mapping.
+ *
+ * @since 5.7.0
+ */
+public enum FieldType {
+
+    /**
+     * The type is inferred from the Java type of the property.
+     */
+    AUTO,
+    TEXT,
+    KEYWORD,
+    WILDCARD,
+    LONG,
+    /**
+     * A long between 0 and 2<sup>64</sup>-1, e.g. for a {@link java.math.BigInteger} that is never negative.
+     */
+    UNSIGNED_LONG,
+    INTEGER,
+    SHORT,
+    BYTE,
+    DOUBLE,
+    FLOAT,
+    HALF_FLOAT,
+    /**
+     * A decimal stored as a long scaled by the {@link Field#scalingFactor()}, e.g. for a {@link java.math.BigDecimal}
+     * with a fixed number of decimals.
+     */
+    SCALED_FLOAT,
+    BOOLEAN,
+    DATE,
+    BINARY,
+    IP,
+    GEO_POINT,
+    OBJECT,
+    NESTED,
+    FLATTENED;
+
+    /**
+     * @return The name of the type in the mapping
+     */
+    public String toJson() {
+        return name().toLowerCase();
+    }
+}
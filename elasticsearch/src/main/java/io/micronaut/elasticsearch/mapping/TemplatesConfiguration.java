@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+/**
+ * Configurations of the {@link ElasticsearchTemplateInitializer}.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(TemplatesConfiguration.PREFIX)
+public class TemplatesConfiguration {
+
+    /**
+     * The prefix to use for the template settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".templates";
+
+    /**
+     * The property enabling the templates.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    private boolean enabled;
+    private boolean failOnError = true;
+
+    /**
+     * @return Whether the templates are put at startup.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the {@link IndexTemplate} and {@link ComponentTemplate} templates are put at startup.
+     *                Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether a template that can't be put fails the startup.
+     */
+    public boolean isFailOnError() {
+        return failOnError;
+    }
+
+    /**
+     * @param failOnError Whether a template that can't be put fails the startup, otherwise the error is logged.
+     *                    Default value (true).
+     */
+    public void setFailOnError(boolean failOnError) {
+        this.failOnError = failOnError;
+    }
+}
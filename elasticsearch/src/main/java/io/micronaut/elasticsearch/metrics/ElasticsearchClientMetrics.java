@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.metrics;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.TransportException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.ElasticsearchConnectionPool;
+import io.micronaut.elasticsearch.cache.DefaultSearchResponseCache;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimiter;
+import io.micronaut.elasticsearch.ssl.TlsHandshakeListener;
+import io.micronaut.elasticsearch.transport.RequestCompressionListener;
+import jakarta.inject.Singleton;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.protocol.HttpCoreContext;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the metrics of the Elasticsearch client.
+ *
+ * <ul>
+ *     <li>{@code elasticsearch.client.requests}: timer per endpoint, outcome and exception</li>
+ *     <li>{@code elasticsearch.client.errors}: counter per endpoint, HTTP status and exception</li>
+ *     <li>{@code elasticsearch.client.request.size} and {@code elasticsearch.client.response.size}: payload
+ *     sizes per HTTP method</li>
+ *     <li>{@code elasticsearch.client.compression.ratio} and {@code elasticsearch.client.compression.saved}: ratio
+ *     between the uncompressed and compressed sizes, and bytes saved, of the compressed request bodies</li>
+ *     <li>{@code elasticsearch.client.pool.leased}, {@code elasticsearch.client.pool.pending} and
+ *     {@code elasticsearch.client.pool.available}: connections in use, requests waiting for a connection and idle
+ *     connections of the connection pool, per cluster</li>
+ *     <li>{@code elasticsearch.client.limiter.limit}, {@code elasticsearch.client.limiter.in-flight} and
+ *     {@code elasticsearch.client.limiter.rejections}: current limit, requests in flight and requests rejected by
+ *     the {@link ConcurrencyLimiter}</li>
+ *     <li>{@code elasticsearch.client.tls.handshakes}: timer of the TLS handshakes per protocol and whether the
+ *     session was resumed</li>
+ *     <li>{@code cache.gets}, {@code cache.puts}, {@code cache.evictions} and {@code cache.size} tagged with
+ *     {@code cache=elasticsearch-search}: hits, misses and evictions of the search response cache</li>
+ * </ul>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class ElasticsearchClientMetrics implements RequestCompressionListener, TlsHandshakeListener {
+
+    /**
+     * The prefix of the meter names.
+     */
+    public static final String METRIC_PREFIX = "elasticsearch.client";
+
+    static final String INDEX_TAG = "index";
+
+    private static final String CLUSTER_TAG = "cluster";
+
+    private static final String SEARCH_CACHE_NAME = "elasticsearch-search";
+
+    private static final String NONE = "none";
+
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+    private final ElasticsearchMetricsConfiguration configuration;
+
+    /**
+     * @param meterRegistryProvider The meter registry provider
+     * @param configuration         The metrics configuration
+     */
+    public ElasticsearchClientMetrics(BeanProvider<MeterRegistry> meterRegistryProvider,
+                                      ElasticsearchMetricsConfiguration configuration) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return The metrics configuration.
+     */
+    public ElasticsearchMetricsConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Registers the interceptors recording the payload sizes.
+     *
+     * @param builder The builder of the HTTP client
+     * @return The builder
+     */
+    public HttpAsyncClientBuilder instrument(HttpAsyncClientBuilder builder) {
+        return builder
+            .addInterceptorLast((HttpRequestInterceptor) (request, context) -> {
+                if (request instanceof HttpEntityEnclosingRequest enclosingRequest) {
+                    HttpEntity entity = enclosingRequest.getEntity();
+                    if (entity != null && entity.getContentLength() >= 0) {
+                        payloadSize("request", request).record(entity.getContentLength());
+                    }
+                }
+            })
+            .addInterceptorLast((HttpResponseInterceptor) (response, context) -> {
+                Header contentLength = response.getFirstHeader(HttpHeaders.CONTENT_LENGTH);
+                HttpRequest request = HttpCoreContext.adapt(context).getRequest();
+                if (contentLength != null && request != null) {
+                    try {
+                        payloadSize("response", request).record(Long.parseLong(contentLength.getValue()));
+                    } catch (NumberFormatException e) {
+                        // ignore an invalid header
+                    }
+                }
+            });
+    }
+
+    /**
+     * Decorates the transport to record the requests.
+     *
+     * @param transport The transport
+     * @return The instrumented transport
+     */
+    public ElasticsearchTransport instrument(ElasticsearchTransport transport) {
+        return new InstrumentedElasticsearchTransport(transport, this);
+    }
+
+    /**
+     * Registers the gauges of the connection pool, tagged with the name of its cluster.
+     *
+     * @param connectionPool The connection pool
+     * @return The connection pool
+     */
+    public ElasticsearchConnectionPool instrument(ElasticsearchConnectionPool connectionPool) {
+        MeterRegistry meterRegistry = meterRegistryProvider.get();
+        Gauge.builder(METRIC_PREFIX + ".pool.leased", connectionPool, pool -> pool.getTotalStats().getLeased())
+            .description("The connections leased from the pool")
+            .tag(CLUSTER_TAG, connectionPool.getCluster())
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.pending", connectionPool, pool -> pool.getTotalStats().getPending())
+            .description("The requests waiting for a connection")
+            .tag(CLUSTER_TAG, connectionPool.getCluster())
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pool.available", connectionPool, pool -> pool.getTotalStats().getAvailable())
+            .description("The idle connections kept alive in the pool")
+            .tag(CLUSTER_TAG, connectionPool.getCluster())
+            .register(meterRegistry);
+        return connectionPool;
+    }
+
+    /**
+     * Registers the gauges of the limit and of the requests in flight, and the counter of the rejected requests.
+     *
+     * @param limiter The limiter
+     * @return The limiter
+     */
+    public ConcurrencyLimiter instrument(ConcurrencyLimiter limiter) {
+        MeterRegistry meterRegistry = meterRegistryProvider.get();
+        Gauge.builder(METRIC_PREFIX + ".limiter.limit", limiter, ConcurrencyLimiter::getLimit)
+            .description("The adaptive limit of requests in flight")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".limiter.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+            .description("The requests in flight counted by the limiter")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + ".limiter.rejections", limiter, ConcurrencyLimiter::getRejected)
+            .description("The requests rejected because the limit was reached")
+            .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * Registers the hit, miss and eviction meters of the search response cache.
+     *
+     * @param cache The cache
+     * @return The cache
+     */
+    public DefaultSearchResponseCache instrument(DefaultSearchResponseCache cache) {
+        CaffeineCacheMetrics.monitor(meterRegistryProvider.get(), cache.getNativeCache(), SEARCH_CACHE_NAME);
+        return cache;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param endpoint      The endpoint name
+     * @param index         The target index, if tagged
+     * @param durationNanos The duration of the request
+     * @param error         The error, if the request failed
+     */
+    void requestCompleted(String endpoint, @Nullable String index, long durationNanos, @Nullable Throwable error) {
+        MeterRegistry meterRegistry = meterRegistryProvider.get();
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String exception = cause == null ? NONE : cause.getClass().getSimpleName();
+        Timer.Builder timer = Timer.builder(METRIC_PREFIX + ".requests")
+            .description("The requests sent to Elasticsearch")
+            .tag("endpoint", endpoint)
+            .tag("outcome", cause == null ? "success" : "error")
+            .tag("exception", exception)
+            .publishPercentileHistogram(configuration.isHistogram());
+        if (index != null) {
+            timer.tag(INDEX_TAG, index);
+        }
+        timer.register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (cause != null) {
+            Counter.builder(METRIC_PREFIX + ".errors")
+                .description("The failed requests")
+                .tag("endpoint", endpoint)
+                .tag("status", status(cause))
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    @Override
+    public void onRequestCompressed(String endpointId, long uncompressedBytes, long compressedBytes) {
+        if (compressedBytes <= 0) {
+            return;
+        }
+        MeterRegistry meterRegistry = meterRegistryProvider.get();
+        String endpoint = InstrumentedElasticsearchTransport.endpointName(endpointId);
+        DistributionSummary.builder(METRIC_PREFIX + ".compression.ratio")
+            .description("The ratio between the uncompressed and compressed sizes of the request bodies")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .record((double) uncompressedBytes / compressedBytes);
+        Counter.builder(METRIC_PREFIX + ".compression.saved")
+            .description("The bytes saved by compressing the request bodies")
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .register(meterRegistry)
+            .increment(Math.max(0, uncompressedBytes - compressedBytes));
+    }
+
+    @Override
+    public void onHandshake(String host, String protocol, boolean resumed, long durationNanos) {
+        Timer.builder(METRIC_PREFIX + ".tls.handshakes")
+            .description("The TLS handshakes with the nodes")
+            .tag("protocol", protocol)
+            .tag("resumed", String.valueOf(resumed))
+            .register(meterRegistryProvider.get())
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary payloadSize(String type, HttpRequest request) {
+        return DistributionSummary.builder(METRIC_PREFIX + "." + type + ".size")
+            .description("The size of the " + type + " bodies")
+            .baseUnit("bytes")
+            .tag("method", request.getRequestLine().getMethod())
+            .publishPercentileHistogram(configuration.isHistogram())
+            .register(meterRegistryProvider.get());
+    }
+
+    private static String status(Throwable error) {
+        if (error instanceof ElasticsearchException elasticsearchException) {
+            return String.valueOf(elasticsearchException.status());
+        }
+        if (error instanceof TransportException transportException) {
+            return String.valueOf(transportException.statusCode());
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.metrics;
+
+import io.micronaut.configuration.metrics.micrometer.MeterRegistryFactory;
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Configurations of the Elasticsearch client metrics.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(ElasticsearchMetricsConfiguration.PREFIX)
+public class ElasticsearchMetricsConfiguration {
+
+    /**
+     * The prefix to use for the Elasticsearch metrics settings.
+     */
+    public static final String PREFIX = MeterRegistryFactory.MICRONAUT_METRICS_BINDERS + ".elasticsearch";
+
+    /**
+     * The default maximum number of distinct index tag values.
+     */
+    public static final int DEFAULT_MAX_INDEX_TAGS = 100;
+
+    private boolean enabled = true;
+    private boolean indexTag;
+    private int maxIndexTags = DEFAULT_MAX_INDEX_TAGS;
+    private boolean histogram;
+
+    /**
+     * @return Whether the Elasticsearch client metrics are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the Elasticsearch client metrics are enabled. Default value (true).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return Whether the request timers are tagged with the target index.
+     */
+    public boolean isIndexTag() {
+        return indexTag;
+    }
+
+    /**
+     * @param indexTag Whether the request timers are tagged with the target index. Default value (false).
+     */
+    public void setIndexTag(boolean indexTag) {
+        this.indexTag = indexTag;
+    }
+
+    /**
+     * @return The maximum number of distinct index tag values.
+     */
+    public int getMaxIndexTags() {
+        return maxIndexTags;
+    }
+
+    /**
+     * Sets the maximum number of distinct index tag values. Meters with additional index values are not registered.
+     * Default value ({@value #DEFAULT_MAX_INDEX_TAGS}).
+     *
+     * @param maxIndexTags The maximum number of distinct index tag values.
+     */
+    public void setMaxIndexTags(int maxIndexTags) {
+        this.maxIndexTags = maxIndexTags;
+    }
+
+    /**
+     * @return Whether percentile histograms are published for the timers and payload sizes.
+     */
+    public boolean isHistogram() {
+        return histogram;
+    }
+
+    /**
+     * @param histogram Whether percentile histograms are published for the timers and payload sizes.
+     *                  Default value (false).
+     */
+    public void setHistogram(boolean histogram) {
+        this.histogram = histogram;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.metrics;
+
+import co.elastic.clients.transport.ElasticsearchTransport;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.elasticsearch.ElasticsearchConnectionPool;
+import io.micronaut.elasticsearch.cache.DefaultSearchResponseCache;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimiter;
+import jakarta.inject.Singleton;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+
+/**
+ * Registers the listeners instrumenting the HTTP client, the connection pools, the transport, the limiter and the
+ * search response cache, and the filter limiting the number of index tag values.
+ *
+ * @since 5.7.0
+ */
+@Factory
+public class ElasticsearchMetricsListeners {
+
+    /**
+     * @param metrics The metrics
+     * @return The listener instrumenting the {@link HttpAsyncClientBuilder}
+     */
+    @Singleton
+    BeanCreatedEventListener<HttpAsyncClientBuilder> httpAsyncClientBuilderMetricsListener(ElasticsearchClientMetrics metrics) {
+        return (BeanCreatedEvent<HttpAsyncClientBuilder> event) -> metrics.instrument(event.getBean());
+    }
+
+    /**
+     * @param metrics The metrics
+     * @return The listener instrumenting the {@link ElasticsearchConnectionPool} of each cluster
+     */
+    @Singleton
+    BeanCreatedEventListener<ElasticsearchConnectionPool> connectionPoolMetricsListener(ElasticsearchClientMetrics metrics) {
+        return (BeanCreatedEvent<ElasticsearchConnectionPool> event) -> metrics.instrument(event.getBean());
+    }
+
+    /**
+     * @param metrics The metrics
+     * @return The listener instrumenting the {@link ElasticsearchTransport}
+     */
+    @Singleton
+    BeanCreatedEventListener<ElasticsearchTransport> elasticsearchTransportMetricsListener(ElasticsearchClientMetrics metrics) {
+        return (BeanCreatedEvent<ElasticsearchTransport> event) -> metrics.instrument(event.getBean());
+    }
+
+    /**
+     * @param metrics The metrics
+     * @return The listener instrumenting the {@link ConcurrencyLimiter}
+     */
+    @Singleton
+    BeanCreatedEventListener<ConcurrencyLimiter> concurrencyLimiterMetricsListener(ElasticsearchClientMetrics metrics) {
+        return (BeanCreatedEvent<ConcurrencyLimiter> event) -> metrics.instrument(event.getBean());
+    }
+
+    /**
+     * @param metrics The metrics
+     * @return The listener instrumenting the {@link DefaultSearchResponseCache}
+     */
+    @Singleton
+    @Requires(classes = Caffeine.class)
+    BeanCreatedEventListener<DefaultSearchResponseCache> searchResponseCacheMetricsListener(ElasticsearchClientMetrics metrics) {
+        return (BeanCreatedEvent<DefaultSearchResponseCache> event) -> metrics.instrument(event.getBean());
+    }
+
+    /**
+     * @param configuration The metrics configuration
+     * @return The filter denying the meters above the maximum number of index tag values
+     */
+    @Bean
+    @Singleton
+    MeterFilter elasticsearchIndexTagFilter(ElasticsearchMetricsConfiguration configuration) {
+        return MeterFilter.maximumAllowableTags(ElasticsearchClientMetrics.METRIC_PREFIX, ElasticsearchClientMetrics.INDEX_TAG,
+            configuration.getMaxIndexTags(), MeterFilter.deny());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.metrics;
+
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ElasticsearchTransport} recording the requests with {@link ElasticsearchClientMetrics}.
+ *
+ * @since 5.7.0
+ */
+public final class InstrumentedElasticsearchTransport extends DelegatingElasticsearchTransport {
+
+    private static final String ENDPOINT_PREFIX = "es/";
+
+    private final ElasticsearchClientMetrics metrics;
+
+    /**
+     * @param delegate The decorated transport
+     * @param metrics  The metrics
+     */
+    public InstrumentedElasticsearchTransport(ElasticsearchTransport delegate, ElasticsearchClientMetrics metrics) {
+        super(delegate);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        long start = System.nanoTime();
+        try {
+            ResponseT response = super.performRequest(request, endpoint, options);
+            metrics.requestCompleted(endpointName(endpoint), index(request, endpoint), System.nanoTime() - start, null);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            metrics.requestCompleted(endpointName(endpoint), index(request, endpoint), System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        long start = System.nanoTime();
+        CompletableFuture<ResponseT> future;
+        try {
+            future = super.performRequestAsync(request, endpoint, options);
+        } catch (RuntimeException e) {
+            metrics.requestCompleted(endpointName(endpoint), index(request, endpoint), System.nanoTime() - start, e);
+            throw e;
+        }
+        // record on the returned future so that cancelling it still cancels the request
+        future.whenComplete((response, error) ->
+            metrics.requestCompleted(endpointName(endpoint), index(request, endpoint), System.nanoTime() - start, error));
+        return future;
+    }
+
+    static String endpointName(String endpointId) {
+        return endpointId.startsWith(ENDPOINT_PREFIX) ? endpointId.substring(ENDPOINT_PREFIX.length()) : endpointId;
+    }
+
+    private static String endpointName(Endpoint<?, ?, ?> endpoint) {
+        return endpointName(endpoint.id());
+    }
+
+    private <RequestT> String index(RequestT request, Endpoint<RequestT, ?, ?> endpoint) {
+        if (!metrics.getConfiguration().isIndexTag()) {
+            return null;
+        }
+        String url = endpoint.requestUrl(request);
+        int start = url.startsWith("/") ? 1 : 0;
+        int end = url.indexOf('/', start);
+        String index = end < 0 ? url.substring(start) : url.substring(start, end);
+        return index.isEmpty() || index.startsWith("_") ? null : index;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Micrometer metrics of the Elasticsearch client, enabled when Micronaut Micrometer is on the classpath.
+ *
+ * @since 5.7.0
+ */
+@Configuration
+@RequiresElasticsearch
+@RequiresMetrics
+@Requires(classes = MeterRegistry.class)
+@Requires(property = ElasticsearchMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+package io.micronaut.elasticsearch.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.metrics.annotation.RequiresMetrics;
+import io.micronaut.context.annotation.Configuration;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.elasticsearch.conditon.RequiresElasticsearch;
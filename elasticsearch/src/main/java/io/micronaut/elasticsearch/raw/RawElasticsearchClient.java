@@ -0,0 +1,310 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.util.ObjectBuilder;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.DefaultElasticsearchConfigurationProperties;
+import io.micronaut.elasticsearch.deadline.Deadline;
+import io.micronaut.elasticsearch.deadline.DeadlineConfigurationProperties;
+import io.micronaut.elasticsearch.deadline.DeadlineExceededException;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimitExceededException;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimiter;
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimitingTransport;
+import io.micronaut.elasticsearch.transport.ResponseFutures;
+import jakarta.inject.Singleton;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Sends searches and gets whose responses are kept as the JSON returned by Elasticsearch, to forward the documents to
+ * HTTP clients without mapping them to objects and serializing them again. The requests are built with the builders of
+ * the Java API client and sent with the low-level {@link RestClient}, so they bypass the transport decorators: the
+ * retries, the metrics, the request compression, the default transport options and the search response cache don't
+ * apply. The {@link Deadline} of the current propagated context and the {@link ConcurrencyLimiter}, when enabled, do.
+ *
+ * <p>The response entity is read once into a byte array, and the hits and their {@code _source} are views of it.</p>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class RawElasticsearchClient {
+
+    private static final String IGNORE = "ignore";
+    private static final String NOT_FOUND = "404";
+
+    private static final String TIMEOUT = "timeout";
+
+    private final RestClient restClient;
+    private final JsonpMapper jsonpMapper;
+    private final RequestConfig requestConfig;
+    private final Duration serverTimeoutMargin;
+    private final ConcurrencyLimiter limiter;
+
+    /**
+     * @param restClient                 The low-level client
+     * @param jsonpMapper                The mapper serializing the requests
+     * @param elasticsearchConfiguration The configuration of the default cluster
+     * @param deadline                   The deadline configuration
+     * @param limiter                    The {@link ConcurrencyLimiter}, if enabled
+     */
+    public RawElasticsearchClient(RestClient restClient,
+                                  JsonpMapper jsonpMapper,
+                                  DefaultElasticsearchConfigurationProperties elasticsearchConfiguration,
+                                  DeadlineConfigurationProperties deadline,
+                                  @Nullable ConcurrencyLimiter limiter) {
+        this.restClient = restClient;
+        this.jsonpMapper = jsonpMapper;
+        this.requestConfig = elasticsearchConfiguration.getRequestConfigBuilder().build();
+        this.serverTimeoutMargin = deadline.getServerTimeoutMargin();
+        this.limiter = limiter;
+    }
+
+    /**
+     * @param request The search
+     * @return The raw response
+     * @throws IOException If the request fails
+     */
+    public RawSearchResponse search(SearchRequest request) throws IOException {
+        return ResponseFutures.await(searchAsync(request), SearchRequest._ENDPOINT.id());
+    }
+
+    /**
+     * @param fn The function building the search
+     * @return The raw response
+     * @throws IOException If the request fails
+     */
+    public RawSearchResponse search(Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> fn) throws IOException {
+        return search(fn.apply(new SearchRequest.Builder()).build());
+    }
+
+    /**
+     * @param request The search
+     * @return The raw response. Cancelling the future aborts the request.
+     */
+    public CompletableFuture<RawSearchResponse> searchAsync(SearchRequest request) {
+        Request lowLevelRequest = new Request("POST", SearchRequest._ENDPOINT.requestUrl(request));
+        lowLevelRequest.addParameters(SearchRequest._ENDPOINT.queryParameters(request));
+        lowLevelRequest.setEntity(new StringEntity(serialize(request), ContentType.APPLICATION_JSON));
+        // the timeout of a search is sent in its body, which the parameter would override
+        return perform(lowLevelRequest, SearchRequest._ENDPOINT.id(), request.timeout() == null, RawResponseParser::search);
+    }
+
+    /**
+     * @param fn The function building the search
+     * @return The raw response. Cancelling the future aborts the request.
+     */
+    public CompletableFuture<RawSearchResponse> searchAsync(Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> fn) {
+        return searchAsync(fn.apply(new SearchRequest.Builder()).build());
+    }
+
+    /**
+     * @param request The get
+     * @return The raw response, not found when the document does not exist
+     * @throws IOException If the request fails
+     */
+    public RawGetResponse get(GetRequest request) throws IOException {
+        return ResponseFutures.await(getAsync(request), GetRequest._ENDPOINT.id());
+    }
+
+    /**
+     * @param fn The function building the get
+     * @return The raw response, not found when the document does not exist
+     * @throws IOException If the request fails
+     */
+    public RawGetResponse get(Function<GetRequest.Builder, ObjectBuilder<GetRequest>> fn) throws IOException {
+        return get(fn.apply(new GetRequest.Builder()).build());
+    }
+
+    /**
+     * @param request The get
+     * @return The raw response, not found when the document does not exist. Cancelling the future aborts the request.
+     */
+    public CompletableFuture<RawGetResponse> getAsync(GetRequest request) {
+        Request lowLevelRequest = new Request("GET", GetRequest._ENDPOINT.requestUrl(request));
+        lowLevelRequest.addParameters(GetRequest._ENDPOINT.queryParameters(request));
+        // a missing document is a 404 with a body, a missing index is a 404 with an error
+        lowLevelRequest.addParameter(IGNORE, NOT_FOUND);
+        return perform(lowLevelRequest, GetRequest._ENDPOINT.id(), false, RawResponseParser::get);
+    }
+
+    /**
+     * @param fn The function building the get
+     * @return The raw response, not found when the document does not exist. Cancelling the future aborts the request.
+     */
+    public CompletableFuture<RawGetResponse> getAsync(Function<GetRequest.Builder, ObjectBuilder<GetRequest>> fn) {
+        return getAsync(fn.apply(new GetRequest.Builder()).build());
+    }
+
+    private <T> CompletableFuture<T> perform(Request request, String endpointId, boolean serverTimeout, BodyParser<T> parser) {
+        Deadline deadline = Deadline.current().orElse(null);
+        if (deadline != null) {
+            if (deadline.isExpired()) {
+                return CompletableFuture.failedFuture(new DeadlineExceededException(endpointId, deadline.isCancelled()));
+            }
+            request.setOptions(request.getOptions().toBuilder().setRequestConfig(deadline.bound(requestConfig)));
+            if (serverTimeout && !request.getParameters().containsKey(TIMEOUT)) {
+                request.addParameter(TIMEOUT, deadline.serverTimeout(serverTimeoutMargin));
+            }
+        }
+        if (limiter != null && !limiter.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(endpointId, limiter.getLimit()));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> future = send(request, endpointId, parser);
+        if (limiter != null) {
+            future.whenComplete((response, error) ->
+                limiter.release(System.nanoTime() - start, ConcurrencyLimitingTransport.outcome(response, error)));
+        }
+        return deadline != null ? deadline.bind(future, endpointId) : future;
+    }
+
+    private <T> CompletableFuture<T> send(Request request, String endpointId, BodyParser<T> parser) {
+        CancellableFuture<T> future = new CancellableFuture<>();
+        Cancellable cancellable;
+        try {
+            cancellable = restClient.performRequestAsync(request, new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    try {
+                        byte[] body = body(response.getEntity());
+                        if (response.getStatusLine().getStatusCode() >= 300 && RawResponseParser.isError(body)) {
+                            future.completeExceptionally(error(endpointId, body));
+                        } else {
+                            future.complete(parser.parse(body));
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        future.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    if (exception instanceof ResponseException responseException) {
+                        try {
+                            byte[] body = body(responseException.getResponse().getEntity());
+                            if (RawResponseParser.isError(body)) {
+                                future.completeExceptionally(error(endpointId, body));
+                                return;
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            exception.addSuppressed(e);
+                        }
+                    }
+                    future.completeExceptionally(exception);
+                }
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        future.setCancellable(cancellable);
+        return future;
+    }
+
+    private String serialize(SearchRequest request) {
+        StringWriter body = new StringWriter();
+        try (JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(body)) {
+            request.serialize(generator, jsonpMapper);
+        }
+        return body.toString();
+    }
+
+    private ElasticsearchException error(String endpointId, byte[] body) {
+        try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(body))) {
+            return new ElasticsearchException(endpointId, ErrorResponse._DESERIALIZER.deserialize(parser, jsonpMapper));
+        }
+    }
+
+    private static byte[] body(@Nullable HttpEntity entity) throws IOException {
+        return entity == null ? new byte[0] : EntityUtils.toByteArray(entity);
+    }
+
+    /**
+     * Parses the body of a successful response.
+     *
+     * @param <T> The type of the response
+     */
+    @FunctionalInterface
+    private interface BodyParser<T> {
+        T parse(byte[] body) throws IOException;
+    }
+
+    /**
+     * A future aborting its request when cancelled, or when completed with a {@link CancellationException}.
+     *
+     * @param <T> The type of the response
+     */
+    private static final class CancellableFuture<T> extends CompletableFuture<T> {
+
+        private volatile Cancellable cancellable;
+
+        void setCancellable(Cancellable cancellable) {
+            this.cancellable = cancellable;
+            if (isCancelled()) {
+                cancellable.cancel();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                abort();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable ex) {
+            boolean completed = super.completeExceptionally(ex);
+            if (completed && ex instanceof CancellationException) {
+                abort();
+            }
+            return completed;
+        }
+
+        private void abort() {
+            Cancellable current = cancellable;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The response of a get kept as the JSON returned by Elasticsearch. The {@code _source} is a read-only view of the
+ * response body, it is not copied.
+ *
+ * @since 5.7.0
+ */
+public final class RawGetResponse {
+
+    private final byte[] body;
+    private final String index;
+    private final String id;
+    private final boolean found;
+    private final Long version;
+    private final int sourceStart;
+    private final int sourceEnd;
+
+    RawGetResponse(byte[] body, @Nullable String index, @Nullable String id, boolean found, @Nullable Long version,
+                   int sourceStart, int sourceEnd) {
+        this.body = body;
+        this.index = index;
+        this.id = id;
+        this.found = found;
+        this.version = version;
+        this.sourceStart = sourceStart;
+        this.sourceEnd = sourceEnd;
+    }
+
+    /**
+     * @return The JSON of the whole response
+     */
+    public ByteBuffer body() {
+        return RawSearchResponse.slice(body, 0, body.length);
+    }
+
+    /**
+     * @return The index of the document
+     */
+    public @Nullable String index() {
+        return index;
+    }
+
+    /**
+     * @return The id of the document
+     */
+    public @Nullable String id() {
+        return id;
+    }
+
+    /**
+     * @return Whether the document exists
+     */
+    public boolean found() {
+        return found;
+    }
+
+    /**
+     * @return The version of the document, if found
+     */
+    public @Nullable Long version() {
+        return version;
+    }
+
+    /**
+     * @return The JSON of the {@code _source}, or {@code null} when the document is not found or its source is not
+     * returned
+     */
+    public @Nullable ByteBuffer source() {
+        return sourceStart < 0 ? null : RawSearchResponse.slice(body, sourceStart, sourceEnd);
+    }
+
+    /**
+     * @return A copy of the JSON of the {@code _source}, or {@code null} when the document is not found or its source
+     * is not returned
+     */
+    public @Nullable byte[] sourceAsBytes() {
+        if (sourceStart < 0) {
+            return null;
+        }
+        byte[] source = new byte[sourceEnd - sourceStart];
+        System.arraycopy(body, sourceStart, source, 0, source.length);
+        return source;
+    }
+
+    /**
+     * Writes the JSON of the {@code _source}, if any.
+     *
+     * @param out The stream
+     * @throws IOException If the stream fails
+     */
+    public void writeSourceTo(OutputStream out) throws IOException {
+        if (sourceStart >= 0) {
+            out.write(body, sourceStart, sourceEnd - sourceStart);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A hit of a {@link RawSearchResponse}. The JSON of the hit and of its {@code _source} are read-only views of the
+ * response body, they are not copied.
+ *
+ * @since 5.7.0
+ */
+public final class RawHit {
+
+    private final byte[] body;
+    private final String index;
+    private final String id;
+    private final Double score;
+    private final int start;
+    private final int end;
+    private final int sourceStart;
+    private final int sourceEnd;
+
+    RawHit(byte[] body, @Nullable String index, @Nullable String id, @Nullable Double score,
+           int start, int end, int sourceStart, int sourceEnd) {
+        this.body = body;
+        this.index = index;
+        this.id = id;
+        this.score = score;
+        this.start = start;
+        this.end = end;
+        this.sourceStart = sourceStart;
+        this.sourceEnd = sourceEnd;
+    }
+
+    /**
+     * @return The index of the document
+     */
+    public @Nullable String index() {
+        return index;
+    }
+
+    /**
+     * @return The id of the document
+     */
+    public @Nullable String id() {
+        return id;
+    }
+
+    /**
+     * @return The score of the hit, if any
+     */
+    public @Nullable Double score() {
+        return score;
+    }
+
+    /**
+     * @return The JSON of the whole hit
+     */
+    public ByteBuffer hit() {
+        return RawSearchResponse.slice(body, start, end);
+    }
+
+    /**
+     * @return The JSON of the {@code _source}, or {@code null} when the source is not returned
+     */
+    public @Nullable ByteBuffer source() {
+        return sourceStart < 0 ? null : RawSearchResponse.slice(body, sourceStart, sourceEnd);
+    }
+
+    /**
+     * Writes the JSON of the {@code _source}, if any.
+     *
+     * @param out The stream
+     * @throws IOException If the stream fails
+     */
+    public void writeSourceTo(OutputStream out) throws IOException {
+        if (sourceStart >= 0) {
+            out.write(body, sourceStart, sourceEnd - sourceStart);
+        }
+    }
+
+    int sourceLength() {
+        return sourceStart < 0 ? 0 : sourceEnd - sourceStart;
+    }
+
+    void copySource(byte[] target, int offset) {
+        System.arraycopy(body, sourceStart, target, offset, sourceEnd - sourceStart);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the offsets of the hits and of their {@code _source} with a streaming parser. The values of the documents are
+ * skipped without being decoded.
+ */
+final class RawResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private RawResponseParser() {
+    }
+
+    /**
+     * @param body The JSON of the response
+     * @return Whether the response is an error of Elasticsearch
+     * @throws IOException If the JSON is malformed
+     */
+    static boolean isError(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if ("error".equals(parser.currentName())) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    static RawSearchResponse search(byte[] body) throws IOException {
+        Long took = null;
+        Long total = null;
+        List<RawHit> hits = List.of();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("took".equals(name) && value.isNumeric()) {
+                    took = parser.getLongValue();
+                } else if ("hits".equals(name) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        JsonToken token = parser.nextToken();
+                        if ("total".equals(field)) {
+                            total = total(parser, token);
+                        } else if ("hits".equals(field) && token == JsonToken.START_ARRAY) {
+                            hits = hits(parser, body);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new RawSearchResponse(body, took, total, hits);
+    }
+
+    static RawGetResponse get(byte[] body) throws IOException {
+        String index = null;
+        String id = null;
+        boolean found = false;
+        Long version = null;
+        int sourceStart = -1;
+        int sourceEnd = -1;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "_index" -> index = parser.getValueAsString();
+                    case "_id" -> id = parser.getValueAsString();
+                    case "found" -> found = value == JsonToken.VALUE_TRUE;
+                    case "_version" -> version = value.isNumeric() ? parser.getLongValue() : null;
+                    case "_source" -> {
+                        sourceStart = start(parser);
+                        parser.skipChildren();
+                        sourceEnd = end(parser);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new RawGetResponse(body, index, id, found, version, sourceStart, sourceEnd);
+    }
+
+    private static Long total(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            // rest_total_hits_as_int
+            return parser.getLongValue();
+        }
+        Long total = null;
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("value".equals(name) && value.isNumeric()) {
+                    total = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static List<RawHit> hits(JsonParser parser, byte[] body) throws IOException {
+        List<RawHit> hits = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            int start = start(parser);
+            String index = null;
+            String id = null;
+            Double score = null;
+            int sourceStart = -1;
+            int sourceEnd = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "_index" -> index = parser.getValueAsString();
+                    case "_id" -> id = parser.getValueAsString();
+                    case "_score" -> score = value.isNumeric() ? parser.getDoubleValue() : null;
+                    case "_source" -> {
+                        sourceStart = start(parser);
+                        parser.skipChildren();
+                        sourceEnd = end(parser);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            hits.add(new RawHit(body, index, id, score, start, end(parser), sourceStart, sourceEnd));
+        }
+        expect(parser, token, JsonToken.END_ARRAY);
+        return hits;
+    }
+
+    /**
+     * @return The offset of the first byte of the current token
+     */
+    private static int start(JsonParser parser) {
+        return (int) parser.currentTokenLocation().getByteOffset();
+    }
+
+    /**
+     * @return The offset following the last byte of the current token
+     */
+    private static int end(JsonParser parser) {
+        return (int) parser.currentLocation().getByteOffset();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected token " + actual + " at " + parser.currentLocation().offsetDescription() + ", expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * The response of a search kept as the JSON returned by Elasticsearch. Only the offsets of the hits and of their
+ * {@code _source} are read, the documents are never mapped to objects.
+ *
+ * <pre>{@code
+ * RawSearchResponse response = rawClient.search(s -> s.index("movies").query(q -> q.match(m -> m.field("title").query(title))));
+ * return HttpResponse.ok(response.sourcesAsJsonArray()).contentType(MediaType.APPLICATION_JSON_TYPE);
+ * }</pre>
+ *
+ * @since 5.7.0
+ */
+public final class RawSearchResponse {
+
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final byte[] body;
+    private final Long took;
+    private final Long totalHits;
+    private final List<RawHit> hits;
+
+    RawSearchResponse(byte[] body, @Nullable Long took, @Nullable Long totalHits, List<RawHit> hits) {
+        this.body = body;
+        this.took = took;
+        this.totalHits = totalHits;
+        this.hits = hits;
+    }
+
+    /**
+     * @return The JSON of the whole response
+     */
+    public ByteBuffer body() {
+        return slice(body, 0, body.length);
+    }
+
+    /**
+     * @return The time the search took in milliseconds
+     */
+    public @Nullable Long took() {
+        return took;
+    }
+
+    /**
+     * @return The total number of hits, if tracked
+     */
+    public @Nullable Long totalHits() {
+        return totalHits;
+    }
+
+    /**
+     * @return The hits in the order of the response
+     */
+    public List<RawHit> hits() {
+        return hits;
+    }
+
+    /**
+     * Copies the {@code _source} of the hits into a JSON array, the only copy made between the response and an HTTP
+     * response body. The hits without source are skipped.
+     *
+     * @return The JSON array of the sources
+     */
+    public byte[] sourcesAsJsonArray() {
+        int length = 1;
+        for (RawHit hit : hits) {
+            if (hit.sourceLength() > 0) {
+                length += hit.sourceLength() + 1;
+            }
+        }
+        if (length == 1) {
+            return EMPTY_ARRAY.clone();
+        }
+        byte[] array = new byte[length];
+        array[0] = '[';
+        int offset = 1;
+        for (RawHit hit : hits) {
+            if (hit.sourceLength() > 0) {
+                if (offset > 1) {
+                    array[offset++] = ',';
+                }
+                hit.copySource(array, offset);
+                offset += hit.sourceLength();
+            }
+        }
+        array[offset] = ']';
+        return array;
+    }
+
+    /**
+     * Writes the {@code _source} of the hits as a JSON array. The hits without source are skipped.
+     *
+     * @param out The stream
+     * @throws IOException If the stream fails
+     */
+    public void writeSourcesTo(OutputStream out) throws IOException {
+        out.write('[');
+        boolean first = true;
+        for (RawHit hit : hits) {
+            if (hit.sourceLength() > 0) {
+                if (!first) {
+                    out.write(',');
+                }
+                hit.writeSourceTo(out);
+                first = false;
+            }
+        }
+        out.write(']');
+    }
+
+    static ByteBuffer slice(byte[] body, int start, int end) {
+        return ByteBuffer.wrap(body, start, end - start).slice().asReadOnlyBuffer();
+    }
+}
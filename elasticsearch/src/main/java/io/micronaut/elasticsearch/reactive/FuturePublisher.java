@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.reactive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A cold {@link Publisher} of the result of a request. The request is sent on the first demand, and cancelling the
+ * subscription cancels its future, which aborts the HTTP request.
+ *
+ * @param <T> The type of the response
+ */
+final class FuturePublisher<T> implements Publisher<T> {
+
+    private final Supplier<CompletableFuture<T>> request;
+
+    FuturePublisher(Supplier<CompletableFuture<T>> request) {
+        this.request = request;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new FutureSubscription(subscriber));
+    }
+
+    private final class FutureSubscription implements Subscription {
+
+        private static final int IDLE = 0;
+        private static final int REQUESTED = 1;
+        private static final int DONE = 2;
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+        private volatile CompletableFuture<T> future;
+
+        private FutureSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (state.getAndSet(DONE) != DONE) {
+                    cancelFuture();
+                    subscriber.onError(new IllegalArgumentException("Rule 3.9: the requested amount must be positive, was " + n));
+                }
+                return;
+            }
+            if (!state.compareAndSet(IDLE, REQUESTED)) {
+                return;
+            }
+            CompletableFuture<T> sent;
+            try {
+                sent = request.get();
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            future = sent;
+            if (state.get() == DONE) {
+                // cancelled while the request was being sent
+                sent.cancel(true);
+                return;
+            }
+            sent.whenComplete((response, error) -> {
+                if (!state.compareAndSet(REQUESTED, DONE)) {
+                    return;
+                }
+                if (error != null) {
+                    subscriber.onError(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                    return;
+                }
+                if (response != null) {
+                    subscriber.onNext(response);
+                }
+                subscriber.onComplete();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            if (state.getAndSet(DONE) != DONE) {
+                cancelFuture();
+            }
+        }
+
+        private void cancelFuture() {
+            CompletableFuture<T> sent = future;
+            if (sent != null) {
+                sent.cancel(true);
+            }
+        }
+    }
+}
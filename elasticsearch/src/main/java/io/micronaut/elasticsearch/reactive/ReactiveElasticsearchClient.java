@@ -0,0 +1,302 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.reactive;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import co.elastic.clients.elasticsearch.core.DeleteRequest;
+import co.elastic.clients.elasticsearch.core.DeleteResponse;
+import co.elastic.clients.elasticsearch.core.ExistsRequest;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import co.elastic.clients.elasticsearch.core.IndexRequest;
+import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.UpdateRequest;
+import co.elastic.clients.elasticsearch.core.UpdateResponse;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import co.elastic.clients.util.ObjectBuilder;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.annotation.SingleResult;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A reactive facade of the {@link ElasticsearchAsyncClient}. Each publisher is cold: the request is sent when the
+ * subscriber requests the response, and it is sent again for each subscription. Cancelling the subscription cancels
+ * the future of the request, which aborts the HTTP request and releases its connection.
+ *
+ * <p>The most common APIs have their own method, and {@link #execute(Function)} exposes the rest of the asynchronous
+ * client, for instance {@code execute(client -> client.indices().refresh(r -> r.index("movies")))}. With Project
+ * Reactor, wrap the publishers with {@code Mono.from(...)}.</p>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class ReactiveElasticsearchClient {
+
+    private final ElasticsearchAsyncClient client;
+
+    /**
+     * @param client The asynchronous client
+     */
+    public ReactiveElasticsearchClient(ElasticsearchAsyncClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @return The asynchronous client
+     */
+    public ElasticsearchAsyncClient getClient() {
+        return client;
+    }
+
+    /**
+     * @param transportOptions The options of the requests
+     * @return A facade of the asynchronous client using the given options
+     */
+    public ReactiveElasticsearchClient withTransportOptions(@Nullable TransportOptions transportOptions) {
+        return new ReactiveElasticsearchClient(client.withTransportOptions(transportOptions));
+    }
+
+    /**
+     * Sends a request of the asynchronous client when the response is requested.
+     *
+     * @param call The call of the asynchronous client
+     * @param <T>  The type of the response
+     * @return The response
+     */
+    @SingleResult
+    public <T> Publisher<T> execute(Function<ElasticsearchAsyncClient, CompletableFuture<T>> call) {
+        return new FuturePublisher<>(() -> call.apply(client));
+    }
+
+    /**
+     * @param request        The search
+     * @param tDocumentClass The class of the documents
+     * @param <TDocument>    The type of the documents
+     * @return The response
+     * @see ElasticsearchAsyncClient#search(SearchRequest, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<SearchResponse<TDocument>> search(SearchRequest request, Class<TDocument> tDocumentClass) {
+        return execute(c -> c.search(request, tDocumentClass));
+    }
+
+    /**
+     * @param fn             The function building the search
+     * @param tDocumentClass The class of the documents
+     * @param <TDocument>    The type of the documents
+     * @return The response
+     * @see ElasticsearchAsyncClient#search(Function, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<SearchResponse<TDocument>> search(Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> fn,
+                                                                   Class<TDocument> tDocumentClass) {
+        return execute(c -> c.search(fn, tDocumentClass));
+    }
+
+    /**
+     * @param request        The get
+     * @param tDocumentClass The class of the document
+     * @param <TDocument>    The type of the document
+     * @return The response
+     * @see ElasticsearchAsyncClient#get(GetRequest, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<GetResponse<TDocument>> get(GetRequest request, Class<TDocument> tDocumentClass) {
+        return execute(c -> c.get(request, tDocumentClass));
+    }
+
+    /**
+     * @param fn             The function building the get
+     * @param tDocumentClass The class of the document
+     * @param <TDocument>    The type of the document
+     * @return The response
+     * @see ElasticsearchAsyncClient#get(Function, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<GetResponse<TDocument>> get(Function<GetRequest.Builder, ObjectBuilder<GetRequest>> fn,
+                                                             Class<TDocument> tDocumentClass) {
+        return execute(c -> c.get(fn, tDocumentClass));
+    }
+
+    /**
+     * @param request        The multi get
+     * @param tDocumentClass The class of the documents
+     * @param <TDocument>    The type of the documents
+     * @return The response
+     * @see ElasticsearchAsyncClient#mget(MgetRequest, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<MgetResponse<TDocument>> mget(MgetRequest request, Class<TDocument> tDocumentClass) {
+        return execute(c -> c.mget(request, tDocumentClass));
+    }
+
+    /**
+     * @param fn             The function building the multi get
+     * @param tDocumentClass The class of the documents
+     * @param <TDocument>    The type of the documents
+     * @return The response
+     * @see ElasticsearchAsyncClient#mget(Function, Class)
+     */
+    @SingleResult
+    public <TDocument> Publisher<MgetResponse<TDocument>> mget(Function<MgetRequest.Builder, ObjectBuilder<MgetRequest>> fn,
+                                                               Class<TDocument> tDocumentClass) {
+        return execute(c -> c.mget(fn, tDocumentClass));
+    }
+
+    /**
+     * @param request     The document to index
+     * @param <TDocument> The type of the document
+     * @return The response
+     * @see ElasticsearchAsyncClient#index(IndexRequest)
+     */
+    @SingleResult
+    public <TDocument> Publisher<IndexResponse> index(IndexRequest<TDocument> request) {
+        return execute(c -> c.index(request));
+    }
+
+    /**
+     * @param fn          The function building the document to index
+     * @param <TDocument> The type of the document
+     * @return The response
+     * @see ElasticsearchAsyncClient#index(Function)
+     */
+    @SingleResult
+    public <TDocument> Publisher<IndexResponse> index(Function<IndexRequest.Builder<TDocument>, ObjectBuilder<IndexRequest<TDocument>>> fn) {
+        return execute(c -> c.index(fn));
+    }
+
+    /**
+     * @param request        The update
+     * @param tDocumentClass The class of the document
+     * @param <TDocument>    The type of the document
+     * @param <TPartialDocument> The type of the partial document
+     * @return The response
+     * @see ElasticsearchAsyncClient#update(UpdateRequest, Class)
+     */
+    @SingleResult
+    public <TDocument, TPartialDocument> Publisher<UpdateResponse<TDocument>> update(UpdateRequest<TDocument, TPartialDocument> request,
+                                                                                     Class<TDocument> tDocumentClass) {
+        return execute(c -> c.update(request, tDocumentClass));
+    }
+
+    /**
+     * @param fn             The function building the update
+     * @param tDocumentClass The class of the document
+     * @param <TDocument>    The type of the document
+     * @param <TPartialDocument> The type of the partial document
+     * @return The response
+     * @see ElasticsearchAsyncClient#update(Function, Class)
+     */
+    @SingleResult
+    public <TDocument, TPartialDocument> Publisher<UpdateResponse<TDocument>> update(
+        Function<UpdateRequest.Builder<TDocument, TPartialDocument>, ObjectBuilder<UpdateRequest<TDocument, TPartialDocument>>> fn,
+        Class<TDocument> tDocumentClass) {
+        return execute(c -> c.update(fn, tDocumentClass));
+    }
+
+    /**
+     * @param request The delete
+     * @return The response
+     * @see ElasticsearchAsyncClient#delete(DeleteRequest)
+     */
+    @SingleResult
+    public Publisher<DeleteResponse> delete(DeleteRequest request) {
+        return execute(c -> c.delete(request));
+    }
+
+    /**
+     * @param fn The function building the delete
+     * @return The response
+     * @see ElasticsearchAsyncClient#delete(Function)
+     */
+    @SingleResult
+    public Publisher<DeleteResponse> delete(Function<DeleteRequest.Builder, ObjectBuilder<DeleteRequest>> fn) {
+        return execute(c -> c.delete(fn));
+    }
+
+    /**
+     * @param request The bulk request
+     * @return The response
+     * @see ElasticsearchAsyncClient#bulk(BulkRequest)
+     */
+    @SingleResult
+    public Publisher<BulkResponse> bulk(BulkRequest request) {
+        return execute(c -> c.bulk(request));
+    }
+
+    /**
+     * @param fn The function building the bulk request
+     * @return The response
+     * @see ElasticsearchAsyncClient#bulk(Function)
+     */
+    @SingleResult
+    public Publisher<BulkResponse> bulk(Function<BulkRequest.Builder, ObjectBuilder<BulkRequest>> fn) {
+        return execute(c -> c.bulk(fn));
+    }
+
+    /**
+     * @param request The count
+     * @return The response
+     * @see ElasticsearchAsyncClient#count(CountRequest)
+     */
+    @SingleResult
+    public Publisher<CountResponse> count(CountRequest request) {
+        return execute(c -> c.count(request));
+    }
+
+    /**
+     * @param fn The function building the count
+     * @return The response
+     * @see ElasticsearchAsyncClient#count(Function)
+     */
+    @SingleResult
+    public Publisher<CountResponse> count(Function<CountRequest.Builder, ObjectBuilder<CountRequest>> fn) {
+        return execute(c -> c.count(fn));
+    }
+
+    /**
+     * @param request The document existence check
+     * @return Whether the document exists
+     * @see ElasticsearchAsyncClient#exists(ExistsRequest)
+     */
+    @SingleResult
+    public Publisher<BooleanResponse> exists(ExistsRequest request) {
+        return execute(c -> c.exists(request));
+    }
+
+    /**
+     * @param fn The function building the document existence check
+     * @return Whether the document exists
+     * @see ElasticsearchAsyncClient#exists(Function)
+     */
+    @SingleResult
+    public Publisher<BooleanResponse> exists(Function<ExistsRequest.Builder, ObjectBuilder<ExistsRequest>> fn) {
+        return execute(c -> c.exists(fn));
+    }
+}
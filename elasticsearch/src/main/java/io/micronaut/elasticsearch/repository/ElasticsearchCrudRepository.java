@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.repository;
+
+import io.micronaut.elasticsearch.repository.RepositoryMethod.Operation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The operations of a repository of documents identified by a string id. The collection variants use a single bulk
+ * or multi get request.
+ *
+ * @param <E> The document type
+ * @since 5.7.0
+ */
+public interface ElasticsearchCrudRepository<E> {
+
+    /**
+     * Indexes a document with an id generated by Elasticsearch.
+     *
+     * @param entity The document
+     * @return The id of the document
+     */
+    @RepositoryMethod(Operation.SAVE)
+    String save(E entity);
+
+    /**
+     * Indexes a document, replacing the document with the same id.
+     *
+     * @param id     The id of the document
+     * @param entity The document
+     * @return The id of the document
+     */
+    @RepositoryMethod(Operation.SAVE)
+    String save(String id, E entity);
+
+    /**
+     * Indexes documents with a single bulk request.
+     *
+     * @param entities The documents
+     * @return The ids of the documents, in the order of the documents
+     */
+    @RepositoryMethod(Operation.SAVE_ALL)
+    List<String> saveAll(Iterable<? extends E> entities);
+
+    /**
+     * @param id The id of the document
+     * @return The document, if found
+     */
+    @RepositoryMethod(Operation.FIND_BY_ID)
+    Optional<E> findById(String id);
+
+    /**
+     * Gets documents with a single multi get request.
+     *
+     * @param ids The ids of the documents
+     * @return The documents found, in the order of the ids
+     */
+    @RepositoryMethod(Operation.FIND_ALL_BY_ID)
+    List<E> findAllById(Iterable<String> ids);
+
+    /**
+     * @param id The id of the document to delete
+     */
+    @RepositoryMethod(Operation.DELETE_BY_ID)
+    void deleteById(String id);
+
+    /**
+     * Deletes documents with a single bulk request.
+     *
+     * @param ids The ids of the documents to delete
+     */
+    @RepositoryMethod(Operation.DELETE_ALL_BY_ID)
+    void deleteAllById(Iterable<String> ids);
+
+    /**
+     * @return The number of documents in the index
+     */
+    @RepositoryMethod(Operation.COUNT)
+    long count();
+}
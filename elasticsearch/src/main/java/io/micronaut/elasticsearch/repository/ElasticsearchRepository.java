@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.repository;
+
+import io.micronaut.aop.Introduction;
+import io.micronaut.context.annotation.DefaultScope;
+import io.micronaut.context.annotation.Type;
+import jakarta.inject.Singleton;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a repository of documents stored in an index. The annotated interface extends
+ * {@link ElasticsearchCrudRepository} and can declare derived queries such as {@code List<Movie>
+ * findTop10ByTitle(String title)}. The {@code micronaut-elasticsearch-processor} annotation processor parses the method names at compilation
+ * and Micronaut generates the implementation, so there is no reflection nor dynamic proxy at runtime.
+ *
+ * @since 5.7.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Introduction
+@Type(ElasticsearchRepositoryInterceptor.class)
+@DefaultScope(Singleton.class)
+public @interface ElasticsearchRepository {
+
+    /**
+     * @return The index of the documents, which can be a property placeholder such as
+     * {@code ${elasticsearch.indexes.movies}}
+     */
+    String value();
+}
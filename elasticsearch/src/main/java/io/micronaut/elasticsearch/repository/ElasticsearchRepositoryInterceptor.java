@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.IndexRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.get.GetResult;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.repository.RepositoryMethod.Operation;
+import io.micronaut.elasticsearch.repository.RepositoryMethod.QueryType;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implements the methods of the {@link ElasticsearchRepository} interfaces with the {@link ElasticsearchClient}. The
+ * operation of each method is read once from the annotation metadata computed at compilation. The
+ * {@link IOException}s are rethrown as {@link UncheckedIOException}s, and the failures of bulk items as
+ * {@link ElasticsearchException}s.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class ElasticsearchRepositoryInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final ElasticsearchClient client;
+    private final Map<ExecutableMethod<?, ?>, CompiledMethod> methods = new ConcurrentHashMap<>();
+
+    /**
+     * @param client The client
+     */
+    public ElasticsearchRepositoryInterceptor(ElasticsearchClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public @Nullable Object intercept(MethodInvocationContext<Object, Object> context) {
+        CompiledMethod method = methods.computeIfAbsent(context.getExecutableMethod(), m -> CompiledMethod.of(context));
+        try {
+            return method.invoke(client, context.getParameterValues());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The kind of value returned by a method.
+     */
+    private enum ResultKind {
+        VOID, OPTIONAL, LIST, VALUE
+    }
+
+    /**
+     * A repository method with its annotation metadata resolved.
+     *
+     * @param name      The name of the method, for the error messages
+     * @param operation The operation
+     * @param index     The index of the repository
+     * @param entity    The document class
+     * @param fields    The fields of the derived query
+     * @param queries   The query of each field
+     * @param size      The maximum number of documents returned by a search, or -1
+     * @param result    The kind of value returned
+     * @param intResult Whether a count is returned as an int
+     */
+    private record CompiledMethod(String name,
+                                  Operation operation,
+                                  String index,
+                                  Class<?> entity,
+                                  String[] fields,
+                                  QueryType[] queries,
+                                  int size,
+                                  ResultKind result,
+                                  boolean intResult) {
+
+        static CompiledMethod of(MethodInvocationContext<Object, Object> context) {
+            String name = context.getDeclaringType().getName() + "." + context.getMethodName();
+            Operation operation = context.enumValue(RepositoryMethod.class, Operation.class)
+                .orElseThrow(() -> notProcessed(name));
+            Class<?> entity = context.classValue(RepositoryEntity.class)
+                .orElseThrow(() -> notProcessed(name));
+            String index = context.stringValue(ElasticsearchRepository.class)
+                .orElseThrow(() -> new IllegalStateException("No index declared on the repository of " + name));
+            Class<?> returnType = context.getReturnType().getType();
+            ResultKind result;
+            if (returnType == void.class || returnType == Void.class) {
+                result = ResultKind.VOID;
+            } else if (returnType == Optional.class) {
+                result = ResultKind.OPTIONAL;
+            } else if (returnType.isAssignableFrom(List.class)) {
+                result = ResultKind.LIST;
+            } else {
+                result = ResultKind.VALUE;
+            }
+            int size = context.intValue(RepositoryMethod.class, "size").orElse(-1);
+            if (operation == Operation.FIND && result != ResultKind.LIST) {
+                size = 1;
+            } else if (operation == Operation.FIND && size < 0) {
+                throw new IllegalStateException(name + " returns a list without First or Top<n>, which Elasticsearch "
+                    + "would truncate to 10 documents");
+            }
+            return new CompiledMethod(
+                name,
+                operation,
+                index,
+                entity,
+                context.stringValues(RepositoryMethod.class, "fields"),
+                context.enumValues(RepositoryMethod.class, "queries", QueryType.class),
+                size,
+                result,
+                returnType == int.class || returnType == Integer.class
+            );
+        }
+
+        @Nullable Object invoke(ElasticsearchClient client, Object[] args) throws IOException {
+            return switch (operation) {
+                case SAVE -> save(client, args);
+                case SAVE_ALL -> saveAll(client, (Iterable<?>) args[0]);
+                case FIND_BY_ID -> findById(client, (String) args[0]);
+                case FIND_ALL_BY_ID -> findAllById(client, (Iterable<?>) args[0]);
+                case DELETE_BY_ID -> {
+                    client.delete(d -> d.index(index).id((String) args[0]));
+                    yield null;
+                }
+                case DELETE_ALL_BY_ID -> {
+                    deleteAllById(client, (Iterable<?>) args[0]);
+                    yield null;
+                }
+                case FIND -> find(client, args);
+                case COUNT -> {
+                    long count = client.count(CountRequest.of(c -> c.index(index).query(query(args)))).count();
+                    yield intResult ? (Object) (int) count : (Object) count;
+                }
+                case EXISTS -> client.count(CountRequest.of(c -> c.index(index).query(query(args)).terminateAfter(1L))).count() > 0;
+            };
+        }
+
+        private String save(ElasticsearchClient client, Object[] args) throws IOException {
+            String id = args.length == 2 ? (String) args[0] : null;
+            Object entity = args[args.length - 1];
+            return client.index(IndexRequest.of(i -> i.index(index).id(id).document(entity))).id();
+        }
+
+        private List<String> saveAll(ElasticsearchClient client, Iterable<?> entities) throws IOException {
+            List<BulkOperation> operations = new ArrayList<>();
+            for (Object entity : entities) {
+                operations.add(BulkOperation.of(o -> o.index(i -> i.document(entity))));
+            }
+            return bulk(client, operations);
+        }
+
+        private void deleteAllById(ElasticsearchClient client, Iterable<?> ids) throws IOException {
+            List<BulkOperation> operations = new ArrayList<>();
+            for (Object id : ids) {
+                operations.add(BulkOperation.of(o -> o.delete(d -> d.id((String) id))));
+            }
+            bulk(client, operations);
+        }
+
+        private List<String> bulk(ElasticsearchClient client, List<BulkOperation> operations) throws IOException {
+            if (operations.isEmpty()) {
+                return List.of();
+            }
+            BulkResponse response = client.bulk(BulkRequest.of(b -> b.index(index).operations(operations)));
+            List<String> ids = new ArrayList<>(response.items().size());
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    throw new ElasticsearchException("bulk", ErrorResponse.of(e -> e.error(item.error()).status(item.status())));
+                }
+                ids.add(item.id());
+            }
+            return ids;
+        }
+
+        private @Nullable Object findById(ElasticsearchClient client, String id) throws IOException {
+            GetResult<?> response = client.get(g -> g.index(index).id(id), entity);
+            Object source = response.found() ? response.source() : null;
+            return result == ResultKind.OPTIONAL ? Optional.ofNullable(source) : source;
+        }
+
+        private List<Object> findAllById(ElasticsearchClient client, Iterable<?> ids) throws IOException {
+            List<String> values = new ArrayList<>();
+            for (Object id : ids) {
+                values.add((String) id);
+            }
+            if (values.isEmpty()) {
+                return List.of();
+            }
+            List<Object> documents = new ArrayList<>(values.size());
+            for (MultiGetResponseItem<?> item : client.mget(m -> m.index(index).ids(values), entity).docs()) {
+                if (item.isResult() && item.result().found()) {
+                    documents.add(item.result().source());
+                }
+            }
+            return documents;
+        }
+
+        private @Nullable Object find(ElasticsearchClient client, Object[] args) throws IOException {
+            Query query = query(args);
+            SearchRequest request = SearchRequest.of(s -> {
+                s.index(index).query(query);
+                if (size >= 0) {
+                    s.size(size);
+                }
+                return s;
+            });
+            List<Object> documents = new ArrayList<>();
+            for (Hit<?> hit : client.search(request, entity).hits().hits()) {
+                documents.add(hit.source());
+            }
+            return switch (result) {
+                case LIST -> documents;
+                case OPTIONAL -> documents.stream().findFirst();
+                default -> documents.isEmpty() ? null : documents.get(0);
+            };
+        }
+
+        private @Nullable Query query(Object[] args) {
+            if (fields.length == 0) {
+                return null;
+            }
+            List<Query> clauses = new ArrayList<>(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                if (args[i] == null) {
+                    throw new IllegalArgumentException("The value of " + fields[i] + " passed to " + name + " is null");
+                }
+                clauses.add(query(fields[i], queries[i], args[i]));
+            }
+            return clauses.size() == 1 ? clauses.get(0) : Query.of(q -> q.bool(b -> b.must(clauses)));
+        }
+
+        private static Query query(String field, QueryType type, Object value) {
+            return switch (type) {
+                case MATCH -> Query.of(q -> q.match(m -> m.field(field).query(fieldValue(value))));
+                case TERM -> Query.of(q -> q.term(t -> t.field(field).value(fieldValue(value))));
+                case TERMS -> Query.of(q -> q.terms(t -> t.field(field).terms(v -> v.value(fieldValues(value)))));
+                case MATCH_ANY -> {
+                    List<Query> matches = new ArrayList<>();
+                    for (FieldValue fieldValue : fieldValues(value)) {
+                        matches.add(Query.of(q -> q.match(m -> m.field(field).query(fieldValue))));
+                    }
+                    yield Query.of(q -> q.bool(b -> b.should(matches).minimumShouldMatch("1")));
+                }
+            };
+        }
+
+        private static List<FieldValue> fieldValues(Object values) {
+            List<FieldValue> fieldValues = new ArrayList<>();
+            for (Object value : (Iterable<?>) values) {
+                fieldValues.add(fieldValue(value));
+            }
+            return fieldValues;
+        }
+
+        private static FieldValue fieldValue(Object value) {
+            if (value instanceof String string) {
+                return FieldValue.of(string);
+            }
+            if (value instanceof Boolean bool) {
+                return FieldValue.of(bool);
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return FieldValue.of(((Number) value).longValue());
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return FieldValue.of(((Number) value).doubleValue());
+            }
+            if (value instanceof Enum<?> constant) {
+                return FieldValue.of(constant.name());
+            }
+            return FieldValue.of(JsonData.of(value));
+        }
+
+        private static IllegalStateException notProcessed(String name) {
+            return new IllegalStateException(name + " was not processed at compilation, add "
+                + "micronaut-elasticsearch-processor to the annotation processors");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.repository;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The operation executed by a method of an {@link ElasticsearchRepository}. The methods of
+ * {@link ElasticsearchCrudRepository} declare it, and the annotation processor adds it to the other methods from
+ * their name and parameters.
+ *
+ * @since 5.7.0
+ */
+@Internal
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RepositoryMethod {
+
+    /**
+     * @return The operation
+     */
+    Operation value();
+
+    /**
+     * @return The fields matched by the parameters of a derived query, in the order of the parameters
+     */
+    String[] fields() default {};
+
+    /**
+     * @return The query of each field
+     */
+    QueryType[] queries() default {};
+
+    /**
+     * @return The maximum number of documents returned by a search, or -1 for the default of Elasticsearch
+     */
+    int size() default -1;
+
+    /**
+     * The operations of a repository.
+     */
+    enum Operation {
+        /**
+         * Indexes a document, with an optional id as first parameter.
+         */
+        SAVE,
+        /**
+         * Indexes documents with a bulk request.
+         */
+        SAVE_ALL,
+        /**
+         * Gets a document by id.
+         */
+        FIND_BY_ID,
+        /**
+         * Gets documents by id with a multi get request.
+         */
+        FIND_ALL_BY_ID,
+        /**
+         * Deletes a document by id.
+         */
+        DELETE_BY_ID,
+        /**
+         * Deletes documents by id with a bulk request.
+         */
+        DELETE_ALL_BY_ID,
+        /**
+         * Searches the documents matching the parameters.
+         */
+        FIND,
+        /**
+         * Counts the documents matching the parameters.
+         */
+        COUNT,
+        /**
+         * Checks whether a document matches the parameters.
+         */
+        EXISTS
+    }
+
+    /**
+     * The query of a field of a derived query.
+     */
+    enum QueryType {
+        /**
+         * A full text {@code match} query.
+         */
+        MATCH,
+        /**
+         * A {@code match} query per value of a collection parameter, any of which matches.
+         */
+        MATCH_ANY,
+        /**
+         * An exact {@code term} query.
+         */
+        TERM,
+        /**
+         * An exact {@code terms} query with the values of a collection parameter.
+         */
+        TERMS
+    }
+}
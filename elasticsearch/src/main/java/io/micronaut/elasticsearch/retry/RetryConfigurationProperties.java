@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.retry;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Configurations of the retries of the requests rejected by Elasticsearch. Retries are disabled by default.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(RetryConfigurationProperties.PREFIX)
+public class RetryConfigurationProperties {
+
+    /**
+     * The prefix to use for the retry settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".retry";
+
+    /**
+     * The default maximum number of attempts, including the first one.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default delay before the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+    /**
+     * The default maximum delay between two attempts.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * The default factor applied to the delay after each attempt.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2;
+
+    /**
+     * The default fraction of the delay that is randomized.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    /**
+     * The default retryable HTTP status codes.
+     */
+    public static final Set<Integer> DEFAULT_STATUS_CODES = Set.of(429, 503);
+
+    private boolean enabled;
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+    private Duration maxDelay = DEFAULT_MAX_DELAY;
+    private double multiplier = DEFAULT_MULTIPLIER;
+    private double jitter = DEFAULT_JITTER;
+    private Set<Integer> statusCodes = DEFAULT_STATUS_CODES;
+
+    /**
+     * @return Whether the requests are retried.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the requests are retried. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of attempts, including the first one.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param maxAttempts The maximum number of attempts, including the first one.
+     *                    Default value ({@value #DEFAULT_MAX_ATTEMPTS}).
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * @return The delay before the first retry.
+     */
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * @param initialDelay The delay before the first retry. Default value (100ms).
+     */
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    /**
+     * @return The maximum delay between two attempts.
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * @param maxDelay The maximum delay between two attempts. Default value (5s).
+     */
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @return The factor applied to the delay after each attempt.
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * @param multiplier The factor applied to the delay after each attempt. Default value ({@value #DEFAULT_MULTIPLIER}).
+     */
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * @return The fraction of the delay that is randomized.
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Sets the fraction, between 0 and 1, of the delay that is randomized so that the clients rejected at the same
+     * time don't retry at the same time. With a jitter of 0.5 the delay is between half and all of the backoff.
+     * Default value ({@value #DEFAULT_JITTER}).
+     *
+     * @param jitter The fraction of the delay that is randomized.
+     */
+    public void setJitter(double jitter) {
+        this.jitter = jitter;
+    }
+
+    /**
+     * @return The retryable HTTP status codes.
+     */
+    public Set<Integer> getStatusCodes() {
+        return statusCodes;
+    }
+
+    /**
+     * @param statusCodes The retryable HTTP status codes. Default value (429, 503).
+     */
+    public void setStatusCodes(Set<Integer> statusCodes) {
+        this.statusCodes = statusCodes;
+    }
+
+    /**
+     * @param attempt The attempt that failed, starting at 1
+     * @return The delay before the next attempt, in milliseconds
+     */
+    long delayMillis(int attempt) {
+        double backoff = initialDelay.toMillis() * Math.pow(multiplier, attempt - 1);
+        double delay = Math.min(maxDelay.toMillis(), backoff);
+        return (long) (delay * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+}
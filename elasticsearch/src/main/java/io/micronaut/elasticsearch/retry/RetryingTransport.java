@@ -0,0 +1,286 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.retry;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportException;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.util.ApiTypeHelper;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ElasticsearchTransport} retrying, with an exponential backoff and jitter, the requests rejected with a
+ * retryable status. Only the rejected items of a bulk request are retried, with the parameters of the original
+ * request. The bulk response combines the items of all the attempts in the order of the original operations, and sums
+ * their {@code took} and {@code ingest_took}.
+ *
+ * @since 5.7.0
+ */
+public final class RetryingTransport extends DelegatingElasticsearchTransport {
+
+    private final RetryConfigurationProperties configuration;
+    private final long maxRetryTimeoutMillis;
+
+    /**
+     * @param delegate              The decorated transport
+     * @param configuration         The retry configuration
+     * @param maxRetryTimeoutMillis The maximum time spent retrying a request, or 0 for no limit
+     */
+    public RetryingTransport(ElasticsearchTransport delegate, RetryConfigurationProperties configuration, long maxRetryTimeoutMillis) {
+        super(delegate);
+        this.configuration = configuration;
+        this.maxRetryTimeoutMillis = maxRetryTimeoutMillis;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        Attempts<RequestT, ResponseT> attempts = new Attempts<>(request);
+        while (true) {
+            ResponseT response;
+            try {
+                response = super.performRequest(attempts.request, endpoint, options);
+            } catch (IOException | RuntimeException e) {
+                if (!attempts.retryOnError(e) || !sleep(attempts.delayMillis)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (!attempts.retryOnResponse(response) || !sleep(attempts.delayMillis)) {
+                return attempts.response(response);
+            }
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        Attempts<RequestT, ResponseT> attempts = new Attempts<>(request);
+        CompletableFuture<ResponseT> result = new CompletableFuture<>();
+        result.whenComplete((response, error) -> {
+            CompletableFuture<?> inFlight = attempts.inFlight;
+            if (result.isCancelled() && inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+        send(attempts, endpoint, options, result);
+        return result;
+    }
+
+    private <RequestT, ResponseT, ErrorT> void send(Attempts<RequestT, ResponseT> attempts,
+                                                    Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                    @Nullable TransportOptions options,
+                                                    CompletableFuture<ResponseT> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<ResponseT> future;
+        try {
+            future = super.performRequestAsync(attempts.request, endpoint, options);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        attempts.inFlight = future;
+        future.whenComplete((response, error) -> {
+            if (error != null ? attempts.retryOnError(error) : attempts.retryOnResponse(response)) {
+                CompletableFuture.runAsync(() -> send(attempts, endpoint, options, result),
+                    CompletableFuture.delayedExecutor(attempts.delayMillis, TimeUnit.MILLISECONDS));
+            } else if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(attempts.response(response));
+            }
+        });
+    }
+
+    private boolean retryable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ElasticsearchException elasticsearchException) {
+            return configuration.getStatusCodes().contains(elasticsearchException.status());
+        }
+        if (cause instanceof TransportException transportException) {
+            return configuration.getStatusCodes().contains(transportException.statusCode());
+        }
+        return false;
+    }
+
+    private boolean retryable(BulkResponseItem item) {
+        return item.error() != null && configuration.getStatusCodes().contains(item.status());
+    }
+
+    private static boolean sleep(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Copies all the request-level parameters of the {@link BulkRequest}, only the operations differ.
+     *
+     * @param request    The original request
+     * @param operations The operations to retry
+     * @return The request retrying the operations
+     */
+    private static BulkRequest retryRequest(BulkRequest request, List<BulkOperation> operations) {
+        return BulkRequest.of(builder -> {
+            builder
+                .index(request.index())
+                .listExecutedPipelines(request.listExecutedPipelines())
+                .pipeline(request.pipeline())
+                .refresh(request.refresh())
+                .requireAlias(request.requireAlias())
+                .requireDataStream(request.requireDataStream())
+                .routing(request.routing())
+                .source(request.source())
+                .timeout(request.timeout())
+                .waitForActiveShards(request.waitForActiveShards())
+                .operations(operations);
+            if (ApiTypeHelper.isDefined(request.sourceExcludes())) {
+                builder.sourceExcludes(request.sourceExcludes());
+            }
+            if (ApiTypeHelper.isDefined(request.sourceIncludes())) {
+                builder.sourceIncludes(request.sourceIncludes());
+            }
+            return builder;
+        });
+    }
+
+    /**
+     * The state of the attempts of a request.
+     *
+     * @param <RequestT>  The type of the request
+     * @param <ResponseT> The type of the response
+     */
+    private final class Attempts<RequestT, ResponseT> {
+
+        private final long start = System.nanoTime();
+        private final RequestT originalRequest;
+        private RequestT request;
+        private int count = 1;
+        private long delayMillis;
+        private volatile CompletableFuture<?> inFlight;
+
+        // the items of the bulk response, and their positions in the original request for the current attempt
+        private List<BulkResponseItem> items;
+        private int[] positions;
+        private long took;
+        private Long ingestTook;
+
+        Attempts(RequestT request) {
+            this.originalRequest = request;
+            this.request = request;
+        }
+
+        boolean retryOnError(Throwable error) {
+            return retryable(error) && nextAttempt();
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean retryOnResponse(ResponseT response) {
+            if (!(response instanceof BulkResponse bulkResponse) || !(originalRequest instanceof BulkRequest bulkRequest)
+                || !merge(bulkRequest, bulkResponse) || !bulkResponse.errors()) {
+                return false;
+            }
+            List<BulkOperation> operations = new ArrayList<>();
+            List<Integer> retried = new ArrayList<>();
+            for (int position : positions) {
+                if (retryable(items.get(position))) {
+                    operations.add(bulkRequest.operations().get(position));
+                    retried.add(position);
+                }
+            }
+            if (operations.isEmpty() || !nextAttempt()) {
+                return false;
+            }
+            positions = retried.stream().mapToInt(Integer::intValue).toArray();
+            request = (RequestT) retryRequest(bulkRequest, operations);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        ResponseT response(ResponseT response) {
+            if (items == null || request == originalRequest) {
+                return response;
+            }
+            return (ResponseT) BulkResponse.of(builder -> builder
+                .items(items)
+                .errors(items.stream().anyMatch(item -> item.error() != null))
+                .took(took)
+                .ingestTook(ingestTook));
+        }
+
+        private boolean merge(BulkRequest bulkRequest, BulkResponse bulkResponse) {
+            if (items == null) {
+                if (bulkResponse.items().size() != bulkRequest.operations().size()) {
+                    return false;
+                }
+                items = new ArrayList<>(bulkResponse.items());
+                positions = new int[items.size()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = i;
+                }
+            } else {
+                if (bulkResponse.items().size() != positions.length) {
+                    items = null;
+                    return false;
+                }
+                for (int i = 0; i < positions.length; i++) {
+                    items.set(positions[i], bulkResponse.items().get(i));
+                }
+            }
+            took += bulkResponse.took();
+            if (bulkResponse.ingestTook() != null) {
+                ingestTook = (ingestTook != null ? ingestTook : 0) + bulkResponse.ingestTook();
+            }
+            return true;
+        }
+
+        private boolean nextAttempt() {
+            if (count >= configuration.getMaxAttempts()) {
+                return false;
+            }
+            long delay = configuration.delayMillis(count);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (maxRetryTimeoutMillis > 0 && elapsedMillis + delay > maxRetryTimeoutMillis) {
+                return false;
+            }
+            count++;
+            delayMillis = delay;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.search;
+
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An {@link Iterator} blocking on the hits of a {@link PointInTimePublisher}. Hits are requested one page at a
+ * time, so that at most two pages are buffered.
+ *
+ * @param <T> The type of the documents
+ */
+final class BlockingHitIterator<T> implements Iterator<Hit<T>>, Subscriber<Hit<T>>, AutoCloseable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final int batchSize;
+    private Object next;
+    private int consumed;
+    private boolean finished;
+
+    BlockingHitIterator(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription.compareAndSet(null, s)) {
+            s.request(batchSize);
+        } else {
+            s.cancel();
+        }
+    }
+
+    @Override
+    public void onNext(Hit<T> hit) {
+        queue.offer(hit);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        queue.offer(new Failure(t));
+    }
+
+    @Override
+    public void onComplete() {
+        queue.offer(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new IllegalStateException("Interrupted while waiting for the next hit", e);
+            }
+        }
+        if (next == COMPLETE) {
+            finished = true;
+            return false;
+        }
+        if (next instanceof Failure failure) {
+            finished = true;
+            if (failure.cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(failure.cause.getMessage(), failure.cause);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Hit<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Hit<T> hit = (Hit<T>) next;
+        next = null;
+        if (++consumed == batchSize) {
+            consumed = 0;
+            subscription.get().request(batchSize);
+        }
+        return hit;
+    }
+
+    /**
+     * Cancels the subscription, which closes the point in time.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        Subscription s = subscription.get();
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    private record Failure(Throwable cause) {
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cold {@link Publisher} opening a point in time per subscription and fetching the pages with
+ * {@code search_after} as demand arrives. At most one page per slice is buffered, and the point in time is closed on
+ * completion, error or cancellation.
+ *
+ * @param <T> The type of the documents
+ */
+final class PointInTimePublisher<T> implements Publisher<Hit<T>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PointInTimePublisher.class);
+
+    private static final String SHARD_DOC = "_shard_doc";
+
+    private final ElasticsearchAsyncClient client;
+    private final PointInTimeSearchRequest request;
+    private final Class<T> documentClass;
+
+    PointInTimePublisher(ElasticsearchAsyncClient client, PointInTimeSearchRequest request, Class<T> documentClass) {
+        this.client = client;
+        this.request = request;
+        this.documentClass = documentClass;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Hit<T>> subscriber) {
+        subscriber.onSubscribe(new PointInTimeSubscription(subscriber));
+    }
+
+    private static final class Slice {
+
+        private final int id;
+        private volatile List<FieldValue> searchAfter;
+        private volatile boolean fetching;
+        private volatile boolean exhausted;
+
+        private Slice(int id) {
+            this.id = id;
+        }
+    }
+
+    private final class PointInTimeSubscription implements Subscription {
+
+        private final Subscriber<? super Hit<T>> subscriber;
+        private final Queue<Hit<T>> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean opening = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Slice[] slices;
+        private final String keepAlive = request.getKeepAlive().toMillis() + "ms";
+        private volatile String pitId;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+
+        private PointInTimeSubscription(Subscriber<? super Hit<T>> subscriber) {
+            this.subscriber = subscriber;
+            this.slices = new Slice[request.getSlices()];
+            for (int i = 0; i < slices.length; i++) {
+                slices[i] = new Slice(i);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Rule 3.9: the number of requested hits must be positive");
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (done) {
+                    return;
+                }
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (error != null) {
+                    terminate();
+                    subscriber.onError(error);
+                    return;
+                }
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r && !cancelled) {
+                    Hit<T> hit = buffer.poll();
+                    if (hit == null) {
+                        break;
+                    }
+                    buffered.decrementAndGet();
+                    subscriber.onNext(hit);
+                    emitted++;
+                }
+                if (emitted > 0 && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                // the slices are marked exhausted after their last hits are buffered
+                if (!cancelled && exhausted() && buffer.isEmpty()) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (!cancelled) {
+                    fetch();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean exhausted() {
+            for (Slice slice : slices) {
+                if (!slice.exhausted) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void fetch() {
+            long r = requested.get();
+            if (r == 0) {
+                return;
+            }
+            if (pitId == null) {
+                if (opening.compareAndSet(false, true)) {
+                    open();
+                }
+                return;
+            }
+            long capacity = Math.min(r, (long) request.getPageSize() * slices.length);
+            for (Slice slice : slices) {
+                if (!slice.fetching && !slice.exhausted && buffered.get() < capacity) {
+                    slice.fetching = true;
+                    fetch(slice);
+                }
+            }
+        }
+
+        private void open() {
+            try {
+                client.openPointInTime(open -> open.index(request.getIndices()).keepAlive(time -> time.time(keepAlive)))
+                    .whenComplete((response, exception) -> {
+                        if (exception != null) {
+                            error = exception;
+                        } else {
+                            pitId = response.id();
+                            if (done) {
+                                closePointInTime();
+                            }
+                        }
+                        drain();
+                    });
+            } catch (RuntimeException e) {
+                error = e;
+                drain();
+            }
+        }
+
+        private void fetch(Slice slice) {
+            try {
+                client.search(searchRequest(slice), documentClass)
+                    .whenComplete((response, exception) -> {
+                        if (exception != null) {
+                            error = exception;
+                        } else {
+                            onPage(slice, response);
+                        }
+                        slice.fetching = false;
+                        drain();
+                    });
+            } catch (RuntimeException e) {
+                error = e;
+                slice.fetching = false;
+                drain();
+            }
+        }
+
+        private SearchRequest searchRequest(Slice slice) {
+            SearchRequest.Builder builder = new SearchRequest.Builder()
+                .trackTotalHits(track -> track.enabled(false));
+            request.getSearch().apply(builder);
+            builder.pit(pit -> pit.id(pitId).keepAlive(time -> time.time(keepAlive)))
+                .size(request.getPageSize())
+                .sort(sort -> sort.field(field -> field.field(SHARD_DOC).order(SortOrder.Asc)));
+            List<FieldValue> searchAfter = slice.searchAfter;
+            if (searchAfter != null) {
+                builder.searchAfter(searchAfter);
+            }
+            if (slices.length > 1) {
+                builder.slice(sliced -> sliced.id(String.valueOf(slice.id)).max(slices.length));
+            }
+            return builder.build();
+        }
+
+        private void onPage(Slice slice, SearchResponse<T> response) {
+            if (response.pitId() != null) {
+                pitId = response.pitId();
+            }
+            List<Hit<T>> hits = response.hits().hits();
+            for (Hit<T> hit : hits) {
+                buffer.offer(hit);
+            }
+            buffered.addAndGet(hits.size());
+            if (!hits.isEmpty()) {
+                slice.searchAfter = hits.get(hits.size() - 1).sort();
+            }
+            slice.exhausted = hits.size() < request.getPageSize();
+        }
+
+        private void terminate() {
+            done = true;
+            buffer.clear();
+            closePointInTime();
+        }
+
+        private void closePointInTime() {
+            String id = pitId;
+            // a point in time still being opened when the subscription terminates is closed once it is opened
+            if (id != null && closed.compareAndSet(false, true)) {
+                try {
+                    client.closePointInTime(close -> close.id(id))
+                        .whenComplete((response, exception) -> {
+                            if (exception != null && LOG.isDebugEnabled()) {
+                                LOG.debug("Failed to close point in time: {}", exception.getMessage(), exception);
+                            }
+                        });
+                } catch (RuntimeException e) {
+                    LOG.debug("Failed to close point in time: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.util.ObjectBuilder;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams all the hits of a search with a point in time and {@code search_after}, instead of buffering whole result
+ * sets or hand-writing pagination loops. Pages are fetched as demand arrives, and the point in time is closed when the
+ * stream completes, fails or is cancelled.
+ *
+ * <pre>{@code
+ * Flux.from(pointInTimeSearch.publisher(PointInTimeSearchRequest.builder("movies")
+ *         .search(s -> s.query(q -> q.match(m -> m.field("genre").query("drama"))))
+ *         .slices(Runtime.getRuntime().availableProcessors())
+ *         .build(), Movie.class))
+ *     .map(Hit::source)
+ *     .subscribe(exporter::write);
+ * }</pre>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class PointInTimeSearch {
+
+    private final ElasticsearchAsyncClient client;
+
+    /**
+     * @param client The asynchronous client
+     */
+    public PointInTimeSearch(ElasticsearchAsyncClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Creates a cold publisher of the hits. Each subscription opens its own point in time.
+     *
+     * @param request       The search
+     * @param documentClass The type of the documents
+     * @param <T>           The type of the documents
+     * @return The hits
+     */
+    public <T> Publisher<Hit<T>> publisher(PointInTimeSearchRequest request, Class<T> documentClass) {
+        return new PointInTimePublisher<>(client, request, documentClass);
+    }
+
+    /**
+     * Creates a cold publisher of the hits of the given indices.
+     *
+     * @param index         The index to search
+     * @param search        The function configuring each page request
+     * @param documentClass The type of the documents
+     * @param <T>           The type of the documents
+     * @return The hits
+     */
+    public <T> Publisher<Hit<T>> publisher(String index,
+                                           Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> search,
+                                           Class<T> documentClass) {
+        return publisher(PointInTimeSearchRequest.builder(index).search(search).build(), documentClass);
+    }
+
+    /**
+     * Creates a sequential stream of the hits blocking while the next page is fetched. The stream must be closed if
+     * it is not consumed entirely, which closes the point in time.
+     *
+     * @param request       The search
+     * @param documentClass The type of the documents
+     * @param <T>           The type of the documents
+     * @return The hits
+     */
+    public <T> Stream<Hit<T>> stream(PointInTimeSearchRequest request, Class<T> documentClass) {
+        BlockingHitIterator<T> iterator = new BlockingHitIterator<>(request.getPageSize());
+        publisher(request, documentClass).subscribe(iterator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::close);
+    }
+}
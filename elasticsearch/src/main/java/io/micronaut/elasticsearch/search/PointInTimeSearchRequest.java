@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.search;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.util.ObjectBuilder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A search streamed by {@link PointInTimeSearch}.
+ *
+ * @since 5.7.0
+ */
+public final class PointInTimeSearchRequest {
+
+    /**
+     * The default number of hits fetched per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /**
+     * The default time the point in time is kept alive between two pages.
+     */
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    private final List<String> indices;
+    private final Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> search;
+    private final int pageSize;
+    private final int slices;
+    private final Duration keepAlive;
+
+    private PointInTimeSearchRequest(Builder builder) {
+        this.indices = builder.indices;
+        this.search = builder.search;
+        this.pageSize = builder.pageSize;
+        this.slices = builder.slices;
+        this.keepAlive = builder.keepAlive;
+    }
+
+    /**
+     * @param indices The indices to search
+     * @return A new builder
+     */
+    public static Builder builder(String... indices) {
+        return new Builder(Arrays.asList(indices));
+    }
+
+    /**
+     * @return The indices to search.
+     */
+    public List<String> getIndices() {
+        return indices;
+    }
+
+    /**
+     * @return The function configuring each page request.
+     */
+    public Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> getSearch() {
+        return search;
+    }
+
+    /**
+     * @return The number of hits fetched per page.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return The number of slices searched in parallel.
+     */
+    public int getSlices() {
+        return slices;
+    }
+
+    /**
+     * @return The time the point in time is kept alive between two pages.
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Builder of {@link PointInTimeSearchRequest}.
+     */
+    public static final class Builder {
+
+        private final List<String> indices;
+        private Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> search = builder -> builder;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private int slices = 1;
+        private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+
+        private Builder(List<String> indices) {
+            if (indices.isEmpty()) {
+                throw new IllegalArgumentException("At least one index is required");
+            }
+            this.indices = List.copyOf(indices);
+        }
+
+        /**
+         * Configures the page requests, for example the query, the source filtering or the sort. The function is
+         * applied to every page request. The index, the size, the point in time, {@code search_after} and the slice
+         * are set by {@link PointInTimeSearch}, and a {@code _shard_doc} tiebreaker is appended to the sort.
+         *
+         * @param search The function configuring each page request
+         * @return This builder
+         */
+        public Builder search(Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> search) {
+            this.search = Objects.requireNonNull(search, "search");
+            return this;
+        }
+
+        /**
+         * @param pageSize The number of hits fetched per page. Default value (1000).
+         * @return This builder
+         */
+        public Builder pageSize(int pageSize) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("The page size must be positive");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Splits the search into slices fetched in parallel, typically one per core. The hits of the slices are
+         * interleaved. Default value (1).
+         *
+         * @param slices The number of slices
+         * @return This builder
+         */
+        public Builder slices(int slices) {
+            if (slices <= 0) {
+                throw new IllegalArgumentException("The number of slices must be positive");
+            }
+            this.slices = slices;
+            return this;
+        }
+
+        /**
+         * @param keepAlive The time the point in time is kept alive between two pages. Default value (1m).
+         * @return This builder
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = Objects.requireNonNull(keepAlive, "keepAlive");
+            return this;
+        }
+
+        /**
+         * @return The request
+         */
+        public PointInTimeSearchRequest build() {
+            return new PointInTimeSearchRequest(this);
+        }
+    }
+}
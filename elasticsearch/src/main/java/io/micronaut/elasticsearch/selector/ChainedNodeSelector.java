@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import io.micronaut.core.annotation.Nullable;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Applies several {@link NodeSelector} one after the other, for example to prefer the local zone and then the
+ * fastest nodes within it.
+ *
+ * @since 5.7.0
+ */
+public final class ChainedNodeSelector implements NodeSelector, NodeStatisticsAware {
+
+    private final List<NodeSelector> selectors;
+    private final NodeStatistics statistics;
+
+    /**
+     * @param selectors  The selectors to apply in order
+     * @param statistics The statistics shared by the selectors, if any
+     */
+    public ChainedNodeSelector(List<NodeSelector> selectors, @Nullable NodeStatistics statistics) {
+        this.selectors = List.copyOf(selectors);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        for (NodeSelector selector : selectors) {
+            selector.select(nodes);
+        }
+    }
+
+    @Override
+    public NodeStatistics getNodeStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return selectors.stream().map(Object::toString).collect(Collectors.joining(","));
+    }
+}
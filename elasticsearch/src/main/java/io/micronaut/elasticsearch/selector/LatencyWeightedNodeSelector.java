@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+import java.util.Iterator;
+
+/**
+ * A {@link NodeSelector} that skips the nodes whose moving average latency is more than a tolerance factor above the
+ * fastest node. Nodes without a recent latency sample are always kept so that slow nodes are measured again once
+ * their average has expired.
+ *
+ * @since 5.7.0
+ */
+public final class LatencyWeightedNodeSelector implements NodeSelector, NodeStatisticsAware {
+
+    /**
+     * The default factor of the fastest latency above which nodes are skipped.
+     */
+    public static final double DEFAULT_TOLERANCE = 2.0;
+
+    private final NodeStatistics statistics;
+    private final double tolerance;
+
+    /**
+     * @param statistics The statistics of the client using the selector
+     */
+    public LatencyWeightedNodeSelector(NodeStatistics statistics) {
+        this(statistics, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * @param statistics The statistics of the client using the selector
+     * @param tolerance  The factor of the fastest latency above which nodes are skipped, at least 1
+     */
+    public LatencyWeightedNodeSelector(NodeStatistics statistics, double tolerance) {
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("tolerance must be at least 1 but was " + tolerance);
+        }
+        this.statistics = statistics;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        long fastest = Long.MAX_VALUE;
+        for (Node node : nodes) {
+            long latency = statistics.latencyNanos(node);
+            if (latency >= 0) {
+                fastest = Math.min(fastest, latency);
+            }
+        }
+        if (fastest == Long.MAX_VALUE) {
+            return;
+        }
+        double threshold = fastest * tolerance;
+        for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+            if (statistics.latencyNanos(itr.next()) > threshold) {
+                itr.remove();
+            }
+        }
+    }
+
+    @Override
+    public NodeStatistics getNodeStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "LATENCY_WEIGHTED";
+    }
+}
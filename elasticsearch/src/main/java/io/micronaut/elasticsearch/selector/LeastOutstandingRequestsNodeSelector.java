@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+import java.util.Iterator;
+
+/**
+ * A {@link NodeSelector} that keeps the nodes with the fewest requests in progress. The client round-robins between
+ * the nodes that are tied.
+ *
+ * @since 5.7.0
+ */
+public final class LeastOutstandingRequestsNodeSelector implements NodeSelector, NodeStatisticsAware {
+
+    private final NodeStatistics statistics;
+
+    /**
+     * @param statistics The statistics of the client using the selector
+     */
+    public LeastOutstandingRequestsNodeSelector(NodeStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        int least = Integer.MAX_VALUE;
+        for (Node node : nodes) {
+            least = Math.min(least, statistics.outstandingRequests(node));
+        }
+        for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+            if (statistics.outstandingRequests(itr.next()) > least) {
+                itr.remove();
+            }
+        }
+    }
+
+    @Override
+    public NodeStatistics getNodeStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public String toString() {
+        return "LEAST_OUTSTANDING_REQUESTS";
+    }
+}
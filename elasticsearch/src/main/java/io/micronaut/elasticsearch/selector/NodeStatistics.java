@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.Node;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per node statistics observed by the HTTP client: the requests in progress and an exponentially weighted moving
+ * average (EWMA) of the time to the response headers. The statistics are collected by interceptors registered on the
+ * {@link HttpAsyncClientBuilder} with {@link #register(HttpAsyncClientBuilder)}.
+ *
+ * @since 5.7.0
+ */
+public final class NodeStatistics {
+
+    /**
+     * The default weight of a new latency sample in the moving average.
+     */
+    public static final double DEFAULT_ALPHA = 0.3;
+
+    /**
+     * The default age after which a request without response is no longer counted as outstanding, and after which a
+     * latency average is considered stale.
+     */
+    public static final Duration DEFAULT_EXPIRY = Duration.ofSeconds(30);
+
+    private static final String START_ATTRIBUTE = NodeStatistics.class.getName() + ".start";
+    private static final long NO_SAMPLE = -1L;
+
+    private final Map<HttpHost, HostStatistics> hosts = new ConcurrentHashMap<>();
+    private final double alpha;
+    private final long expiryNanos;
+
+    /**
+     * Creates statistics with the default weight and expiry.
+     */
+    public NodeStatistics() {
+        this(DEFAULT_ALPHA, DEFAULT_EXPIRY);
+    }
+
+    /**
+     * @param alpha  The weight of a new latency sample in the moving average, between 0 and 1
+     * @param expiry The age after which an outstanding request or a latency average is ignored
+     */
+    public NodeStatistics(double alpha, Duration expiry) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1] but was " + alpha);
+        }
+        this.alpha = alpha;
+        this.expiryNanos = expiry.toNanos();
+    }
+
+    /**
+     * Registers the interceptors collecting the statistics.
+     *
+     * @param builder The builder of the HTTP client used by the {@link org.elasticsearch.client.RestClient}
+     * @return The builder
+     */
+    public HttpAsyncClientBuilder register(HttpAsyncClientBuilder builder) {
+        return builder
+            .addInterceptorFirst((HttpRequestInterceptor) (request, context) -> requestStarted(context))
+            .addInterceptorLast((HttpResponseInterceptor) (response, context) -> responseReceived(context));
+    }
+
+    /**
+     * @param node The node
+     * @return The number of requests sent to the node that did not receive a response yet
+     */
+    public int outstandingRequests(Node node) {
+        HostStatistics statistics = hosts.get(node.getHost());
+        return statistics == null ? 0 : statistics.outstanding(System.nanoTime(), expiryNanos);
+    }
+
+    /**
+     * @return The number of requests sent to any node that did not receive a response yet
+     */
+    public int outstandingRequests() {
+        long now = System.nanoTime();
+        int outstanding = 0;
+        for (HostStatistics statistics : hosts.values()) {
+            outstanding += statistics.outstanding(now, expiryNanos);
+        }
+        return outstanding;
+    }
+
+    /**
+     * @param node The node
+     * @return The moving average of the response latency of the node in nanoseconds, or {@code -1} if there is no
+     * recent sample
+     */
+    public long latencyNanos(Node node) {
+        HostStatistics statistics = hosts.get(node.getHost());
+        return statistics == null ? NO_SAMPLE : statistics.latency(System.nanoTime(), expiryNanos);
+    }
+
+    private void requestStarted(HttpContext context) {
+        HttpHost host = HttpClientContext.adapt(context).getTargetHost();
+        if (host != null) {
+            long now = System.nanoTime();
+            context.setAttribute(START_ATTRIBUTE, now);
+            statistics(host).pending.put(context, now);
+        }
+    }
+
+    private void responseReceived(HttpContext context) {
+        HttpHost host = HttpClientContext.adapt(context).getTargetHost();
+        Object start = context.removeAttribute(START_ATTRIBUTE);
+        if (host != null && start instanceof Long startNanos) {
+            HostStatistics statistics = statistics(host);
+            statistics.pending.remove(context);
+            statistics.record(System.nanoTime() - startNanos, alpha);
+        }
+    }
+
+    private HostStatistics statistics(HttpHost host) {
+        return hosts.computeIfAbsent(host, h -> new HostStatistics());
+    }
+
+    /**
+     * The statistics of one host.
+     */
+    private static final class HostStatistics {
+
+        private final Map<HttpContext, Long> pending = new ConcurrentHashMap<>();
+        private final AtomicLong ewmaNanos = new AtomicLong(NO_SAMPLE);
+        private final AtomicLong lastSampleNanos = new AtomicLong();
+
+        int outstanding(long now, long expiryNanos) {
+            pending.values().removeIf(start -> now - start > expiryNanos);
+            return pending.size();
+        }
+
+        long latency(long now, long expiryNanos) {
+            long ewma = ewmaNanos.get();
+            return ewma == NO_SAMPLE || now - lastSampleNanos.get() > expiryNanos ? NO_SAMPLE : ewma;
+        }
+
+        void record(long latencyNanos, double alpha) {
+            lastSampleNanos.set(System.nanoTime());
+            ewmaNanos.getAndUpdate(previous -> previous == NO_SAMPLE
+                ? latencyNanos
+                : (long) (alpha * latencyNanos + (1 - alpha) * previous));
+        }
+    }
+}
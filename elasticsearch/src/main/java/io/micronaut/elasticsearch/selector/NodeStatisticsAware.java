@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Implemented by the node selectors that rely on {@link NodeStatistics}. The client factory registers the
+ * statistics on the HTTP client of the {@link org.elasticsearch.client.RestClient} using the selector.
+ *
+ * @since 5.7.0
+ */
+public interface NodeStatisticsAware {
+
+    /**
+     * @return The statistics the selector relies on, or {@code null} if it does not need any.
+     */
+    @Nullable
+    NodeStatistics getNodeStatistics();
+}
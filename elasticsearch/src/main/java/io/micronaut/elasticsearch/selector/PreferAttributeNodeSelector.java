@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector;
+
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link NodeSelector} that prefers the nodes having an attribute with the given value, for example the nodes of
+ * the local availability zone. All the nodes are kept when none of them matches. Node attributes are only known for
+ * sniffed nodes.
+ *
+ * @since 5.7.0
+ */
+public final class PreferAttributeNodeSelector implements NodeSelector {
+
+    private final String key;
+    private final String value;
+
+    /**
+     * @param key   The attribute name, for example {@code zone}
+     * @param value The preferred attribute value
+     */
+    public PreferAttributeNodeSelector(String key, String value) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.value = Objects.requireNonNull(value, "value");
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        boolean anyMatch = false;
+        for (Node node : nodes) {
+            if (matches(node)) {
+                anyMatch = true;
+                break;
+            }
+        }
+        if (anyMatch) {
+            for (Iterator<Node> itr = nodes.iterator(); itr.hasNext();) {
+                if (!matches(itr.next())) {
+                    itr.remove();
+                }
+            }
+        }
+    }
+
+    private boolean matches(Node node) {
+        Map<String, List<String>> attributes = node.getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        List<String> values = attributes.get(key);
+        return values != null && values.contains(value);
+    }
+
+    @Override
+    public String toString() {
+        return "PREFER_ATTRIBUTE:" + key + "=" + value;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.serde;
+
+import co.elastic.clients.json.JsonpDeserializer;
+import co.elastic.clients.json.JsonpDeserializerBase;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpMapperBase;
+import co.elastic.clients.json.JsonpSerializer;
+import co.elastic.clients.json.jackson.JacksonJsonProvider;
+import co.elastic.clients.json.jackson.JacksonJsonpGenerator;
+import co.elastic.clients.json.jackson.JacksonJsonpParser;
+import io.micronaut.core.type.Argument;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+import io.micronaut.serde.Decoder;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.Encoder;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.jackson.JacksonEncoder;
+import jakarta.inject.Singleton;
+import jakarta.json.JsonException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.EnumSet;
+
+/**
+ * A {@link JsonpMapper} (de)serializing the documents with Micronaut Serialization. The documents are mapped by the
+ * code generated for the {@code @Serdeable} classes instead of Jackson databind reflection, which also removes the
+ * reflection configuration needed by native images. The Elasticsearch requests and responses keep using their own
+ * serializers, and all the JSON is streamed with jackson-core.
+ *
+ * <p>Enabled with {@code elasticsearch.serde.enabled=true} when {@code io.micronaut.serde:micronaut-serde-jackson}
+ * is on the classpath.</p>
+ *
+ * @since 5.7.0
+ */
+@Singleton
+public class SerdeJsonpMapper extends JsonpMapperBase {
+
+    /**
+     * The property enabling the mapper.
+     */
+    public static final String ENABLED_PROPERTY = ElasticsearchSettings.PREFIX + ".serde.enabled";
+
+    private final SerdeRegistry registry;
+    private final JacksonJsonProvider jsonProvider;
+
+    /**
+     * @param registry The Micronaut Serialization registry
+     */
+    public SerdeJsonpMapper(SerdeRegistry registry) {
+        this(registry, new JacksonJsonProvider());
+    }
+
+    /**
+     * @param registry     The Micronaut Serialization registry
+     * @param jsonProvider The JSON provider creating the parsers and generators
+     */
+    public SerdeJsonpMapper(SerdeRegistry registry, JacksonJsonProvider jsonProvider) {
+        this.registry = registry;
+        this.jsonProvider = jsonProvider;
+    }
+
+    @Override
+    public JsonProvider jsonProvider() {
+        return jsonProvider;
+    }
+
+    @Override
+    public <T> void serialize(T value, JsonGenerator generator) {
+        JsonpSerializer<T> serializer = findSerializer(value);
+        if (serializer != null) {
+            serializer.serialize(value, generator, this);
+            return;
+        }
+        if (!(generator instanceof JacksonJsonpGenerator jacksonGenerator)) {
+            throw new IllegalArgumentException("Serde mapper can only be used with the Jackson JSON provider");
+        }
+        try {
+            serialize(value, JacksonEncoder.create(jacksonGenerator.jacksonGenerator()));
+        } catch (IOException e) {
+            throw new JsonException("Failed to serialize " + value.getClass().getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void serialize(T value, Encoder encoder) throws IOException {
+        Argument<T> type = (Argument<T>) Argument.of(value.getClass());
+        Serializer.EncoderContext context = registry.newEncoderContext(null);
+        Serializer<? super T> serializer = registry.findSerializer(type).createSpecific(context, type);
+        serializer.serialize(encoder, context, type, value);
+    }
+
+    @Override
+    protected <T> JsonpDeserializer<T> getDefaultDeserializer(Type type) {
+        return new SerdeValueDeserializer<>(type);
+    }
+
+    private final class SerdeValueDeserializer<T> extends JsonpDeserializerBase<T> {
+
+        private final Argument<T> type;
+
+        @SuppressWarnings("unchecked")
+        private SerdeValueDeserializer(Type type) {
+            super(EnumSet.allOf(JsonParser.Event.class));
+            this.type = (Argument<T>) Argument.of(type);
+        }
+
+        @Override
+        public T deserialize(JsonParser parser, JsonpMapper mapper, JsonParser.Event event) {
+            if (!(parser instanceof JacksonJsonpParser jacksonParser)) {
+                throw new IllegalArgumentException("Serde mapper can only be used with the Jackson JSON provider");
+            }
+            try {
+                Decoder decoder = JacksonDecoder.create(jacksonParser.jacksonParser());
+                Deserializer.DecoderContext context = registry.newDecoderContext(null);
+                Deserializer<? extends T> deserializer = registry.findDeserializer(type).createSpecific(context, type);
+                return deserializer.deserialize(decoder, context, type);
+            } catch (IOException e) {
+                throw new JsonException("Failed to deserialize " + type.getTypeName() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+}
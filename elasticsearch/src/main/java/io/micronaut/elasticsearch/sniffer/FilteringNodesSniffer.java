@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.sniffer;
+
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.sniff.NodesSniffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A {@link NodesSniffer} that only keeps the sniffed nodes having one of the given roles and all the given
+ * attributes. The roles are checked with the typed accessors of {@link Node.Roles}, so only the roles they
+ * expose are supported.
+ *
+ * @since 5.7.0
+ */
+public final class FilteringNodesSniffer implements NodesSniffer {
+
+    private static final Map<String, Predicate<Node.Roles>> ROLES = Map.of(
+        "master", Node.Roles::isMasterEligible,
+        "data", Node.Roles::isData,
+        "data_content", Node.Roles::isDataContent,
+        "data_hot", Node.Roles::isDataHot,
+        "data_warm", Node.Roles::isDataWarm,
+        "data_cold", Node.Roles::isDataCold,
+        "data_frozen", Node.Roles::isDataFrozen,
+        "ingest", Node.Roles::isIngest,
+        "voting_only", Node.Roles::isVotingOnly
+    );
+
+    private final NodesSniffer delegate;
+    private final List<Predicate<Node.Roles>> roles;
+    private final Map<String, String> attributes;
+
+    /**
+     * @param delegate   The sniffer to filter the nodes of
+     * @param roles      The roles the nodes must have at least one of, all the roles when empty
+     * @param attributes The attributes the nodes must have
+     * @throws IllegalArgumentException if one of the roles isn't supported
+     */
+    public FilteringNodesSniffer(NodesSniffer delegate, Collection<String> roles, Map<String, String> attributes) {
+        this.delegate = delegate;
+        this.roles = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            Predicate<Node.Roles> predicate = ROLES.get(role);
+            if (predicate == null) {
+                throw new IllegalArgumentException("Unsupported node role '" + role + "', expected one of " + ROLES.keySet());
+            }
+            this.roles.add(predicate);
+        }
+        this.attributes = attributes;
+    }
+
+    @Override
+    public List<Node> sniff() throws IOException {
+        List<Node> nodes = delegate.sniff();
+        List<Node> selected = new ArrayList<>(nodes.size());
+        for (Node node : nodes) {
+            if (hasRole(node) && hasAttributes(node)) {
+                selected.add(node);
+            }
+        }
+        return selected;
+    }
+
+    private boolean hasRole(Node node) {
+        if (roles.isEmpty()) {
+            return true;
+        }
+        if (node.getRoles() == null) {
+            return false;
+        }
+        for (Predicate<Node.Roles> role : roles) {
+            if (role.test(node.getRoles())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAttributes(Node node) {
+        if (attributes.isEmpty()) {
+            return true;
+        }
+        Map<String, List<String>> nodeAttributes = node.getAttributes();
+        if (nodeAttributes == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+            List<String> values = nodeAttributes.get(attribute.getKey());
+            if (values == null || !values.contains(attribute.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
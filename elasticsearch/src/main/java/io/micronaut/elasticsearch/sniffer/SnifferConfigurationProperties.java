@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.sniffer;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configurations of the node sniffer.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(SnifferConfigurationProperties.PREFIX)
+public class SnifferConfigurationProperties {
+
+    /**
+     * The prefix to use for the sniffer settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".sniffer";
+
+    /**
+     * The default interval between two sniffs.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * The default delay of the sniff scheduled after a failure.
+     */
+    public static final Duration DEFAULT_SNIFF_AFTER_FAILURE_DELAY = Duration.ofMinutes(1);
+
+    /**
+     * The default timeout of the sniff requests.
+     */
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(1);
+
+    private boolean enabled;
+    private Duration interval = DEFAULT_INTERVAL;
+    private boolean sniffOnFailure = true;
+    private Duration sniffAfterFailureDelay = DEFAULT_SNIFF_AFTER_FAILURE_DELAY;
+    private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+    private ElasticsearchNodesSniffer.Scheme scheme = ElasticsearchNodesSniffer.Scheme.HTTP;
+    private List<String> roles = Collections.emptyList();
+    private Map<String, String> attributes = Collections.emptyMap();
+
+    /**
+     * @return Whether the sniffer is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the sniffer is enabled. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The interval between two sniffs.
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param interval The interval between two sniffs. Default value (5 minutes).
+     */
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * @return Whether the nodes are sniffed again when a node fails.
+     */
+    public boolean isSniffOnFailure() {
+        return sniffOnFailure;
+    }
+
+    /**
+     * @param sniffOnFailure Whether the nodes are sniffed again when a node fails. Default value (true).
+     */
+    public void setSniffOnFailure(boolean sniffOnFailure) {
+        this.sniffOnFailure = sniffOnFailure;
+    }
+
+    /**
+     * @return The delay of the sniff scheduled after a sniff triggered by a failure.
+     */
+    public Duration getSniffAfterFailureDelay() {
+        return sniffAfterFailureDelay;
+    }
+
+    /**
+     * @param sniffAfterFailureDelay The delay of the sniff scheduled after a sniff triggered by a failure.
+     *                               Default value (1 minute).
+     */
+    public void setSniffAfterFailureDelay(Duration sniffAfterFailureDelay) {
+        this.sniffAfterFailureDelay = sniffAfterFailureDelay;
+    }
+
+    /**
+     * @return The timeout of the sniff requests.
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * @param requestTimeout The timeout of the sniff requests. Default value (1 second).
+     */
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * @return The scheme used to connect to the sniffed nodes.
+     */
+    public ElasticsearchNodesSniffer.Scheme getScheme() {
+        return scheme;
+    }
+
+    /**
+     * @param scheme The scheme used to connect to the sniffed nodes. Default value (HTTP).
+     */
+    public void setScheme(ElasticsearchNodesSniffer.Scheme scheme) {
+        this.scheme = scheme;
+    }
+
+    /**
+     * @return The roles the sniffed nodes must have at least one of.
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * @param roles The roles the sniffed nodes must have at least one of, for example {@code data_hot}. All the nodes
+     *              are kept when empty. Supported: {@code master}, {@code data}, {@code data_content},
+     *              {@code data_hot}, {@code data_warm}, {@code data_cold}, {@code data_frozen}, {@code ingest}
+     *              and {@code voting_only}.
+     */
+    public void setRoles(List<String> roles) {
+        this.roles = roles;
+    }
+
+    /**
+     * @return The attributes the sniffed nodes must have.
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * @param attributes The attribute names and values the sniffed nodes must have.
+     */
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+}
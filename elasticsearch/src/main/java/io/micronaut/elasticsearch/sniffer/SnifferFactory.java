@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.sniffer;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.NodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
+
+/**
+ * Creates the {@link Sniffer} that keeps the nodes of the {@link RestClient} in sync with the cluster.
+ *
+ * @since 5.7.0
+ */
+@Factory
+@Requires(property = SnifferConfigurationProperties.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class SnifferFactory {
+
+    /**
+     * The listener is registered on the {@link RestClient} and sniffs the nodes again when a node fails.
+     *
+     * @return The {@link SniffOnFailureListener}
+     */
+    @Singleton
+    @Requires(property = SnifferConfigurationProperties.PREFIX + ".sniff-on-failure", notEquals = StringUtils.FALSE)
+    SniffOnFailureListener sniffOnFailureListener() {
+        return new SniffOnFailureListener();
+    }
+
+    /**
+     * The sniffer is created eagerly so that the first sniff happens at startup.
+     *
+     * @param restClient            The {@link RestClient} to update the nodes of
+     * @param configuration         The sniffer configuration
+     * @param sniffOnFailureListener The listener sniffing on failure, if enabled
+     * @return The {@link Sniffer}
+     */
+    @Context
+    @Bean(preDestroy = "close")
+    Sniffer sniffer(RestClient restClient,
+                    SnifferConfigurationProperties configuration,
+                    @Nullable SniffOnFailureListener sniffOnFailureListener) {
+        NodesSniffer nodesSniffer = new ElasticsearchNodesSniffer(restClient,
+            configuration.getRequestTimeout().toMillis(), configuration.getScheme());
+        if (!configuration.getRoles().isEmpty() || !configuration.getAttributes().isEmpty()) {
+            nodesSniffer = new FilteringNodesSniffer(nodesSniffer, configuration.getRoles(), configuration.getAttributes());
+        }
+        Sniffer sniffer = Sniffer.builder(restClient)
+            .setSniffIntervalMillis(Math.toIntExact(configuration.getInterval().toMillis()))
+            .setSniffAfterFailureDelayMillis(Math.toIntExact(configuration.getSniffAfterFailureDelay().toMillis()))
+            .setNodesSniffer(nodesSniffer)
+            .build();
+        if (sniffOnFailureListener != null) {
+            sniffOnFailureListener.setSniffer(sniffer);
+        }
+        return sniffer;
+    }
+}
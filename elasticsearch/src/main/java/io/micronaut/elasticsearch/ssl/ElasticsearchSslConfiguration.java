@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.ssl;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+import io.micronaut.http.ssl.SslConfiguration;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+
+/**
+ * The TLS configuration of the default cluster, with the key store, trust store, protocols and ciphers of the
+ * Micronaut SSL configuration model. The client keeps a cache of the TLS sessions so that the new connections to a
+ * node resume a session instead of running a full handshake.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(ElasticsearchSslConfiguration.PREFIX)
+public class ElasticsearchSslConfiguration extends SslConfiguration {
+
+    /**
+     * The prefix to use for the TLS settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".ssl";
+
+    /**
+     * The property enabling TLS.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    /**
+     * The default number of TLS sessions cached.
+     */
+    public static final int DEFAULT_SESSION_CACHE_SIZE = 1000;
+
+    /**
+     * The default time a TLS session can be resumed.
+     */
+    public static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofHours(24);
+
+    private int sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    private Duration sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+    private String provider;
+    private boolean hostnameVerification = true;
+
+    /**
+     * @return The number of TLS sessions cached
+     */
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    /**
+     * @param sessionCacheSize The number of TLS sessions cached for resumption, or 0 for no limit. Default value
+     *                         ({@value #DEFAULT_SESSION_CACHE_SIZE}).
+     */
+    public void setSessionCacheSize(int sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    /**
+     * @return The time a TLS session can be resumed
+     */
+    public Duration getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    /**
+     * @param sessionTimeout The time a TLS session can be resumed after it was established. Default value (24h).
+     */
+    public void setSessionTimeout(Duration sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+    }
+
+    /**
+     * @return The name of the security provider of the TLS engine, if not the default one
+     */
+    public @Nullable String getProvider() {
+        return provider;
+    }
+
+    /**
+     * @param provider The name of a registered security provider implementing the TLS engine, for instance
+     *                 {@code Conscrypt} for BoringSSL or {@code openssl} for Wildfly OpenSSL. Defaults to the
+     *                 provider of the JDK.
+     */
+    public void setProvider(@Nullable String provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * @return Whether the host name of the nodes is verified against their certificate
+     */
+    public boolean isHostnameVerification() {
+        return hostnameVerification;
+    }
+
+    /**
+     * @param hostnameVerification Whether the host name of the nodes is verified against their certificate.
+     *                             Default value (true).
+     */
+    public void setHostnameVerification(boolean hostnameVerification) {
+        this.hostnameVerification = hostnameVerification;
+    }
+
+    /**
+     * @param keyConfiguration The key configuration
+     */
+    @Inject
+    void setKey(@Nullable ElasticsearchKeyConfiguration keyConfiguration) {
+        if (keyConfiguration != null) {
+            super.setKey(keyConfiguration);
+        }
+    }
+
+    /**
+     * @param keyStoreConfiguration The key store configuration
+     */
+    @Inject
+    void setKeyStore(@Nullable ElasticsearchKeyStoreConfiguration keyStoreConfiguration) {
+        if (keyStoreConfiguration != null) {
+            super.setKeyStore(keyStoreConfiguration);
+        }
+    }
+
+    /**
+     * @param trustStoreConfiguration The trust store configuration
+     */
+    @Inject
+    void setTrustStore(@Nullable ElasticsearchTrustStoreConfiguration trustStoreConfiguration) {
+        if (trustStoreConfiguration != null) {
+            super.setTrustStore(trustStoreConfiguration);
+        }
+    }
+
+    /**
+     * The key configuration.
+     */
+    @ConfigurationProperties(KeyConfiguration.PREFIX)
+    public static class ElasticsearchKeyConfiguration extends KeyConfiguration {
+    }
+
+    /**
+     * The key store configuration.
+     */
+    @ConfigurationProperties(KeyStoreConfiguration.PREFIX)
+    public static class ElasticsearchKeyStoreConfiguration extends KeyStoreConfiguration {
+    }
+
+    /**
+     * The trust store configuration.
+     */
+    @ConfigurationProperties(TrustStoreConfiguration.PREFIX)
+    public static class ElasticsearchTrustStoreConfiguration extends TrustStoreConfiguration {
+    }
+}
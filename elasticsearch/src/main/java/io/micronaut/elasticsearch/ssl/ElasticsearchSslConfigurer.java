@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.ssl;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.ssl.SslConfiguration;
+import jakarta.inject.Singleton;
+import org.apache.http.conn.ssl.DefaultHostnameVerifier;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configures the TLS of the default cluster from the {@link ElasticsearchSslConfiguration}, through the connection
+ * manager of its {@link HttpAsyncClientBuilder}, or the builder itself when it was replaced. The builders of the named
+ * clusters are left untouched.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+@Requires(property = ElasticsearchSslConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class ElasticsearchSslConfigurer implements BeanCreatedEventListener<HttpAsyncClientBuilder> {
+
+    private static final String DEFAULT_PROTOCOL = "TLS";
+
+    private final ElasticsearchSslConfiguration configuration;
+    private final ResourceResolver resourceResolver;
+    private final List<TlsHandshakeListener> listeners;
+    private SSLIOSessionStrategy sessionStrategy;
+
+    /**
+     * @param configuration    The TLS configuration
+     * @param resourceResolver The resolver of the key and trust stores
+     * @param listeners        The handshake listeners
+     */
+    public ElasticsearchSslConfigurer(ElasticsearchSslConfiguration configuration,
+                                      ResourceResolver resourceResolver,
+                                      List<TlsHandshakeListener> listeners) {
+        this.configuration = configuration;
+        this.resourceResolver = resourceResolver;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public HttpAsyncClientBuilder onCreated(BeanCreatedEvent<HttpAsyncClientBuilder> event) {
+        if (event.getBeanDefinition().hasDeclaredAnnotation(EachBean.class)) {
+            return event.getBean();
+        }
+        return configure(event.getBean());
+    }
+
+    /**
+     * Sets the session strategy of the builder. It only applies to a builder without a connection manager, the
+     * builders created by {@link io.micronaut.elasticsearch.DefaultHttpAsyncClientBuilderFactory} get the
+     * {@link #sessionStrategy()} through their connection manager instead.
+     *
+     * @param builder The builder of the HTTP client
+     * @return The builder
+     */
+    public HttpAsyncClientBuilder configure(HttpAsyncClientBuilder builder) {
+        return builder.setSSLStrategy(sessionStrategy());
+    }
+
+    /**
+     * The session strategy of the HTTPS connections. It is built once with the {@link SSLContext} of
+     * {@link #buildSslContext()}, so that all the connections share its session cache.
+     *
+     * @return The session strategy
+     */
+    public synchronized SSLIOSessionStrategy sessionStrategy() {
+        if (sessionStrategy == null) {
+            sessionStrategy = new InstrumentedSslIOSessionStrategy(
+                buildSslContext(),
+                configuration.getProtocols().orElse(null),
+                configuration.getCiphers().orElse(null),
+                configuration.isHostnameVerification() ? new DefaultHostnameVerifier() : NoopHostnameVerifier.INSTANCE,
+                listeners
+            );
+        }
+        return sessionStrategy;
+    }
+
+    /**
+     * Builds the {@link SSLContext} with the configured key and trust stores, and a client session cache sized and
+     * expiring according to the configuration.
+     *
+     * @return The SSL context
+     */
+    public SSLContext buildSslContext() {
+        String protocol = configuration.getProtocol().orElse(DEFAULT_PROTOCOL);
+        String provider = configuration.getProvider();
+        try {
+            SSLContext sslContext = provider == null
+                ? SSLContext.getInstance(protocol)
+                : SSLContext.getInstance(protocol, provider);
+            sslContext.init(keyManagers(), trustManagers(), null);
+            SSLSessionContext sessions = sslContext.getClientSessionContext();
+            if (sessions != null) {
+                sessions.setSessionCacheSize(configuration.getSessionCacheSize());
+                sessions.setSessionTimeout((int) Math.min(Integer.MAX_VALUE, configuration.getSessionTimeout().toSeconds()));
+            }
+            return sslContext;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new ConfigurationException("Failed to configure TLS under " + ElasticsearchSslConfiguration.PREFIX
+                + ": " + e.getMessage(), e);
+        }
+    }
+
+    private KeyManager[] keyManagers() throws GeneralSecurityException, IOException {
+        SslConfiguration.KeyStoreConfiguration keyStoreConfiguration = configuration.getKeyStore();
+        KeyStore keyStore = load(keyStoreConfiguration);
+        if (keyStore == null) {
+            return null;
+        }
+        SslConfiguration.KeyConfiguration key = configuration.getKey();
+        key.getAlias().ifPresent(alias -> retainKey(keyStore, alias));
+        char[] password = key.getPassword()
+            .or(keyStoreConfiguration::getPassword)
+            .map(String::toCharArray)
+            .orElse(null);
+        KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore, password);
+        return factory.getKeyManagers();
+    }
+
+    private TrustManager[] trustManagers() throws GeneralSecurityException, IOException {
+        KeyStore trustStore = load(configuration.getTrustStore());
+        if (trustStore == null) {
+            return null;
+        }
+        TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(trustStore);
+        return factory.getTrustManagers();
+    }
+
+    private KeyStore load(SslConfiguration.KeyStoreConfiguration store) throws GeneralSecurityException, IOException {
+        String path = store.getPath().orElse(null);
+        if (path == null) {
+            return null;
+        }
+        String type = store.getType().orElse(KeyStore.getDefaultType());
+        KeyStore keyStore = store.getProvider().isPresent()
+            ? KeyStore.getInstance(type, store.getProvider().get())
+            : KeyStore.getInstance(type);
+        try (InputStream input = resourceResolver.getResourceAsStream(path)
+            .orElseThrow(() -> new IOException("Store not found: " + path))) {
+            keyStore.load(input, store.getPassword().map(String::toCharArray).orElse(null));
+        }
+        return keyStore;
+    }
+
+    private static void retainKey(KeyStore keyStore, String alias) {
+        try {
+            for (String entry : Collections.list(keyStore.aliases())) {
+                if (!entry.equals(alias) && keyStore.isKeyEntry(entry)) {
+                    keyStore.deleteEntry(entry);
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new ConfigurationException("Failed to select the key " + alias + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.ssl;
+
+import org.apache.http.HttpHost;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOSession;
+import org.apache.http.nio.reactor.ssl.SSLIOSession;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A {@link SSLIOSessionStrategy} notifying the {@link TlsHandshakeListener}s of the completed handshakes.
+ *
+ * <p>A handshake is reported as resumed when the negotiated session was created before the handshake started, which
+ * is the case when the client offered a cached session and the node accepted it.</p>
+ *
+ * @since 5.7.0
+ */
+final class InstrumentedSslIOSessionStrategy extends SSLIOSessionStrategy {
+
+    private static final String HANDSHAKE_ATTRIBUTE = InstrumentedSslIOSessionStrategy.class.getName() + ".handshake";
+
+    private final List<TlsHandshakeListener> listeners;
+
+    /**
+     * @param sslContext            The SSL context
+     * @param supportedProtocols    The enabled protocols, or null for the defaults of the context
+     * @param supportedCipherSuites The enabled cipher suites, or null for the defaults of the context
+     * @param hostnameVerifier      The host name verifier
+     * @param listeners             The handshake listeners
+     */
+    InstrumentedSslIOSessionStrategy(SSLContext sslContext,
+                                     String[] supportedProtocols,
+                                     String[] supportedCipherSuites,
+                                     HostnameVerifier hostnameVerifier,
+                                     List<TlsHandshakeListener> listeners) {
+        super(sslContext, supportedProtocols, supportedCipherSuites, hostnameVerifier);
+        this.listeners = listeners;
+    }
+
+    @Override
+    public SSLIOSession upgrade(HttpHost host, IOSession iosession) throws IOException {
+        if (!listeners.isEmpty()) {
+            iosession.setAttribute(HANDSHAKE_ATTRIBUTE, new HandshakeStart(System.nanoTime(), System.currentTimeMillis()));
+        }
+        return super.upgrade(host, iosession);
+    }
+
+    @Override
+    protected void verifySession(HttpHost host, IOSession iosession, SSLSession sslsession) throws SSLException {
+        super.verifySession(host, iosession, sslsession);
+        if (iosession.removeAttribute(HANDSHAKE_ATTRIBUTE) instanceof HandshakeStart start) {
+            long durationNanos = System.nanoTime() - start.nanos();
+            boolean resumed = sslsession.getCreationTime() < start.millis();
+            for (TlsHandshakeListener listener : listeners) {
+                listener.onHandshake(host.getHostName(), sslsession.getProtocol(), resumed, durationNanos);
+            }
+        }
+    }
+
+    /**
+     * The start of a handshake.
+     *
+     * @param nanos  The monotonic start time
+     * @param millis The wall clock start time, to compare with the creation time of the session
+     */
+    private record HandshakeStart(long nanos, long millis) {
+    }
+}
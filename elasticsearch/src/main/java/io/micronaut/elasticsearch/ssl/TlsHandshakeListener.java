@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.ssl;
+
+/**
+ * Notified when the HTTP client completes a TLS handshake.
+ *
+ * @since 5.7.0
+ */
+@FunctionalInterface
+public interface TlsHandshakeListener {
+
+    /**
+     * @param host          The host of the node
+     * @param protocol      The negotiated protocol, for instance {@code TLSv1.3}
+     * @param resumed       Whether an existing session was resumed instead of a full handshake
+     * @param durationNanos The duration of the handshake in nanoseconds
+     */
+    void onHandshake(String host, String protocol, boolean resumed, long durationNanos);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransportBase;
+import co.elastic.clients.transport.rest_client.RestClientHttpClient;
+import org.elasticsearch.client.RestClient;
+
+import java.util.List;
+
+/**
+ * A transport over a {@link RestClient} compressing the request bodies with a {@link CompressingTransportHttpClient}.
+ * The {@code compressionEnabled} flag of the {@link RestClient} compresses every body, whatever its size.
+ *
+ * @since 5.7.0
+ */
+public class CompressingRestClientTransport extends ElasticsearchTransportBase {
+
+    private final RestClient restClient;
+
+    /**
+     * @param restClient The low-level client
+     * @param jsonpMapper The JSON mapper
+     * @param threshold The minimum size of the compressed bodies
+     * @param listeners The listeners notified of the compressed bodies
+     */
+    public CompressingRestClientTransport(RestClient restClient,
+                                          JsonpMapper jsonpMapper,
+                                          int threshold,
+                                          List<RequestCompressionListener> listeners) {
+        super(new CompressingTransportHttpClient(new RestClientHttpClient(restClient), threshold, listeners), null, jsonpMapper);
+        this.restClient = restClient;
+    }
+
+    /**
+     * @return The low-level client.
+     */
+    public RestClient restClient() {
+        return restClient;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import io.micronaut.core.annotation.Nullable;
+import org.apache.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link TransportHttpClient} sending the request bodies of at least {@code threshold} bytes gzip encoded.
+ * Smaller bodies are sent as is.
+ *
+ * @since 5.7.0
+ */
+public class CompressingTransportHttpClient implements TransportHttpClient {
+
+    private static final String GZIP = "gzip";
+
+    private final TransportHttpClient delegate;
+    private final int threshold;
+    private final List<RequestCompressionListener> listeners;
+
+    /**
+     * @param delegate  The client sending the requests
+     * @param threshold The minimum size of the compressed bodies
+     * @param listeners The listeners notified of the compressed bodies
+     */
+    public CompressingTransportHttpClient(TransportHttpClient delegate, int threshold, List<RequestCompressionListener> listeners) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public TransportOptions createOptions(@Nullable TransportOptions options) {
+        return delegate.createOptions(options);
+    }
+
+    @Override
+    public Response performRequest(String endpointId, @Nullable Node node, Request request, TransportOptions options) throws IOException {
+        return delegate.performRequest(endpointId, node, compress(endpointId, request), options);
+    }
+
+    @Override
+    public CompletableFuture<Response> performRequestAsync(String endpointId, @Nullable Node node, Request request, TransportOptions options) {
+        Request compressed;
+        try {
+            compressed = compress(endpointId, request);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return delegate.performRequestAsync(endpointId, node, compressed, options);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Request compress(String endpointId, Request request) throws IOException {
+        Iterable<ByteBuffer> body = request.body();
+        if (body == null || request.headers().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return request;
+        }
+        long size = 0;
+        for (ByteBuffer buffer : body) {
+            size += buffer.remaining();
+        }
+        if (size < threshold) {
+            return request;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE, size / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            for (ByteBuffer buffer : body) {
+                write(gzip, buffer);
+            }
+        }
+        byte[] compressed = out.toByteArray();
+        for (RequestCompressionListener listener : listeners) {
+            listener.onRequestCompressed(endpointId, size, compressed.length);
+        }
+        Map<String, String> headers = new HashMap<>(request.headers());
+        headers.put(HttpHeaders.CONTENT_ENCODING, GZIP);
+        return new Request(request.method(), request.path(), request.queryParams(), headers,
+            Collections.singletonList(ByteBuffer.wrap(compressed)));
+    }
+
+    private static void write(GZIPOutputStream gzip, ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            gzip.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            gzip.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class of the {@link ElasticsearchTransport} decorators. All the calls are forwarded to the delegate.
+ *
+ * @since 5.7.0
+ */
+public abstract class DelegatingElasticsearchTransport implements ElasticsearchTransport {
+
+    private final ElasticsearchTransport delegate;
+
+    /**
+     * @param delegate The decorated transport
+     */
+    protected DelegatingElasticsearchTransport(ElasticsearchTransport delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * @return The decorated transport.
+     */
+    public ElasticsearchTransport getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Unwraps the decorators of a transport.
+     *
+     * @param transport The transport
+     * @return The innermost transport that is not a {@link DelegatingElasticsearchTransport}
+     */
+    public static ElasticsearchTransport unwrap(ElasticsearchTransport transport) {
+        ElasticsearchTransport unwrapped = transport;
+        while (unwrapped instanceof DelegatingElasticsearchTransport delegating) {
+            unwrapped = delegating.getDelegate();
+        }
+        return unwrapped;
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        return delegate.performRequest(request, endpoint, options);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                         @Nullable TransportOptions options) {
+        return delegate.performRequestAsync(request, endpoint, options);
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return delegate.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return delegate.options();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
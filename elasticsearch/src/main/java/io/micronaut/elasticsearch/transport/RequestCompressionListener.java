@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+/**
+ * Notified when a request body is compressed by the {@link CompressingTransportHttpClient}.
+ *
+ * @since 5.7.0
+ */
+@FunctionalInterface
+public interface RequestCompressionListener {
+
+    /**
+     * @param endpointId        The id of the endpoint
+     * @param uncompressedBytes The size of the body before compression
+     * @param compressedBytes   The size of the body sent
+     */
+    void onRequestCompressed(String endpointId, long uncompressedBytes, long compressedBytes);
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Waits on the futures of the asynchronous requests from the blocking APIs.
+ *
+ * @since 5.7.0
+ */
+@Internal
+public final class ResponseFutures {
+
+    private ResponseFutures() {
+    }
+
+    /**
+     * Waits on the future rather than on the monitor of the blocking low-level client, so that virtual threads are
+     * not pinned. The request is cancelled when the waiting thread is interrupted, and the failure of the request is
+     * thrown as it is, as well as the {@link IOException} a request was aborted with, such as an expired deadline.
+     *
+     * @param future     The future of the response
+     * @param endpointId The endpoint of the request
+     * @param <T>        The type of the response
+     * @return The response
+     * @throws IOException If the request fails or the waiting thread is interrupted
+     */
+    public static <T> T await(CompletableFuture<T> future, String endpointId) throws IOException {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            if (e.getCause() instanceof IOException reason) {
+                throw reason;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for the response of " + endpointId);
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
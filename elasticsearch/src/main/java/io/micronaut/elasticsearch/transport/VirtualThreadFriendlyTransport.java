@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport;
+
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import io.micronaut.core.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link ElasticsearchTransport} performing the blocking requests on the asynchronous path of its delegate.
+ *
+ * <p>The blocking path of the low-level client waits on the Apache HTTP client future, whose monitor pins the carrier
+ * thread of a virtual thread on JDK 21. Waiting on a {@link CompletableFuture} parks the virtual thread instead, so the
+ * carrier thread is released for the other virtual threads while the request is in flight.</p>
+ *
+ * @since 5.7.0
+ */
+public final class VirtualThreadFriendlyTransport extends DelegatingElasticsearchTransport {
+
+    /**
+     * @param delegate The decorated transport
+     */
+    public VirtualThreadFriendlyTransport(ElasticsearchTransport delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                  Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                  @Nullable TransportOptions options) throws IOException {
+        return ResponseFutures.await(performRequestAsync(request, endpoint, options), endpoint.id());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.warmup;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Creates the clients of all the clusters and opens their connections in the background at startup, so that the first
+ * requests after a deploy don't pay for the TCP and TLS handshakes. The clusters are warmed up in parallel, and so are
+ * the connections of each cluster.
+ *
+ * @since 5.7.0
+ */
+@Singleton
+@Requires(property = WarmupConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class ElasticsearchWarmup implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchWarmup.class);
+
+    private final BeanContext beanContext;
+    private final WarmupConfiguration configuration;
+    private final ExecutorService executor;
+    private final AtomicReference<CompletableFuture<Void>> completion = new AtomicReference<>();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final AtomicInteger failedConnections = new AtomicInteger();
+    private volatile Duration duration;
+
+    /**
+     * @param beanContext   The bean context creating the clients
+     * @param configuration The warmup configuration
+     * @param executor      The executor creating the clients
+     */
+    public ElasticsearchWarmup(BeanContext beanContext,
+                               WarmupConfiguration configuration,
+                               @Named(TaskExecutors.IO) ExecutorService executor) {
+        this.beanContext = beanContext;
+        this.configuration = configuration;
+        this.executor = executor;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        warmup();
+    }
+
+    /**
+     * Starts the warmup unless it is already started.
+     *
+     * @return The completion of the warmup, which never fails
+     */
+    public CompletableFuture<Void> warmup() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (!completion.compareAndSet(null, result)) {
+            return completion.get();
+        }
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (BeanDefinition<RestClient> definition : beanContext.getBeanDefinitions(RestClient.class)) {
+            tasks.add(CompletableFuture.supplyAsync(() -> beanContext.getBean(definition), executor)
+                .thenCompose(this::openConnections));
+        }
+        for (Class<?> type : List.of(ElasticsearchClient.class, ElasticsearchAsyncClient.class)) {
+            for (BeanDefinition<?> definition : beanContext.getBeanDefinitions(type)) {
+                tasks.add(CompletableFuture.runAsync(() -> beanContext.getBean(definition), executor));
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+            .orTimeout(configuration.getTimeout().toNanos(), TimeUnit.NANOSECONDS)
+            .whenComplete((ignored, error) -> {
+                duration = Duration.ofNanos(System.nanoTime() - start);
+                if (error != null) {
+                    LOG.warn("Elasticsearch warmup ended after {} with {} open and {} failed connections", duration, openedConnections.get(), failedConnections.get(), error);
+                } else if (LOG.isDebugEnabled()) {
+                    LOG.debug("Elasticsearch warmup took {} with {} open and {} failed connections", duration, openedConnections.get(), failedConnections.get());
+                }
+                result.complete(null);
+            });
+        return result;
+    }
+
+    /**
+     * @return Whether the warmup is over, successful or not
+     */
+    public boolean isDone() {
+        CompletableFuture<Void> result = completion.get();
+        return result != null && result.isDone();
+    }
+
+    /**
+     * @return The duration of the warmup, once it is over
+     */
+    public @Nullable Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return The number of connections opened by the warmup
+     */
+    public int getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /**
+     * @return The number of connections the warmup failed to open
+     */
+    public int getFailedConnections() {
+        return failedConnections.get();
+    }
+
+    /**
+     * Sends as many concurrent requests as connections to open. The nodes are selected in turn, so each host receives
+     * its share of the requests, and each request in flight holds its own connection.
+     */
+    private CompletableFuture<Void> openConnections(RestClient restClient) {
+        int count = restClient.getNodes().size() * Math.max(1, configuration.getConnectionsPerHost());
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[count];
+        for (int i = 0; i < count; i++) {
+            CompletableFuture<Void> request = new CompletableFuture<>();
+            restClient.performRequestAsync(new Request("HEAD", "/"), new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                    openedConnections.incrementAndGet();
+                    request.complete(null);
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                    if (exception instanceof ResponseException) {
+                        // an error status still went through an open connection
+                        openedConnections.incrementAndGet();
+                    } else {
+                        failedConnections.incrementAndGet();
+                        LOG.debug("Failed to open a connection to Elasticsearch during the warmup", exception);
+                    }
+                    request.complete(null);
+                }
+            });
+            requests[i] = request;
+        }
+        return CompletableFuture.allOf(requests);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.warmup;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.endpoint.health.HealthEndpoint;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A readiness {@link HealthIndicator} that is DOWN until the {@link ElasticsearchWarmup} is over.
+ *
+ * @since 5.7.0
+ */
+@Readiness
+@Singleton
+@Requires(beans = HealthEndpoint.class)
+@Requires(property = WarmupConfiguration.ENABLED_PROPERTY, value = StringUtils.TRUE)
+public class ElasticsearchWarmupHealthIndicator implements HealthIndicator {
+
+    /**
+     * The name of the health indicator.
+     */
+    public static final String NAME = "elasticsearchwarmup";
+
+    private final ElasticsearchWarmup warmup;
+
+    /**
+     * @param warmup The warmup
+     */
+    public ElasticsearchWarmupHealthIndicator(ElasticsearchWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("opened_connections", warmup.getOpenedConnections());
+        details.put("failed_connections", warmup.getFailedConnections());
+        Duration duration = warmup.getDuration();
+        if (duration != null) {
+            details.put("duration_millis", duration.toMillis());
+        }
+        HealthStatus status = warmup.isDone() ? HealthStatus.UP : HealthStatus.DOWN;
+        return Publishers.just(HealthResult.builder(NAME).status(status).details(details).build());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.warmup;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.elasticsearch.ElasticsearchSettings;
+
+import java.time.Duration;
+
+/**
+ * Configurations of the {@link ElasticsearchWarmup}. The clients are created on first use unless the warmup is
+ * enabled.
+ *
+ * @since 5.7.0
+ */
+@ConfigurationProperties(WarmupConfiguration.PREFIX)
+public class WarmupConfiguration {
+
+    /**
+     * The prefix to use for the warmup settings.
+     */
+    public static final String PREFIX = ElasticsearchSettings.PREFIX + ".warmup";
+
+    /**
+     * The property enabling the warmup.
+     */
+    public static final String ENABLED_PROPERTY = PREFIX + ".enabled";
+
+    /**
+     * The default number of connections opened per host.
+     */
+    public static final int DEFAULT_CONNECTIONS_PER_HOST = 2;
+
+    /**
+     * The default maximum duration of the warmup.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private boolean enabled;
+    private int connectionsPerHost = DEFAULT_CONNECTIONS_PER_HOST;
+    private Duration timeout = DEFAULT_TIMEOUT;
+
+    /**
+     * @return Whether the clients are created and their connections opened at startup.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether the clients are created and their connections opened at startup, in the background.
+     *                When disabled, the clients are created on first use. Default value (false).
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The number of connections opened per host.
+     */
+    public int getConnectionsPerHost() {
+        return connectionsPerHost;
+    }
+
+    /**
+     * @param connectionsPerHost The number of connections opened in parallel per host, bounded by the
+     *                           {@code max-conn-per-route} of the cluster. Default value
+     *                           ({@value #DEFAULT_CONNECTIONS_PER_HOST}).
+     */
+    public void setConnectionsPerHost(int connectionsPerHost) {
+        this.connectionsPerHost = connectionsPerHost;
+    }
+
+    /**
+     * @return The maximum duration of the warmup.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout The maximum duration of the warmup, after which the application is reported ready even if some
+     *                connections are not open. Default value (30s).
+     */
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -16,10 +16,14 @@
 
 package io.micronaut.elasticsearch
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
 import co.elastic.clients.elasticsearch.ElasticsearchClient
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.Factory
 import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
 import org.apache.http.HttpHost
 import org.apache.http.auth.AuthScope
 import org.apache.http.auth.UsernamePasswordCredentials
@@ -28,9 +32,16 @@ import org.apache.http.impl.client.BasicCredentialsProvider
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder
 import org.apache.http.impl.nio.reactor.IOReactorConfig
 import org.elasticsearch.client.NodeSelector
+import org.elasticsearch.client.RestClient
 import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
 
 import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
 
 /**
  * @author Puneet Behl
@@ -38,6 +49,8 @@ import jakarta.inject.Singleton
  */
 class DefaultElasticsearchConfigurationPropertiesSpec extends Specification {
 
+    private static final String HEALTH = '{"cluster_name":"test","status":"green","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}'
+
     void "Test Elasticsearch rest client configrations"() {
         when:
         ApplicationContext applicationContext = ApplicationContext.run(
@@ -100,6 +113,95 @@ class DefaultElasticsearchConfigurationPropertiesSpec extends Specification {
 
     }
 
+    void "Test Elasticsearch connection pool and IO reactor configurations"() {
+
+        when:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                "elasticsearch.httpHosts": "http://127.0.0.1:9200",
+                "elasticsearch.http.max-conn-per-route": 50,
+                "elasticsearch.http.max-conn-total": 200,
+                "elasticsearch.http.io-thread-count": 2,
+                "elasticsearch.http.socket-send-buffer-size": 65536,
+                "elasticsearch.http.socket-receive-buffer-size": 131072,
+                "elasticsearch.http.tcp-no-delay": true,
+                "elasticsearch.http.keep-alive": "30s"
+        )
+        DefaultElasticsearchConfigurationProperties.HttpConfigurationProperties http =
+                applicationContext.getBean(DefaultElasticsearchConfigurationProperties).http
+
+        then:
+        http.maxConnPerRoute == 50
+        http.maxConnTotal == 200
+        http.ioThreadCount == 2
+        http.socketSendBufferSize == 65536
+        http.socketReceiveBufferSize == 131072
+        http.tcpNoDelay
+        http.soKeepAlive == null
+        http.keepAlive == Duration.ofSeconds(30)
+        applicationContext.getBean(RestClient).isRunning()
+
+        cleanup:
+        applicationContext.close()
+
+    }
+
+    void "Test the IO reactor configuration is built from the configured values"() {
+
+        given:
+        DefaultElasticsearchConfigurationProperties.HttpConfigurationProperties http =
+                new DefaultElasticsearchConfigurationProperties.HttpConfigurationProperties()
+        http.ioThreadCount = 3
+        http.tcpNoDelay = false
+
+        when:
+        IOReactorConfig ioReactorConfig = http.ioReactorConfig()
+
+        then:
+        ioReactorConfig.ioThreadCount == 3
+        !ioReactorConfig.tcpNoDelay
+        ioReactorConfig.soTimeout == IOReactorConfig.DEFAULT.soTimeout
+        ioReactorConfig.sndBufSize == IOReactorConfig.DEFAULT.sndBufSize
+
+    }
+
+    void "Test the client uses the configured connection pool and IO reactor values"() {
+
+        given:
+        StubElasticsearchServer server = new StubElasticsearchServer()
+        server.on('/_cluster/health') { RecordedRequest request ->
+            StubResponse response = json(HEALTH)
+            response.delayMillis = 500
+            return response
+        }
+        Set<Thread> existingThreads = Thread.getAllStackTraces().keySet()
+
+        when:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                "elasticsearch.httpHosts": server.httpHost,
+                "elasticsearch.http.max-conn-per-route": 1,
+                "elasticsearch.http.max-conn-total": 1,
+                "elasticsearch.http.io-thread-count": 3
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+        List<CompletableFuture<?>> responses = (1..2).collect { client.cluster().health() }
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            server.requests('/_cluster/health').size() == 1
+        }
+        !responses.every { it.isDone() }
+        responses.every { it.get(5, TimeUnit.SECONDS) }
+        server.requests('/_cluster/health').size() == 2
+        Thread.getAllStackTraces().keySet().findAll {
+            !existingThreads.contains(it) && it.name.startsWith('I/O dispatcher ')
+        }*.name.toSorted() == ['I/O dispatcher 1', 'I/O dispatcher 2', 'I/O dispatcher 3']
+
+        cleanup:
+        applicationContext?.close()
+        server.close()
+
+    }
+
     void "Test Elasticsearch configuration with file"() {
 
         given:
@@ -128,12 +230,18 @@ class DefaultElasticsearchConfigurationPropertiesSpec extends Specification {
     void "Test overiding HttpAsyncClientBuilder bean"() {
 
         when:
-        ApplicationContext applicationContext = ApplicationContext.run("elasticsearch.httpHosts": "http://127.0.0.1:9200,http://127.0.1.1:9200")
+        ApplicationContext applicationContext = ApplicationContext.run(
+                "spec.name": "DefaultElasticsearchConfigurationPropertiesSpec",
+                "elasticsearch.httpHosts": "http://127.0.0.1:9200,http://127.0.1.1:9200",
+                "elasticsearch.http.io-thread-count": 3
+        )
+        HttpAsyncClientBuilder builder = applicationContext.getBean(DefaultElasticsearchConfigurationProperties).httpAsyncClientBuilder
 
         then:
         applicationContext.containsBean(HttpAsyncClientBuilder)
-        applicationContext.getBean(DefaultElasticsearchConfigurationProperties).httpAsyncClientBuilder
-        "Bar" == ((MyHttpAsyncClientBuilder) applicationContext.getBean(DefaultElasticsearchConfigurationProperties).httpAsyncClientBuilder).foo
+        builder
+        "Bar" == ((MyHttpAsyncClientBuilder) builder).foo
+        ((IOReactorConfig) builder.@defaultIOReactorConfig).ioThreadCount == 1
 
         cleanup:
         applicationContext.close()
@@ -141,6 +249,7 @@ class DefaultElasticsearchConfigurationPropertiesSpec extends Specification {
     }
 
     @Factory
+    @Requires(property = 'spec.name', value = 'DefaultElasticsearchConfigurationPropertiesSpec')
     static class MyFactory {
 
         @Replaces(HttpAsyncClientBuilder.class)
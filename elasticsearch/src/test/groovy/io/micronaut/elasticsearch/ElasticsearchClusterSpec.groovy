@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.health.ElasticsearchClientHealthIndicator
+import io.micronaut.health.HealthStatus
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.management.health.indicator.HealthResult
+import jakarta.inject.Singleton
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder
+import org.elasticsearch.client.RestClient
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ElasticsearchClusterSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer search = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer analytics = new StubElasticsearchServer()
+
+    void setupSpec() {
+        [search, analytics].each { StubElasticsearchServer server ->
+            server.on('/_cluster/health') { RecordedRequest request ->
+                json('{"cluster_name":"' + (server.is(search) ? 'search' : 'analytics') + '","status":"green","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}')
+            }
+        }
+    }
+
+    void setup() {
+        search.requests.clear()
+        analytics.requests.clear()
+    }
+
+    void "each named cluster has its own clients qualified with its name"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClusterSpec',
+                'elasticsearch.httpHosts': search.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': analytics.httpHost,
+                'elasticsearch.clusters.analytics.http.max-conn-total': 5
+        )
+
+        when:
+        ElasticsearchClient defaultClient = applicationContext.getBean(ElasticsearchClient)
+        ElasticsearchClient analyticsClient = applicationContext.getBean(ElasticsearchClient, Qualifiers.byName('analytics'))
+
+        then: "the default beans stay injectable without a qualifier"
+        !defaultClient.is(analyticsClient)
+        !applicationContext.getBean(RestClient).is(applicationContext.getBean(RestClient, Qualifiers.byName('analytics')))
+        applicationContext.getBean(ElasticsearchAsyncClient, Qualifiers.byName('analytics'))._transport()
+                .is(applicationContext.getBean(ElasticsearchTransport, Qualifiers.byName('analytics')))
+        analyticsClient._transport().is(applicationContext.getBean(ElasticsearchTransport, Qualifiers.byName('analytics')))
+
+        when:
+        String defaultClusterName = defaultClient.cluster().health().clusterName()
+        String analyticsClusterName = analyticsClient.cluster().health().clusterName()
+
+        then:
+        defaultClusterName == 'search'
+        analyticsClusterName == 'analytics'
+        search.requests('/_cluster/health').size() == 1
+        analytics.requests('/_cluster/health').size() == 1
+
+        and:
+        ElasticsearchClusterConfigurationProperties cluster = applicationContext.getBean(ElasticsearchClusterConfigurationProperties, Qualifiers.byName('analytics'))
+        cluster.name == 'analytics'
+        cluster.http.maxConnTotal == 5
+
+        and: "the builders are beans, decorated by the listeners of the application"
+        HttpAsyncClientBuilder analyticsBuilder = applicationContext.getBean(HttpAsyncClientBuilder, Qualifiers.byName('analytics'))
+        !analyticsBuilder.is(applicationContext.getBean(HttpAsyncClientBuilder))
+        cluster.httpAsyncClientBuilder.is(analyticsBuilder)
+        applicationContext.getBean(BuilderListener).builders.count { it.is(analyticsBuilder) } == 1
+
+        and: "each cluster has its own connection pool"
+        ElasticsearchConnectionPool analyticsPool = applicationContext.getBean(ElasticsearchConnectionPool, Qualifiers.byName('analytics'))
+        analyticsPool.cluster == 'analytics'
+        analyticsPool.connectionManager.maxTotal == 5
+        analyticsBuilder.@connManager.is(analyticsPool.connectionManager)
+        applicationContext.getBean(ElasticsearchConnectionPool).cluster == ElasticsearchConnectionPool.DEFAULT_CLUSTER
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the settings of the default cluster only are rejected under a named cluster"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': search.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': analytics.httpHost,
+                'elasticsearch.clusters.analytics.sniffer.enabled': true
+        )
+
+        when:
+        applicationContext.getBean(ElasticsearchClient, Qualifiers.byName('analytics'))
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains('elasticsearch.clusters.analytics.sniffer is not supported by the named clusters')
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the named clusters are closed with the context"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': search.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': analytics.httpHost,
+                'elasticsearch.clusters.logs.httpHosts': analytics.httpHost
+        )
+        RestClient analyticsClient = applicationContext.getBean(RestClient, Qualifiers.byName('analytics'))
+        RestClient logsClient = applicationContext.getBean(RestClient, Qualifiers.byName('logs'))
+
+        expect:
+        !analyticsClient.is(logsClient)
+        analyticsClient.isRunning()
+        logsClient.isRunning()
+
+        when:
+        applicationContext.close()
+
+        then:
+        !analyticsClient.isRunning()
+        !logsClient.isRunning()
+    }
+
+    void "each named cluster has its own health indicator"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': search.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': analytics.httpHost
+        )
+
+        when:
+        HealthResult defaultResult = Flux.from(applicationContext.getBean(ElasticsearchClientHealthIndicator).result).blockFirst()
+        HealthResult analyticsResult = Flux.from(applicationContext.getBean(ElasticsearchClientHealthIndicator, Qualifiers.byName('analytics')).result).blockFirst()
+
+        then:
+        defaultResult.name == 'elasticsearchclient'
+        ((Map) defaultResult.details).cluster_name == 'search'
+        analyticsResult.name == 'elasticsearchclient-analytics'
+        analyticsResult.status == HealthStatus.UP
+        ((Map) analyticsResult.details).cluster_name == 'analytics'
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ElasticsearchClusterSpec')
+    static class BuilderListener implements BeanCreatedEventListener<HttpAsyncClientBuilder> {
+
+        final List<HttpAsyncClientBuilder> builders = new CopyOnWriteArrayList<>()
+
+        @Override
+        HttpAsyncClientBuilder onCreated(BeanCreatedEvent<HttpAsyncClientBuilder> event) {
+            builders << event.bean
+            return event.bean
+        }
+    }
+}
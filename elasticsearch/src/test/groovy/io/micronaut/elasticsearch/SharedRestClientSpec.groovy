@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.transport.ElasticsearchTransport
+import co.elastic.clients.transport.rest_client.RestClientTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.BeanPreDestroyEvent
+import io.micronaut.context.event.BeanPreDestroyEventListener
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport
+import jakarta.inject.Singleton
+import org.elasticsearch.client.RestClient
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+class SharedRestClientSpec extends Specification {
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void "the transport and the API clients share the RestClient bean"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'SharedRestClientSpec',
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200'
+        )
+
+        when:
+        RestClient restClient = applicationContext.getBean(RestClient)
+        ElasticsearchTransport transport = applicationContext.getBean(ElasticsearchTransport)
+        applicationContext.getBean(ElasticsearchClient)
+        applicationContext.getBean(ElasticsearchAsyncClient)
+
+        then:
+        applicationContext.getBean(RestClient).is(restClient)
+        ((RestClientTransport) DelegatingElasticsearchTransport.unwrap(transport)).restClient().is(restClient)
+        applicationContext.getBean(ElasticsearchClient)._transport().is(transport)
+        applicationContext.getBean(ElasticsearchAsyncClient)._transport().is(transport)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "only one IO reactor is started and it is stopped when the context is closed"() {
+        given:
+        Set<Thread> existingThreads = Thread.getAllStackTraces().keySet()
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'SharedRestClientSpec',
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200'
+        )
+
+        when:
+        RestClient restClient = applicationContext.getBean(RestClient)
+        applicationContext.getBean(ElasticsearchTransport)
+        applicationContext.getBean(ElasticsearchClient)
+        applicationContext.getBean(ElasticsearchAsyncClient)
+
+        then: "each IO reactor numbers its dispatcher threads from 1"
+        conditions.eventually {
+            assert reactorThreads(existingThreads).size() == 1
+        }
+
+        when:
+        sleep(500)
+
+        then:
+        reactorThreads(existingThreads).size() == 1
+        restClient.isRunning()
+
+        when:
+        ShutdownOrderListener listener = applicationContext.getBean(ShutdownOrderListener)
+        applicationContext.close()
+
+        then: "nothing closed the shared client before its own pre-destroy hook"
+        listener.runningBeforeDestroy == [true]
+        !restClient.isRunning()
+        conditions.eventually {
+            assert reactorThreads(existingThreads).findAll { it.alive }.isEmpty()
+        }
+    }
+
+    private static List<Thread> reactorThreads(Set<Thread> existingThreads) {
+        Thread.getAllStackTraces().keySet().findAll {
+            !existingThreads.contains(it) && it.name == 'I/O dispatcher 1'
+        } as List<Thread>
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'SharedRestClientSpec')
+    static class ShutdownOrderListener implements BeanPreDestroyEventListener<RestClient> {
+
+        final List<Boolean> runningBeforeDestroy = []
+
+        @Override
+        RestClient onPreDestroy(BeanPreDestroyEvent<RestClient> event) {
+            runningBeforeDestroy << event.bean.isRunning()
+            return event.bean
+        }
+    }
+}
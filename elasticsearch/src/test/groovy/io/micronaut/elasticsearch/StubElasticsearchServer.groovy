@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import com.sun.net.httpserver.HttpsConfigurator
+import com.sun.net.httpserver.HttpsServer
+
+import javax.net.ssl.SSLContext
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * A local HTTP server answering like an Elasticsearch node, used by the specs that don't need a real cluster.
+ */
+class StubElasticsearchServer implements Closeable {
+
+    final List<RecordedRequest> requests = new CopyOnWriteArrayList<>()
+
+    private final HttpServer server
+    private final ExecutorService executor = Executors.newCachedThreadPool()
+    private final List<Map.Entry<String, Closure<StubResponse>>> handlers = new CopyOnWriteArrayList<>()
+
+    StubElasticsearchServer() {
+        this(null)
+    }
+
+    /**
+     * @param sslContext The context of the HTTPS server, or null to serve plain HTTP
+     */
+    StubElasticsearchServer(SSLContext sslContext) {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.loopbackAddress, 0)
+        if (sslContext != null) {
+            HttpsServer httpsServer = HttpsServer.create(address, 0)
+            httpsServer.httpsConfigurator = new HttpsConfigurator(sslContext)
+            server = httpsServer
+        } else {
+            server = HttpServer.create(address, 0)
+        }
+        server.executor = executor
+        server.createContext("/") { HttpExchange exchange -> handle(exchange) }
+        server.start()
+    }
+
+    /**
+     * Registers a handler for the requests whose path starts with the given prefix. The last registered
+     * matching handler wins.
+     */
+    StubElasticsearchServer on(String pathPrefix, Closure<StubResponse> handler) {
+        handlers.add(0, new AbstractMap.SimpleEntry<>(pathPrefix, handler))
+        return this
+    }
+
+    String getHttpHost() {
+        "${server instanceof HttpsServer ? 'https' : 'http'}://127.0.0.1:${port}"
+    }
+
+    int getPort() {
+        server.address.port
+    }
+
+    List<RecordedRequest> requests(String pathPrefix) {
+        requests.findAll { it.path.startsWith(pathPrefix) }
+    }
+
+    static StubResponse json(String body, int status = 200) {
+        new StubResponse(status: status, body: body)
+    }
+
+    @Override
+    void close() {
+        server.stop(0)
+        executor.shutdownNow()
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            byte[] body = exchange.requestBody.readAllBytes()
+            if (exchange.requestHeaders.getFirst("Content-Encoding") == "gzip") {
+                body = new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes()
+            }
+            RecordedRequest request = new RecordedRequest(
+                    method: exchange.requestMethod,
+                    path: exchange.requestURI.path,
+                    query: exchange.requestURI.query,
+                    headers: exchange.requestHeaders,
+                    body: new String(body, StandardCharsets.UTF_8),
+                    remotePort: exchange.remoteAddress.port
+            )
+            requests << request
+            Closure<StubResponse> handler = handlers.find { request.path.startsWith(it.key) }?.value
+            StubResponse response = handler != null ? handler.call(request) : json('{}')
+            if (response.delayMillis > 0) {
+                sleep(response.delayMillis)
+            }
+            byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8)
+            if (response.gzip && exchange.requestHeaders.getFirst("Accept-Encoding")?.contains("gzip")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream()
+                new GZIPOutputStream(out).withCloseable { it.write(bytes) }
+                bytes = out.toByteArray()
+                exchange.responseHeaders.add("Content-Encoding", "gzip")
+            }
+            exchange.responseHeaders.add("Content-Type", "application/json")
+            exchange.responseHeaders.add("X-Elastic-Product", "Elasticsearch")
+            response.headers.each { k, v -> exchange.responseHeaders.add(k, v) }
+            exchange.sendResponseHeaders(response.status, request.method == "HEAD" ? -1 : bytes.length)
+            if (request.method != "HEAD") {
+                exchange.responseBody.write(bytes)
+            }
+        } catch (IOException ignored) {
+            // the client went away
+        } finally {
+            exchange.close()
+        }
+    }
+
+    static class RecordedRequest {
+        String method
+        String path
+        String query
+        Map<String, List<String>> headers
+        String body
+        int remotePort
+
+        List<String> getNdjsonLines() {
+            body.readLines().findAll { !it.isBlank() }
+        }
+    }
+
+    static class StubResponse {
+        int status = 200
+        String body = '{}'
+        Map<String, String> headers = [:]
+        long delayMillis
+        boolean gzip
+    }
+}
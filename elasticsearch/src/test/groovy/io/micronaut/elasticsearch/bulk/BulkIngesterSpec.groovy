@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.bulk
+
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class BulkIngesterSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    AtomicInteger concurrentRequests = new AtomicInteger()
+
+    @Shared
+    AtomicInteger maxConcurrentRequests = new AtomicInteger()
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void setupSpec() {
+        server.on('/_bulk') { RecordedRequest request ->
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet()) { a, b -> Math.max(a, b) }
+            try {
+                sleep(200)
+                int operations = request.ndjsonLines.size() / 2
+                String items = (1..operations).collect {
+                    '{"index":{"_index":"movies","_id":"' + it + '","status":201,"result":"created"}}'
+                }.join(',')
+                return json('{"took":1,"errors":false,"items":[' + items + ']}')
+            } finally {
+                concurrentRequests.decrementAndGet()
+            }
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+        maxConcurrentRequests.set(0)
+    }
+
+    void "test bulk ingester configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.bulk.max-actions': 500,
+                'elasticsearch.bulk.max-bytes': '1MB',
+                'elasticsearch.bulk.max-concurrent-requests': 4,
+                'elasticsearch.bulk.flush-interval': '10s'
+        )
+
+        expect:
+        BulkIngesterConfigurationProperties configuration = applicationContext.getBean(BulkIngesterConfigurationProperties)
+        configuration.maxActions == 500
+        configuration.maxBytes == 1024 * 1024
+        configuration.maxConcurrentRequests == 4
+        configuration.flushInterval == Duration.ofSeconds(10)
+        applicationContext.containsBean(BulkIngester)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "operations published to the subscriber are sent in bulk requests"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.bulk.max-actions': 5,
+                'elasticsearch.bulk.flush-interval': '0s'
+        )
+        ReactiveBulkIngester ingester = applicationContext.getBean(ReactiveBulkIngester)
+
+        when:
+        ingester.ingest(Flux.range(1, 10).map { indexOperation(it) })
+
+        then:
+        conditions.eventually {
+            assert server.requests('/_bulk').size() == 2
+            assert server.requests('/_bulk')*.ndjsonLines*.size() == [10, 10]
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the subscriber stops requesting operations while the maximum of bulk requests is in flight"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.bulk.max-actions': 2,
+                'elasticsearch.bulk.max-concurrent-requests': 1,
+                'elasticsearch.bulk.flush-interval': '0s'
+        )
+        ReactiveBulkIngester ingester = applicationContext.getBean(ReactiveBulkIngester)
+        List<Long> requested = new CopyOnWriteArrayList<>()
+
+        when:
+        ingester.ingest(Flux.range(1, 6).map { indexOperation(it) }.doOnRequest { requested << it })
+
+        then:
+        conditions.eventually {
+            assert server.requests('/_bulk').size() == 3
+        }
+        requested.every { it == 2L }
+        maxConcurrentRequests.get() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "pending operations are flushed when the context is closed"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.bulk.max-actions': 100,
+                'elasticsearch.bulk.flush-interval': '0s'
+        )
+        BulkIngester<Void> ingester = applicationContext.getBean(BulkIngester)
+
+        when:
+        (1..3).each { ingester.add(indexOperation(it)) }
+
+        then:
+        server.requests('/_bulk').isEmpty()
+
+        when:
+        applicationContext.close()
+
+        then:
+        server.requests('/_bulk').size() == 1
+        server.requests('/_bulk')[0].ndjsonLines.size() == 6
+    }
+
+    private static BulkOperation indexOperation(int id) {
+        BulkOperation.of { b ->
+            b.index { i -> i.index('movies').id(String.valueOf(id)).document([title: "Movie $id".toString()]) }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.cache
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class SearchResponseCacheSpec extends Specification {
+
+    private static final String HITS = '{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix"}}]}}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        ['/movies/_search', '/books/_search', '/movies,books/_search'].each {
+            server.on(it) { RecordedRequest request -> json(HITS) }
+        }
+        server.on('/movies/_doc/') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"1","_version":1,"result":"created","_shards":{"total":1,"successful":1,"failed":0},"_seq_no":0,"_primary_term":1}', 201)
+        }
+        server.on('/books/_doc/') { RecordedRequest request ->
+            json('{"_index":"books","_id":"1","_version":1,"result":"created","_shards":{"total":1,"successful":1,"failed":0},"_seq_no":0,"_primary_term":1}', 201)
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the cache is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+
+        expect:
+        !applicationContext.containsBean(SearchResponseCache)
+        !(applicationContext.getBean(ElasticsearchClient) instanceof CachingElasticsearchClient)
+        !(applicationContext.getBean(ElasticsearchTransport) instanceof CacheInvalidatingTransport)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "repeated searches are served from the cache"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        ElasticsearchAsyncClient asyncClient = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        SearchResponse<Map> first = search(client, 'matrix', Map)
+        SearchResponse<Map> second = search(client, 'matrix', Map)
+        SearchResponse<Map> async = asyncClient.search({ it.index('movies').query { q -> q.match { m -> m.field('title').query('matrix') } } }, Map)
+                .get(5, TimeUnit.SECONDS)
+
+        then:
+        second.is(first)
+        async.is(first)
+        server.requests('/movies/_search').size() == 1
+
+        when: "the query or the document type differ"
+        search(client, 'alien', Map)
+        search(client, 'matrix', Movie)
+
+        then:
+        server.requests('/movies/_search').size() == 3
+        second.hits().hits()[0].source().title == 'The Matrix'
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the searches of callers with different credentials don't share their responses"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        ElasticsearchClient alice = client.withTransportOptions { it.addHeader('Authorization', 'Basic YWxpY2U6c2VjcmV0') }
+        ElasticsearchClient bob = client.withTransportOptions { it.addHeader('Authorization', 'Basic Ym9iOnNlY3JldA==') }
+        ElasticsearchAsyncClient asyncBob = applicationContext.getBean(ElasticsearchAsyncClient)
+                .withTransportOptions { it.addHeader('Authorization', 'Basic Ym9iOnNlY3JldA==') }
+
+        when:
+        SearchResponse<Map> first = search(alice, 'matrix', Map)
+        SearchResponse<Map> second = search(bob, 'matrix', Map)
+
+        then:
+        !second.is(first)
+        server.requests('/movies/_search')*.headers*.getAt('Authorization')*.getAt(0) == ['Basic YWxpY2U6c2VjcmV0', 'Basic Ym9iOnNlY3JldA==']
+
+        when: "the same credentials share the responses"
+        SearchResponse<Map> third = search(client.withTransportOptions { it.addHeader('Authorization', 'Basic Ym9iOnNlY3JldA==') }, 'matrix', Map)
+        SearchResponse<Map> async = asyncBob.search({ it.index('movies').query { q -> q.match { m -> m.field('title').query('matrix') } } }, Map)
+                .get(5, TimeUnit.SECONDS)
+
+        then:
+        third.is(second)
+        async.is(second)
+        server.requests('/movies/_search').size() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the writes invalidate the cached responses of their index"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        search(client, 'matrix', Map)
+        client.search({ it.index('movies', 'books') }, Map)
+
+        when: "another index is written"
+        client.index { it.index('books').id('1').document([title: 'Dune']) }
+        search(client, 'matrix', Map)
+
+        then:
+        server.requests('/movies/_search').size() == 1
+
+        when:
+        client.index { it.index('movies').id('1').document([title: 'The Matrix Reloaded']) }
+        search(client, 'matrix', Map)
+        client.search({ it.index('movies', 'books') }, Map)
+
+        then:
+        server.requests('/movies/_search').size() == 2
+        server.requests('/movies,books/_search').size() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the cached responses expire after the time to live of their index"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true,
+                'elasticsearch.cache.index-ttl.movies': '200ms'
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        search(client, 'matrix', Map)
+        client.search({ it.index('books') }, Map)
+        sleep(400)
+        search(client, 'matrix', Map)
+        client.search({ it.index('books') }, Map)
+
+        then:
+        server.requests('/movies/_search').size() == 2
+        server.requests('/books/_search').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the searches of a point in time are not cached"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true,
+                'elasticsearch.cache.maximum-size': 1
+        )
+        DefaultSearchResponseCache cache = applicationContext.getBean(DefaultSearchResponseCache)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        client.search({ it.index('movies').scroll { s -> s.time('1m') } }, Map)
+        cache.nativeCache.cleanUp()
+
+        then:
+        cache.nativeCache.estimatedSize() == 0
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static <T> SearchResponse<T> search(ElasticsearchClient client, String title, Class<T> type) {
+        client.search({ it.index('movies').query { q -> q.match { m -> m.field('title').query(title) } } }, type)
+    }
+
+    static class Movie {
+        String title
+    }
+}
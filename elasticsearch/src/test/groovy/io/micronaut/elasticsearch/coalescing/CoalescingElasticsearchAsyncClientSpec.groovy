@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.coalescing
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.core.GetResponse
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.elasticsearch.cache.CachingElasticsearchAsyncClient
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class CoalescingElasticsearchAsyncClientSpec extends Specification {
+
+    private static final String HITS = '{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix"}}]}}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        server.on('/movies/_search') { RecordedRequest request ->
+            StubResponse response = json(HITS)
+            response.delayMillis = 300
+            return response
+        }
+        server.on('/movies/_doc/') { RecordedRequest request ->
+            String id = request.path.substring('/movies/_doc/'.length())
+            StubResponse response = json(document('movies', id))
+            response.delayMillis = 300
+            return response
+        }
+        server.on('/_mget') { RecordedRequest request ->
+            List<Map> docs = new JsonSlurper().parseText(request.body).docs as List<Map>
+            json('{"docs":[' + docs.collect { document(it._index as String, it._id as String) }.join(',') + ']}')
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "coalescing is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+
+        expect:
+        !(applicationContext.getBean(ElasticsearchAsyncClient) instanceof CoalescingElasticsearchAsyncClient)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "concurrent identical searches share a single request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.coalescing.enabled': true
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        List<CompletableFuture<SearchResponse<Map>>> futures = (1..10).collect { search(client, 'matrix') }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        client instanceof CoalescingElasticsearchAsyncClient
+        server.requests('/movies/_search').size() == 1
+        futures.every { it.get().hits().hits()[0].source().title == 'The Matrix' }
+        ((CoalescingElasticsearchAsyncClient) client).inFlight == 0
+
+        when: "the request completed"
+        search(client, 'matrix').get(10, TimeUnit.SECONDS)
+
+        then:
+        server.requests('/movies/_search').size() == 2
+
+        when:
+        CompletableFuture.allOf(search(client, 'matrix'), search(client, 'reloaded')).get(10, TimeUnit.SECONDS)
+
+        then: "different searches are not coalesced"
+        server.requests('/movies/_search').size() == 4
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "cancelling a coalesced call does not cancel the shared request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.coalescing.enabled': true
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        CompletableFuture<SearchResponse<Map>> first = search(client, 'matrix')
+        CompletableFuture<SearchResponse<Map>> second = search(client, 'matrix')
+        first.cancel(true)
+
+        then:
+        second.get(10, TimeUnit.SECONDS).hits().hits().size() == 1
+        server.requests('/movies/_search').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "concurrent identical gets share a single request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.coalescing.enabled': true
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        List<CompletableFuture<GetResponse<Map>>> futures = (1..5).collect { get(client, '1') }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        server.requests('/movies/_doc/1').size() == 1
+        server.requests('/_mget').isEmpty()
+        futures.every { it.get().found() && it.get().source().title == 'Movie 1' }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "concurrent gets by id are gathered into a multi get"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.coalescing.enabled': true,
+                'elasticsearch.coalescing.batch-gets': true,
+                'elasticsearch.coalescing.batch-window': '100ms'
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        List<CompletableFuture<GetResponse<Map>>> futures = ['1', '2', '2', 'missing'].collect { get(client, it) }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        server.requests('/movies/_doc/').isEmpty()
+        server.requests('/_mget').size() == 1
+        (new JsonSlurper().parseText(server.requests('/_mget')[0].body).docs as List).size() == 3
+        futures[0].get().source().title == 'Movie 1'
+        futures[1].get().id() == '2'
+        futures[2].get().source().title == 'Movie 2'
+        !futures[3].get().found()
+        futures[3].get().source() == null
+
+        when: "a get with query parameters"
+        client.get({ it.index('movies').id('1').routing('a') }, Map).get(10, TimeUnit.SECONDS)
+
+        then: "it is not batched"
+        server.requests('/movies/_doc/1').size() == 1
+        server.requests('/_mget').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a full batch is sent without waiting for the window"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.coalescing.enabled': true,
+                'elasticsearch.coalescing.batch-gets': true,
+                'elasticsearch.coalescing.batch-window': '1m',
+                'elasticsearch.coalescing.max-batch-size': 2
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        List<CompletableFuture<GetResponse<Map>>> futures = ['1', '2', '3', '4'].collect { get(client, it) }
+        futures*.get(10, TimeUnit.SECONDS)
+
+        then:
+        server.requests('/_mget').size() == 2
+        futures.collect { it.get().source().title } == ['Movie 1', 'Movie 2', 'Movie 3', 'Movie 4']
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the cache misses are coalesced"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true,
+                'elasticsearch.coalescing.enabled': true
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+
+        when:
+        (1..5).collect { search(client, 'matrix') }*.get(10, TimeUnit.SECONDS)
+
+        then:
+        client instanceof CachingElasticsearchAsyncClient
+        server.requests('/movies/_search').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static CompletableFuture<SearchResponse<Map>> search(ElasticsearchAsyncClient client, String title) {
+        client.search({ s -> s.index('movies').query { q -> q.match { m -> m.field('title').query(title) } } }, Map)
+    }
+
+    private static CompletableFuture<GetResponse<Map>> get(ElasticsearchAsyncClient client, String id) {
+        client.get({ g -> g.index('movies').id(id) }, Map)
+    }
+
+    private static String document(String index, String id) {
+        if (id == 'missing') {
+            return JsonOutput.toJson([_index: index, _id: id, found: false])
+        }
+        JsonOutput.toJson([_index: index, _id: id, _version: 1, _seq_no: 0, _primary_term: 1, found: true, _source: [title: "Movie $id".toString()]])
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.deadline
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.propagation.PropagatedContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CancellationException
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class DeadlineSpec extends Specification {
+
+    private static final String HITS = '{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix"}}]}}'
+    private static final String DOCUMENT = '{"_index":"movies","_id":"1","_version":1,"_seq_no":0,"_primary_term":1,"found":true,"_source":{"title":"The Matrix"}}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext
+
+    @Shared
+    ElasticsearchClient client
+
+    @Shared
+    ElasticsearchAsyncClient asyncClient
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void setupSpec() {
+        server.on('/movies/_search') { RecordedRequest request -> json(HITS) }
+        server.on('/movies/_doc/') { RecordedRequest request -> json(DOCUMENT) }
+        server.on('/slow/_search') { RecordedRequest request ->
+            StubResponse response = json(HITS)
+            response.delayMillis = 5000
+            return response
+        }
+        applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.http.max-conn-per-route': 1,
+                'elasticsearch.http.max-conn-total': 1
+        )
+        client = applicationContext.getBean(ElasticsearchClient)
+        asyncClient = applicationContext.getBean(ElasticsearchAsyncClient)
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the requests without a deadline are sent as they are"() {
+        when:
+        client.search({ s -> s.index('movies') }, Map)
+
+        then:
+        !server.requests('/movies/_search')[0].query?.contains('timeout=')
+    }
+
+    void "the search receives the time left as its server-side timeout"() {
+        when:
+        Deadline.after(Duration.ofSeconds(10)).applyTo(client).search({ s -> s.index('movies') }, Map)
+
+        then:
+        long timeout = timeoutMillis(server.requests('/movies/_search')[0])
+        timeout > 9000
+        timeout <= 10000 - DeadlineConfigurationProperties.DEFAULT_SERVER_TIMEOUT_MARGIN.toMillis()
+    }
+
+    void "the timeout of the search request is kept"() {
+        when:
+        Deadline.after(Duration.ofSeconds(10)).applyTo(client).search({ s -> s.index('movies').timeout('1s') }, Map)
+
+        then:
+        RecordedRequest request = server.requests('/movies/_search')[0]
+        !request.query?.contains('timeout=')
+        request.body.contains('"timeout":"1s"')
+    }
+
+    void "the endpoints without a server-side timeout are sent without the parameter"() {
+        when:
+        Deadline.after(Duration.ofSeconds(10)).applyTo(client).get({ g -> g.index('movies').id('1') }, Map)
+
+        then:
+        server.requests('/movies/_doc/1').size() == 1
+        !server.requests('/movies/_doc/1')[0].query?.contains('timeout=')
+    }
+
+    void "the request is aborted when its deadline expires"() {
+        given:
+        long start = System.nanoTime()
+
+        when:
+        Deadline.after(Duration.ofMillis(300)).applyTo(client).search({ s -> s.index('slow') }, Map)
+
+        then:
+        DeadlineExceededException e = thrown()
+        !e.message.contains('gave up')
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000
+
+        and: "the only connection was released"
+        client.search({ s -> s.index('movies') }, Map).hits().hits().size() == 1
+    }
+
+    void "a deadline that expired fails the requests without sending them"() {
+        given:
+        Deadline deadline = Deadline.after(Duration.ZERO)
+
+        when:
+        deadline.applyTo(client).search({ s -> s.index('movies') }, Map)
+
+        then:
+        thrown(DeadlineExceededException)
+        server.requests.isEmpty()
+
+        when:
+        deadline.applyTo(asyncClient).search({ s -> s.index('movies') }, Map).get()
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof DeadlineExceededException
+        server.requests.isEmpty()
+    }
+
+    void "the deadline of the propagated context applies to the requests sent in its scope"() {
+        when:
+        try (PropagatedContext.Scope ignored = Deadline.after(Duration.ofSeconds(10)).propagate()) {
+            client.search({ s -> s.index('movies') }, Map)
+        }
+        client.search({ s -> s.index('movies') }, Map)
+
+        then:
+        List<RecordedRequest> requests = server.requests('/movies/_search')
+        requests.size() == 2
+        timeoutMillis(requests[0]) > 9000
+        !requests[1].query?.contains('timeout=')
+    }
+
+    void "cancelling the deadline aborts the asynchronous requests in flight"() {
+        given:
+        Deadline deadline = Deadline.after(Duration.ofSeconds(30))
+        CompletableFuture<SearchResponse<Map>> future = deadline.applyTo(asyncClient).search({ s -> s.index('slow') }, Map)
+        conditions.eventually {
+            assert server.requests('/slow/_search').size() == 1
+        }
+
+        when:
+        deadline.cancel()
+        future.get(5, TimeUnit.SECONDS)
+
+        then:
+        CancellationException e = thrown()
+        e.cause instanceof DeadlineExceededException
+        e.cause.message.contains('gave up')
+        future.isCancelled()
+        deadline.isExpired()
+
+        and: "the only connection was released"
+        client.search({ s -> s.index('movies') }, Map).hits().hits().size() == 1
+    }
+
+    void "the deadline of a Micronaut HTTP request is propagated from its header and cancelled with its response"() {
+        given:
+        ApplicationContext serverContext = ApplicationContext.run(
+                'spec.name': 'DeadlineSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.deadline.enabled': true,
+                'elasticsearch.deadline.timeout': '10s',
+                'micronaut.security.enabled': false,
+                'micronaut.server.port': -1
+        )
+        EmbeddedServer embeddedServer = serverContext.getBean(EmbeddedServer).start()
+        HttpClient httpClient = serverContext.createBean(HttpClient, embeddedServer.URL)
+        MoviesController controller = serverContext.getBean(MoviesController)
+
+        when:
+        httpClient.toBlocking().exchange(HttpRequest.GET('/movies'), String)
+
+        then: "the configured timeout applies"
+        timeoutMillis(server.requests('/movies/_search')[0]) > 9000
+
+        when:
+        long start = System.nanoTime()
+        httpClient.toBlocking().exchange(HttpRequest.GET('/slow').header(DeadlineConfigurationProperties.DEFAULT_HEADER, '300'), String)
+
+        then: "the header shortens the deadline"
+        thrown(HttpClientResponseException)
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000
+
+        when:
+        httpClient.toBlocking().exchange(HttpRequest.GET('/background'), String)
+
+        then: "the search still in flight is aborted once the response is sent"
+        conditions.eventually {
+            assert controller.background.isCancelled()
+        }
+
+        when:
+        server.requests.clear()
+        HttpResponse<String> streamed = httpClient.toBlocking().exchange(HttpRequest.GET('/stream'), String)
+
+        then: "the searches sent while the body is streamed keep the deadline, which is cancelled with the stream"
+        streamed.status() == HttpStatus.OK
+        server.requests('/movies/_search').size() == 3
+        server.requests('/movies/_search').every { timeoutMillis(it) > 0 }
+        conditions.eventually {
+            assert controller.streamDeadline.isCancelled()
+        }
+
+        cleanup:
+        httpClient?.close()
+        serverContext.close()
+    }
+
+    private static long timeoutMillis(RecordedRequest request) {
+        Long.parseLong((request.query =~ /timeout=(\d+)ms/)[0][1] as String)
+    }
+
+    @Controller
+    @Requires(property = 'spec.name', value = 'DeadlineSpec')
+    static class MoviesController {
+
+        private final ElasticsearchClient client
+        private final ElasticsearchAsyncClient asyncClient
+        volatile CompletableFuture<SearchResponse<Map>> background
+        volatile Deadline streamDeadline
+
+        MoviesController(ElasticsearchClient client, ElasticsearchAsyncClient asyncClient) {
+            this.client = client
+            this.asyncClient = asyncClient
+        }
+
+        @Get('/movies')
+        String movies() {
+            client.search({ s -> s.index('movies') }, Map).hits().hits()[0].id()
+        }
+
+        @Get('/slow')
+        String slow() {
+            client.search({ s -> s.index('slow') }, Map).hits().hits()[0].id()
+        }
+
+        @Get('/background')
+        String background() {
+            background = asyncClient.search({ s -> s.index('slow') }, Map)
+            return 'started'
+        }
+
+        @Get(value = '/stream', produces = MediaType.APPLICATION_JSON_STREAM)
+        Publisher<String> stream() {
+            Deadline deadline = Deadline.current().get()
+            streamDeadline = deadline
+            ElasticsearchAsyncClient bounded = deadline.applyTo(asyncClient)
+            return Flux.range(1, 3)
+                    .delayElements(Duration.ofMillis(100))
+                    .concatMap { Integer i -> Mono.fromFuture(bounded.search({ s -> s.index('movies') }, Map)) }
+                    .map { SearchResponse<Map> response -> response.hits().hits()[0].id() }
+        }
+    }
+}
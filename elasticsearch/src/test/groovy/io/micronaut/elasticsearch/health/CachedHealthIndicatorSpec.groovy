@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.health
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.health.HealthStatus
+import io.micronaut.management.health.indicator.HealthResult
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class CachedHealthIndicatorSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    String status = 'green'
+
+    void setupSpec() {
+        server.on('/_cluster/health') { RecordedRequest request ->
+            def response = json('{"cluster_name":"test","status":"' + status + '","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}')
+            response.delayMillis = 200
+            return response
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+        status = 'green'
+    }
+
+    void "the details are a structured map"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        ElasticsearchClientHealthIndicator indicator = applicationContext.getBean(ElasticsearchClientHealthIndicator)
+
+        when:
+        HealthResult result = Flux.from(indicator.result).blockFirst()
+
+        then:
+        result.status == HealthStatus.UP
+        result.details instanceof Map
+        result.details.cluster_name == 'test'
+        result.details.status == 'green'
+        result.details.number_of_nodes == 1
+        result.details.timed_out == false
+        server.requests('/_cluster/health').first().query == null
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "concurrent calls share one request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        ElasticsearchClientHealthIndicator indicator = applicationContext.getBean(ElasticsearchClientHealthIndicator)
+        ExecutorService executor = Executors.newFixedThreadPool(10)
+
+        when:
+        List<Future<HealthResult>> results = (1..10).collect {
+            executor.submit({ Flux.from(indicator.result).blockFirst() } as Callable<HealthResult>)
+        }
+
+        then:
+        results*.get().every { it.status == HealthStatus.UP }
+        server.requests('/_cluster/health').size() == 1
+
+        when: "without cache-ttl the next call sends a new request"
+        Flux.from(indicator.result).blockFirst()
+
+        then:
+        server.requests('/_cluster/health').size() == 2
+
+        cleanup:
+        executor.shutdownNow()
+        applicationContext.close()
+    }
+
+    void "results are cached for cache-ttl"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'endpoints.health.elasticsearch.cache-ttl': '1s',
+                'endpoints.health.elasticsearch.local': true
+        )
+        ElasticsearchClientHealthIndicator indicator = applicationContext.getBean(ElasticsearchClientHealthIndicator)
+
+        when:
+        HealthResult first = Flux.from(indicator.result).blockFirst()
+        status = 'red'
+        HealthResult second = Flux.from(indicator.result).blockFirst()
+
+        then:
+        first.status == HealthStatus.UP
+        second.status == HealthStatus.UP
+        server.requests('/_cluster/health').size() == 1
+        server.requests('/_cluster/health').first().query.contains('local=true')
+
+        when:
+        sleep(1100)
+        HealthResult third = Flux.from(indicator.result).blockFirst()
+
+        then:
+        third.status == HealthStatus.DOWN
+        server.requests('/_cluster/health').size() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the ping check sends a HEAD request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'endpoints.health.elasticsearch.check': 'ping'
+        )
+        ElasticsearchClientHealthIndicator indicator = applicationContext.getBean(ElasticsearchClientHealthIndicator)
+
+        when:
+        HealthResult result = Flux.from(indicator.result).blockFirst()
+
+        then:
+        result.status == HealthStatus.UP
+        server.requests('/_cluster/health').isEmpty()
+        server.requests.first().method == 'HEAD'
+        server.requests.first().path == '/'
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the cluster is down when it cannot be reached"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': 'http://127.0.0.1:1',
+                'endpoints.health.elasticsearch.check': 'ping'
+        )
+        ElasticsearchClientHealthIndicator indicator = applicationContext.getBean(ElasticsearchClientHealthIndicator)
+
+        when:
+        HealthResult result = Flux.from(indicator.result).blockFirst()
+
+        then:
+        result.status == HealthStatus.DOWN
+        result.details.error
+
+        cleanup:
+        applicationContext.close()
+    }
+}
@@ -16,7 +16,6 @@
 
 package io.micronaut.elasticsearch.health
 
-import groovy.json.JsonSlurper
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.exceptions.NoSuchBeanException
 import io.micronaut.elasticsearch.DefaultElasticsearchConfigurationProperties
@@ -55,7 +54,7 @@ class ElasticsearchClientHealthIndicatorSpec extends Specification {
 
         then:
         result.status == HealthStatus.UP
-        new JsonSlurper().parseText((String) result.details).status == co.elastic.clients.elasticsearch._types.HealthStatus.Green.name().toLowerCase(Locale.ENGLISH)
+        ((Map) result.details).status == co.elastic.clients.elasticsearch._types.HealthStatus.Green.name().toLowerCase(Locale.ENGLISH)
 
         when:
         container.stop()
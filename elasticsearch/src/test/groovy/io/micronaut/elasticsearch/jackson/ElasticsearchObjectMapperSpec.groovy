@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.jackson
+
+import co.elastic.clients.json.jackson.JacksonJsonpMapper
+import co.elastic.clients.transport.ElasticsearchTransport
+import com.fasterxml.jackson.core.JsonGenerator
+import com.fasterxml.jackson.core.util.JsonRecyclerPools
+import com.fasterxml.jackson.databind.JsonSerializer
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializerProvider
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException
+import com.fasterxml.jackson.databind.module.SimpleModule
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.NoSuchBeanException
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class ElasticsearchObjectMapperSpec extends Specification {
+
+    void "the transport uses the dedicated mapper when enabled"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchObjectMapperSpec',
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200',
+                'elasticsearch.jackson.enabled': true
+        )
+
+        when:
+        ObjectMapper shared = applicationContext.getBean(ObjectMapper)
+        ObjectMapper dedicated = applicationContext.getBean(ObjectMapper, Qualifiers.byName(ElasticsearchJacksonConfiguration.NAME))
+        ElasticsearchTransport transport = applicationContext.getBean(ElasticsearchTransport)
+
+        then:
+        !shared.is(dedicated)
+        ((JacksonJsonpMapper) transport.jsonpMapper()).objectMapper().is(dedicated)
+
+        and: "the modules registered for the application don't apply to the documents"
+        shared.writeValueAsString(new Document(title: 'The Matrix')) == '"web"'
+        dedicated.writeValueAsString(new Document(title: 'The Matrix')) == '{"title":"The Matrix"}'
+
+        and:
+        dedicated.writeValueAsString([released: LocalDate.of(1999, 3, 31)]) == '{"released":"1999-03-31"}'
+        dedicated.readValue('{"title":"The Matrix","year":1999}', Document).title == 'The Matrix'
+        dedicated.writeValueAsString(new Document()) == '{}'
+        dedicated.factory._getRecyclerPool().getClass() == JsonRecyclerPools.threadLocalPool().getClass()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the dedicated mapper can be configured"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200',
+                'elasticsearch.jackson.enabled': true,
+                'elasticsearch.jackson.blackbird': true,
+                'elasticsearch.jackson.recycler-pool': 'concurrent-deque',
+                'elasticsearch.jackson.serialization-inclusion': 'always',
+                'elasticsearch.jackson.deserialization.fail-on-unknown-properties': true
+        )
+
+        when:
+        ObjectMapper dedicated = applicationContext.getBean(ObjectMapper, Qualifiers.byName(ElasticsearchJacksonConfiguration.NAME))
+
+        then:
+        dedicated.registeredModuleIds.any { it.toString().contains('Blackbird') }
+        dedicated.factory._getRecyclerPool().getClass() == JsonRecyclerPools.newConcurrentDequePool().getClass()
+        dedicated.writeValueAsString(new Document()) == '{"title":null}'
+
+        when:
+        dedicated.readValue('{"title":"The Matrix","year":1999}', Document)
+
+        then:
+        thrown(UnrecognizedPropertyException)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the shared mapper is used by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200'
+        )
+
+        when:
+        ElasticsearchTransport transport = applicationContext.getBean(ElasticsearchTransport)
+
+        then:
+        ((JacksonJsonpMapper) transport.jsonpMapper()).objectMapper().is(applicationContext.getBean(ObjectMapper))
+
+        when:
+        applicationContext.getBean(ObjectMapper, Qualifiers.byName(ElasticsearchJacksonConfiguration.NAME))
+
+        then:
+        thrown(NoSuchBeanException)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    static class Document {
+        String title
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ElasticsearchObjectMapperSpec')
+    static class WebModule extends SimpleModule {
+
+        WebModule() {
+            addSerializer(Document, new JsonSerializer<Document>() {
+                @Override
+                void serialize(Document value, JsonGenerator gen, SerializerProvider serializers) {
+                    gen.writeString('web')
+                }
+            })
+        }
+    }
+}
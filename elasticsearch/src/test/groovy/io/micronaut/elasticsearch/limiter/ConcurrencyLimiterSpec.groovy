@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.limiter
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ConcurrencyLimiterSpec extends Specification {
+
+    private static final String HEALTH = '{"cluster_name":"test","status":"green","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        server.on('/_cluster/health') { RecordedRequest request ->
+            StubResponse response = json(HEALTH)
+            response.delayMillis = 300
+            return response
+        }
+        server.on('/rejected/_search') { RecordedRequest request ->
+            json('{"error":{"root_cause":[{"type":"es_rejected_execution_exception","reason":"rejected execution"}],"type":"es_rejected_execution_exception","reason":"rejected execution"},"status":429}', 429)
+        }
+    }
+
+    void "the limiter is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+
+        expect:
+        !applicationContext.containsBean(ConcurrencyLimiter)
+        !(applicationContext.getBean(ElasticsearchTransport) instanceof ConcurrencyLimitingTransport)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the requests above the limit fail fast"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.limiter.enabled': true,
+                'elasticsearch.limiter.initial-limit': 2,
+                'elasticsearch.limiter.max-limit': 2
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+        ConcurrencyLimiter limiter = applicationContext.getBean(ConcurrencyLimiter)
+
+        expect:
+        findLimitingTransport(applicationContext.getBean(ElasticsearchTransport)).limiter.is(limiter)
+
+        when:
+        List<CompletableFuture<?>> futures = (1..5).collect { client.cluster().health() }
+
+        then: "the rejected requests are already completed"
+        futures.count { it.isCompletedExceptionally() } == 3
+        limiter.rejected == 3
+
+        when:
+        futures[4].get(1, TimeUnit.SECONDS)
+
+        then:
+        ExecutionException e = thrown()
+        e.cause instanceof ConcurrencyLimitExceededException
+        ((ConcurrencyLimitExceededException) e.cause).limit == 2
+
+        when:
+        futures.findAll { !it.isCompletedExceptionally() }*.get(5, TimeUnit.SECONDS)
+
+        then:
+        limiter.inFlight == 0
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the synchronous requests above the limit throw a typed exception"() {
+        given:
+        ConcurrencyLimiterConfiguration configuration = new ConcurrencyLimiterConfiguration(initialLimit: 1, maxLimit: 1)
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(configuration)
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        ElasticsearchClient client = new ElasticsearchClient(new ConcurrencyLimitingTransport(applicationContext.getBean(ElasticsearchTransport), limiter))
+
+        when:
+        limiter.tryAcquire()
+        client.cluster().health()
+
+        then:
+        thrown(ConcurrencyLimitExceededException)
+        limiter.rejected == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the limit decreases when Elasticsearch rejects a request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.limiter.enabled': true,
+                'elasticsearch.limiter.initial-limit': 10
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        ConcurrencyLimiter limiter = applicationContext.getBean(ConcurrencyLimiter)
+
+        when:
+        client.search({ it.index('rejected') }, Map)
+
+        then:
+        ElasticsearchException e = thrown()
+        e.status() == 429
+        limiter.limit == 9
+        limiter.inFlight == 0
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the AIMD limit grows while used and backs off when the requests are slow"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterConfiguration(
+                initialLimit: 4, maxLimit: 5, latencyThreshold: Duration.ofSeconds(1)))
+
+        when: "the limit is barely used"
+        limiter.tryAcquire()
+        limiter.release(1_000_000, ConcurrencyLimiter.Outcome.SUCCESS)
+
+        then:
+        limiter.limit == 4
+
+        when:
+        2.times { limiter.tryAcquire() }
+        2.times { limiter.release(1_000_000, ConcurrencyLimiter.Outcome.SUCCESS) }
+
+        then:
+        limiter.limit == 5
+
+        when:
+        limiter.tryAcquire()
+        limiter.release(Duration.ofSeconds(2).toNanos(), ConcurrencyLimiter.Outcome.SUCCESS)
+
+        then:
+        limiter.limit == 4
+
+        when:
+        limiter.tryAcquire()
+        limiter.release(1_000_000, ConcurrencyLimiter.Outcome.IGNORED)
+
+        then:
+        limiter.limit == 4
+        limiter.inFlight == 0
+    }
+
+    void "the Vegas limit shrinks when the latency increases"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new ConcurrencyLimiterConfiguration(
+                algorithm: ConcurrencyLimiterConfiguration.Algorithm.VEGAS, initialLimit: 20))
+
+        when:
+        limiter.tryAcquire()
+        limiter.release(10_000_000, ConcurrencyLimiter.Outcome.SUCCESS)
+
+        then:
+        limiter.limit == 20
+
+        when: "twice the latency means half of the requests are queued"
+        limiter.tryAcquire()
+        limiter.release(20_000_000, ConcurrencyLimiter.Outcome.SUCCESS)
+
+        then:
+        limiter.limit == 19
+
+        when:
+        limiter.tryAcquire()
+        limiter.release(10_000_000, ConcurrencyLimiter.Outcome.DROPPED)
+
+        then:
+        limiter.limit == 17
+    }
+
+    private static ConcurrencyLimitingTransport findLimitingTransport(ElasticsearchTransport transport) {
+        ElasticsearchTransport current = transport
+        while (!(current instanceof ConcurrencyLimitingTransport)) {
+            current = ((DelegatingElasticsearchTransport) current).delegate
+        }
+        return (ConcurrencyLimitingTransport) current
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.mapping
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ElasticsearchTemplateInitializerSpec extends Specification {
+
+    private static final String NOT_FOUND = '{"error":{"root_cause":[],"type":"resource_not_found_exception","reason":"not found"},"status":404}'
+    private static final String ACKNOWLEDGED = '{"acknowledged":true}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the missing and outdated templates are put at startup, component templates first"() {
+        given:
+        server.on('/_component_template/spec-audit') { RecordedRequest request ->
+            request.method == 'GET' ? json(NOT_FOUND, 404) : json(ACKNOWLEDGED)
+        }
+        server.on('/_index_template/spec-movies') { RecordedRequest request ->
+            request.method == 'GET' ? json(indexTemplate(41)) : json(ACKNOWLEDGED)
+        }
+
+        when:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.templates.enabled': true
+        )
+        List<RecordedRequest> puts = server.requests.findAll { it.method == 'PUT' }
+
+        then:
+        puts*.path == ['/_component_template/spec-audit', '/_index_template/spec-movies']
+        puts[0].body.contains('"createdAt":{"type":"date"}')
+        puts[1].body.contains('"composed_of":["spec-audit"]')
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the templates with the same version are left untouched"() {
+        given:
+        server.on('/_component_template/spec-audit') { RecordedRequest request ->
+            json('{"component_templates":[{"name":"spec-audit","component_template":{"template":{"mappings":{}},"version":7}}]}')
+        }
+        server.on('/_index_template/spec-movies') { RecordedRequest request ->
+            json(indexTemplate(42))
+        }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.templates.enabled': true
+        )
+
+        expect:
+        server.requests.findAll { it.method == 'PUT' }.isEmpty()
+        applicationContext.getBean(ElasticsearchTemplateInitializer).apply().isEmpty()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "a failed template is logged when fail-on-error is disabled"() {
+        given:
+        server.on('/_component_template/spec-audit') { RecordedRequest request ->
+            request.method == 'GET' ? json(NOT_FOUND, 404) : json('{"error":{"root_cause":[],"type":"illegal_argument_exception","reason":"invalid"},"status":400}', 400)
+        }
+        server.on('/_index_template/spec-movies') { RecordedRequest request ->
+            request.method == 'GET' ? json(NOT_FOUND, 404) : json(ACKNOWLEDGED)
+        }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.templates.enabled': true,
+                'elasticsearch.templates.fail-on-error': false
+        )
+
+        expect:
+        applicationContext.getBean(ElasticsearchTemplateInitializer).apply() == ['spec-movies']
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the templates are not put unless enabled"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost
+        )
+
+        expect:
+        !applicationContext.containsBean(ElasticsearchTemplateInitializer)
+        server.requests.isEmpty()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static String indexTemplate(long version) {
+        '{"index_templates":[{"name":"spec-movies","index_template":{"index_patterns":["spec-movies"],"composed_of":["spec-audit"],"template":{"mappings":{}},"version":' + version + '}}]}'
+    }
+
+    @ComponentTemplate('spec-audit')
+    @TemplateMapping(value = '{"template":{"mappings":{"dynamic":"false","properties":{"createdAt":{"type":"date"}}}},"version":7}', version = 7L)
+    static class SpecAudit {
+        Instant createdAt
+    }
+
+    @IndexTemplate('spec-movies')
+    @TemplateMapping(value = '{"index_patterns":["spec-movies"],"composed_of":["spec-audit"],"template":{"mappings":{"dynamic":"false","properties":{"title":{"type":"text"}}}},"version":42}', version = 42L)
+    static class SpecMovie {
+        String title
+    }
+}
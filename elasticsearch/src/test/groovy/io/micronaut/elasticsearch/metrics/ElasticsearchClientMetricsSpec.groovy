@@ -0,0 +1,257 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.metrics
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ElasticsearchClientMetricsSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void setupSpec() {
+        server.on('/') { RecordedRequest request ->
+            json('{"name":"node-1","cluster_name":"test","cluster_uuid":"uuid","version":{"number":"8.15.2","build_flavor":"default","build_type":"docker","build_hash":"hash","build_date":"2024-09-19T10:06:03.564Z","build_snapshot":false,"lucene_version":"9.11.1","minimum_wire_compatibility_version":"7.17.0","minimum_index_compatibility_version":"7.0.0"},"tagline":"You Know, for Search"}')
+        }
+        server.on('/movies/_doc/') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"1","_version":1,"result":"created","_shards":{"total":1,"successful":1,"failed":0},"_seq_no":0,"_primary_term":1}', 201)
+        }
+        server.on('/movies/_search') { RecordedRequest request ->
+            json('{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":0,"relation":"eq"},"hits":[]}}')
+        }
+        server.on('/_cluster/health') { RecordedRequest request ->
+            StubResponse response = json('{"cluster_name":"test","status":"green","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}')
+            response.delayMillis = 1000
+            response
+        }
+        server.on('/missing/_search') { RecordedRequest request ->
+            json('{"error":{"type":"index_not_found_exception","reason":"no such index [missing]"},"status":404}', 404)
+        }
+    }
+
+    void "requests, errors and payload sizes are recorded"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        expect:
+        applicationContext.getBean(ElasticsearchTransport) instanceof InstrumentedElasticsearchTransport
+
+        when:
+        client.info()
+        client.index { it.index('movies').id('1').document([title: 'The Matrix']) }
+        client.search({ it.index('missing') }, Map)
+
+        then:
+        thrown(ElasticsearchException)
+        meterRegistry.get('elasticsearch.client.requests').tags('endpoint', 'info', 'outcome', 'success').timer().count() == 1
+        meterRegistry.get('elasticsearch.client.requests').tags('endpoint', 'index', 'outcome', 'success').timer().count() == 1
+        meterRegistry.get('elasticsearch.client.requests').tags('endpoint', 'search', 'outcome', 'error', 'exception', 'ElasticsearchException').timer().count() == 1
+        meterRegistry.get('elasticsearch.client.errors').tags('endpoint', 'search', 'status', '404').counter().count() == 1
+        meterRegistry.find('elasticsearch.client.requests').tagKeys('index').timers().isEmpty()
+        meterRegistry.get('elasticsearch.client.request.size').tags('method', 'PUT').summary().count() == 1
+        meterRegistry.get('elasticsearch.client.response.size').summaries().sum { it.count() } == 3
+        meterRegistry.get('elasticsearch.client.pool.leased').tags('cluster', 'default').gauge().value() == 0
+        meterRegistry.get('elasticsearch.client.pool.pending').tags('cluster', 'default').gauge().value() == 0
+        meterRegistry.get('elasticsearch.client.pool.available').tags('cluster', 'default').gauge().value() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the connection pools are recorded per cluster"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': server.httpHost,
+                'elasticsearch.clusters.analytics.http.max-conn-total': 1
+        )
+        applicationContext.getBean(ElasticsearchClient).info()
+        ElasticsearchAsyncClient analytics = applicationContext.getBean(ElasticsearchAsyncClient, Qualifiers.byName('analytics'))
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when: "the second request waits for the only connection of the pool"
+        List<CompletableFuture<?>> responses = (1..2).collect { analytics.cluster().health() }
+
+        then:
+        conditions.eventually {
+            assert meterRegistry.get('elasticsearch.client.pool.leased').tags('cluster', 'analytics').gauge().value() == 1
+            assert meterRegistry.get('elasticsearch.client.pool.pending').tags('cluster', 'analytics').gauge().value() == 1
+        }
+        meterRegistry.get('elasticsearch.client.pool.leased').tags('cluster', 'default').gauge().value() == 0
+        meterRegistry.get('elasticsearch.client.pool.available').tags('cluster', 'default').gauge().value() == 1
+
+        when:
+        responses*.get(5, TimeUnit.SECONDS)
+
+        then:
+        conditions.eventually {
+            assert meterRegistry.get('elasticsearch.client.pool.leased').tags('cluster', 'analytics').gauge().value() == 0
+            assert meterRegistry.get('elasticsearch.client.pool.pending').tags('cluster', 'analytics').gauge().value() == 0
+            assert meterRegistry.get('elasticsearch.client.pool.available').tags('cluster', 'analytics').gauge().value() == 1
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "asynchronous requests are recorded"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost
+        )
+        ElasticsearchAsyncClient client = applicationContext.getBean(ElasticsearchAsyncClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        client.info().get()
+
+        then:
+        conditions.eventually {
+            assert meterRegistry.get('elasticsearch.client.requests').tags('endpoint', 'info', 'outcome', 'success').timer().count() == 1
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the index tag is limited"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'micronaut.metrics.binders.elasticsearch.index-tag': true,
+                'micronaut.metrics.binders.elasticsearch.max-index-tags': 1
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        client.info()
+        client.index { it.index('movies').id('1').document([title: 'The Matrix']) }
+        client.search({ it.index('missing') }, Map)
+
+        then:
+        thrown(ElasticsearchException)
+        meterRegistry.get('elasticsearch.client.requests').tags('endpoint', 'info').timer().id.getTag('index') == null
+        meterRegistry.get('elasticsearch.client.requests').tags('index', 'movies').timer().count() == 1
+        meterRegistry.find('elasticsearch.client.requests').tags('index', 'missing').timer() == null
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the limiter is recorded"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.limiter.enabled': true,
+                'elasticsearch.limiter.initial-limit': 7
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        client.info()
+
+        then:
+        meterRegistry.get('elasticsearch.client.limiter.limit').gauge().value() == 7
+        meterRegistry.get('elasticsearch.client.limiter.in-flight').gauge().value() == 0
+        meterRegistry.get('elasticsearch.client.limiter.rejections').functionCounter().count() == 0
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the search response cache is recorded"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.cache.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        3.times { client.search({ it.index('movies') }, Map) }
+
+        then:
+        meterRegistry.get('cache.gets').tags('cache', 'elasticsearch-search', 'result', 'miss').functionCounter().count() == 1
+        meterRegistry.get('cache.gets').tags('cache', 'elasticsearch-search', 'result', 'hit').functionCounter().count() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the metrics can be disabled"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchClientMetricsSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'micronaut.metrics.binders.elasticsearch.enabled': false
+        )
+
+        expect:
+        !applicationContext.containsBean(ElasticsearchClientMetrics)
+        !(applicationContext.getBean(ElasticsearchTransport) instanceof InstrumentedElasticsearchTransport)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Factory
+    @Requires(property = 'spec.name', value = 'ElasticsearchClientMetricsSpec')
+    static class MeterRegistryFactory {
+
+        @Singleton
+        SimpleMeterRegistry simpleMeterRegistry() {
+            new SimpleMeterRegistry()
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.raw
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.propagation.PropagatedContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.elasticsearch.deadline.Deadline
+import io.micronaut.elasticsearch.deadline.DeadlineExceededException
+import io.micronaut.elasticsearch.limiter.ConcurrencyLimitExceededException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class RawElasticsearchClientSpec extends Specification {
+
+    private static final String AMELIE = '{"title":"Le Fabuleux Destin d\'Amélie Poulain","tags":["comédie",{"nested":"}"}],"year":2001}'
+    private static final String MATRIX = '{"title":"The \\"Matrix\\"","year":1999}'
+    private static final String HITS = '{"took":3,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":3,"relation":"eq"},"max_score":1.0,"hits":[' +
+            '{"_index":"movies","_id":"1","_score":1.0,"_source":' + AMELIE + '},' +
+            '{"_index":"movies","_id":"2","_score":null,"_source":' + MATRIX + ',"sort":[1]},' +
+            '{"_index":"movies","_id":"3","_score":0.5}]}}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext
+
+    @Shared
+    RawElasticsearchClient client
+
+    void setupSpec() {
+        server.on('/movies/_search') { RecordedRequest request -> json(HITS) }
+        server.on('/slow/_search') { RecordedRequest request ->
+            StubResponse response = json(HITS)
+            response.delayMillis = 5000
+            return response
+        }
+        server.on('/movies/_doc/1') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"1","_version":2,"_seq_no":1,"_primary_term":1,"found":true,"_source":' + AMELIE + '}')
+        }
+        server.on('/movies/_doc/404') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"404","found":false}', 404)
+        }
+        server.on('/missing/') { RecordedRequest request ->
+            json('{"error":{"root_cause":[{"type":"index_not_found_exception","reason":"no such index [missing]"}],"type":"index_not_found_exception","reason":"no such index [missing]"},"status":404}', 404)
+        }
+        applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        client = applicationContext.getBean(RawElasticsearchClient)
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the sources of the hits are views of the response body"() {
+        when:
+        RawSearchResponse response = client.search { s -> s.index('movies').query { q -> q.match { m -> m.field('title').query('amelie') } }.size(3) }
+
+        then:
+        server.requests('/movies/_search')[0].body.contains('"amelie"')
+        server.requests('/movies/_search')[0].body.contains('"size":3')
+        response.took() == 3
+        response.totalHits() == 3
+        response.hits()*.id() == ['1', '2', '3']
+        response.hits()*.index() == ['movies', 'movies', 'movies']
+        response.hits()*.score() == [1.0d, null, 0.5d]
+        string(response.hits()[0].source()) == AMELIE
+        string(response.hits()[1].source()) == MATRIX
+        response.hits()[2].source() == null
+        string(response.hits()[1].hit()).startsWith('{"_index":"movies","_id":"2"')
+        string(response.hits()[1].hit()).endsWith('"sort":[1]}')
+        response.hits()[0].source().readOnly
+        new String(response.sourcesAsJsonArray(), StandardCharsets.UTF_8) == '[' + AMELIE + ',' + MATRIX + ']'
+        string(response.body()) == HITS
+
+        when:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        response.writeSourcesTo(out)
+
+        then:
+        out.toString(StandardCharsets.UTF_8) == '[' + AMELIE + ',' + MATRIX + ']'
+    }
+
+    void "a response without hits has an empty array of sources"() {
+        expect:
+        new String(RawResponseParser.search('{"took":1,"hits":{"total":0,"hits":[]}}'.getBytes(StandardCharsets.UTF_8)).sourcesAsJsonArray(), StandardCharsets.UTF_8) == '[]'
+        RawResponseParser.search('{"took":1,"hits":{"total":0,"hits":[]}}'.getBytes(StandardCharsets.UTF_8)).totalHits() == 0
+    }
+
+    void "the source of a document is a view of the response body"() {
+        when:
+        RawGetResponse response = client.get { g -> g.index('movies').id('1') }
+
+        then:
+        response.found()
+        response.index() == 'movies'
+        response.id() == '1'
+        response.version() == 2
+        string(response.source()) == AMELIE
+        new String(response.sourceAsBytes(), StandardCharsets.UTF_8) == AMELIE
+    }
+
+    void "a missing document is not found"() {
+        when:
+        RawGetResponse response = client.get { g -> g.index('movies').id('404') }
+
+        then:
+        !response.found()
+        response.source() == null
+        response.sourceAsBytes() == null
+    }
+
+    void "the errors of Elasticsearch are mapped as with the Java API client"() {
+        when:
+        client.get { g -> g.index('missing').id('1') }
+
+        then:
+        ElasticsearchException get = thrown()
+        get.status() == 404
+        get.error().type() == 'index_not_found_exception'
+
+        when:
+        client.search { s -> s.index('missing') }
+
+        then:
+        ElasticsearchException search = thrown()
+        search.status() == 404
+    }
+
+    void "cancelling the future aborts the request"() {
+        when:
+        CompletableFuture<RawSearchResponse> future = client.searchAsync { s -> s.index('slow') }
+        sleep(200)
+        future.cancel(true)
+
+        then:
+        future.isCancelled()
+
+        when: "the client is still usable"
+        RawSearchResponse response = client.search { s -> s.index('movies') }
+
+        then:
+        response.hits().size() == 3
+    }
+
+    void "the propagated deadline bounds the raw requests"() {
+        given:
+        long start = System.nanoTime()
+
+        when:
+        try (PropagatedContext.Scope ignored = Deadline.after(Duration.ofSeconds(10)).propagate()) {
+            client.search { s -> s.index('movies') }
+        }
+
+        then:
+        server.requests('/movies/_search')[0].query =~ /timeout=\d+ms/
+
+        when:
+        try (PropagatedContext.Scope ignored = Deadline.after(Duration.ofMillis(300)).propagate()) {
+            client.search { s -> s.index('slow') }
+        }
+
+        then:
+        thrown(DeadlineExceededException)
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 3000
+    }
+
+    void "the raw requests go through the concurrency limiter"() {
+        given:
+        ApplicationContext limited = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.limiter.enabled': true,
+                'elasticsearch.limiter.initial-limit': 1,
+                'elasticsearch.limiter.min-limit': 1,
+                'elasticsearch.limiter.max-limit': 1
+        )
+        RawElasticsearchClient limitedClient = limited.getBean(RawElasticsearchClient)
+        CompletableFuture<RawSearchResponse> slow = limitedClient.searchAsync { s -> s.index('slow') }
+
+        when:
+        limitedClient.search { s -> s.index('movies') }
+
+        then:
+        thrown(ConcurrencyLimitExceededException)
+        server.requests('/movies/_search').isEmpty()
+
+        cleanup:
+        slow?.cancel(true)
+        limited.close()
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()]
+        buffer.duplicate().get(bytes)
+        new String(bytes, StandardCharsets.UTF_8)
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.reactive
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import co.elastic.clients.elasticsearch.indices.RefreshResponse
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import reactor.core.Disposable
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ReactiveElasticsearchClientSpec extends Specification {
+
+    private static final String HITS = '{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix"}}]}}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext
+
+    @Shared
+    ReactiveElasticsearchClient client
+
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    void setupSpec() {
+        server.on('/movies/_search') { RecordedRequest request -> json(HITS) }
+        server.on('/slow/_search') { RecordedRequest request ->
+            StubResponse response = json(HITS)
+            response.delayMillis = 5000
+            return response
+        }
+        server.on('/missing/_search') { RecordedRequest request ->
+            json('{"error":{"root_cause":[{"type":"index_not_found_exception","reason":"no such index [missing]"}],"type":"index_not_found_exception","reason":"no such index [missing]"},"status":404}', 404)
+        }
+        server.on('/movies/_refresh') { RecordedRequest request ->
+            json('{"_shards":{"total":1,"successful":1,"failed":0}}')
+        }
+        applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.http.max-conn-per-route': 1,
+                'elasticsearch.http.max-conn-total': 1
+        )
+        client = applicationContext.getBean(ReactiveElasticsearchClient)
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the request is sent for each subscription"() {
+        when:
+        Publisher<SearchResponse<Map>> publisher = client.search({ s -> s.index('movies') }, Map)
+
+        then: "nothing is sent before the subscription"
+        server.requests.isEmpty()
+
+        when:
+        SearchResponse<Map> first = Mono.from(publisher).block(Duration.ofSeconds(5))
+        Mono.from(publisher).block(Duration.ofSeconds(5))
+
+        then:
+        first.hits().hits()[0].source().title == 'The Matrix'
+        server.requests('/movies/_search').size() == 2
+    }
+
+    void "the request is sent on the first demand only"() {
+        given:
+        List<Object> signals = []
+        Subscription subscription = null
+        client.search({ s -> s.index('movies') }, Map).subscribe(new Subscriber<SearchResponse<Map>>() {
+            @Override
+            void onSubscribe(Subscription s) {
+                subscription = s
+            }
+
+            @Override
+            void onNext(SearchResponse<Map> response) {
+                signals << response
+            }
+
+            @Override
+            void onError(Throwable t) {
+                signals << t
+            }
+
+            @Override
+            void onComplete() {
+                signals << 'complete'
+            }
+        })
+
+        expect:
+        server.requests.isEmpty()
+
+        when:
+        subscription.request(1)
+        subscription.request(1)
+
+        then:
+        conditions.eventually {
+            assert signals.size() == 2
+            assert signals[0] instanceof SearchResponse
+            assert signals[1] == 'complete'
+        }
+        server.requests('/movies/_search').size() == 1
+    }
+
+    void "the errors of Elasticsearch are signalled as they are"() {
+        when:
+        Mono.from(client.search({ s -> s.index('missing') }, Map)).block(Duration.ofSeconds(5))
+
+        then:
+        ElasticsearchException e = thrown()
+        e.status() == 404
+    }
+
+    void "cancelling the subscription aborts the request and releases its connection"() {
+        given:
+        CompletableFuture<SearchResponse<Map>> future = null
+        Disposable subscription = Mono.from(client.execute { c ->
+            future = c.search({ s -> s.index('slow') }, Map)
+            return future
+        }).subscribe()
+
+        when:
+        conditions.eventually {
+            assert server.requests('/slow/_search').size() == 1
+        }
+        subscription.dispose()
+
+        then:
+        future.isCancelled()
+
+        when: "the only connection of the pool is used by the next request"
+        SearchResponse<Map> response = Mono.from(client.search({ s -> s.index('movies') }, Map)).block(Duration.ofSeconds(2))
+
+        then:
+        response.hits().hits().size() == 1
+    }
+
+    void "the other APIs of the asynchronous client are executed as publishers"() {
+        when:
+        RefreshResponse response = Mono.from(client.execute { c -> c.indices().refresh { r -> r.index('movies') } }).block(Duration.ofSeconds(5))
+
+        then:
+        response.shards().successful().intValue() == 1
+        server.requests('/movies/_refresh').size() == 1
+    }
+}
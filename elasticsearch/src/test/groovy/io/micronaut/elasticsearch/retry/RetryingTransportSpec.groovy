@@ -0,0 +1,268 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.retry
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import co.elastic.clients.elasticsearch._types.Refresh
+import co.elastic.clients.elasticsearch.core.BulkResponse
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.transport.DelegatingElasticsearchTransport
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class RetryingTransportSpec extends Specification {
+
+    private static final String HEALTH = '{"cluster_name":"test","status":"green","timed_out":false,"number_of_nodes":1,"number_of_data_nodes":1,"active_primary_shards":1,"active_shards":1,"relocating_shards":0,"initializing_shards":0,"unassigned_shards":0,"delayed_unassigned_shards":0,"number_of_pending_tasks":0,"number_of_in_flight_fetch":0,"task_max_waiting_in_queue_millis":0,"active_shards_percent_as_number":100.0,"unassigned_primary_shards":0}'
+    private static final String REJECTED = '{"error":{"root_cause":[{"type":"es_rejected_execution_exception","reason":"rejected execution"}],"type":"es_rejected_execution_exception","reason":"rejected execution"},"status":429}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    AtomicInteger rejections = new AtomicInteger()
+
+    @Shared
+    Set<String> rejectedIds = [] as Set
+
+    void setupSpec() {
+        server.on('/_cluster/health') { RecordedRequest request ->
+            rejections.getAndDecrement() > 0 ? json(REJECTED, 429) : json(HEALTH)
+        }
+        server.on('/_bulk') { RecordedRequest request ->
+            List<String> actions = request.ndjsonLines.withIndex().findAll { it.v2 % 2 == 0 }*.v1
+            String items = actions.collect { String action ->
+                String id = (action =~ /"_id":"([^"]+)"/)[0][1]
+                if (id == '2' && rejectedIds.add(id)) {
+                    return '{"index":{"_index":"movies","_id":"' + id + '","status":429,"error":{"type":"es_rejected_execution_exception","reason":"rejected execution"}}}'
+                }
+                if (id == '3') {
+                    return '{"index":{"_index":"movies","_id":"' + id + '","status":400,"error":{"type":"mapper_parsing_exception","reason":"failed to parse"}}}'
+                }
+                return '{"index":{"_index":"movies","_id":"' + id + '","status":201,"result":"created"}}'
+            }.join(',')
+            json('{"took":2,"ingest_took":1,"errors":true,"items":[' + items + ']}')
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+        rejections.set(0)
+        rejectedIds.clear()
+    }
+
+    void "the requests are not retried by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        rejections.set(1)
+
+        expect:
+        !findRetryingTransport(applicationContext.getBean(ElasticsearchTransport))
+
+        when:
+        applicationContext.getBean(ElasticsearchClient).cluster().health()
+
+        then:
+        ElasticsearchException e = thrown()
+        e.status() == 429
+        server.requests('/_cluster/health').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the rejected requests are retried"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.retry.enabled': true,
+                'elasticsearch.retry.initial-delay': '10ms'
+        )
+        rejections.set(2)
+
+        when:
+        String clusterName = applicationContext.getBean(ElasticsearchClient).cluster().health().clusterName()
+
+        then:
+        clusterName == 'test'
+        server.requests('/_cluster/health').size() == 3
+
+        when:
+        rejections.set(2)
+        clusterName = applicationContext.getBean(ElasticsearchAsyncClient).cluster().health().get(5, TimeUnit.SECONDS).clusterName()
+
+        then:
+        clusterName == 'test'
+        server.requests('/_cluster/health').size() == 6
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the retries stop after the maximum number of attempts"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.retry.enabled': true,
+                'elasticsearch.retry.initial-delay': '10ms',
+                'elasticsearch.retry.max-attempts': 2
+        )
+        rejections.set(5)
+
+        when:
+        applicationContext.getBean(ElasticsearchClient).cluster().health()
+
+        then:
+        thrown(ElasticsearchException)
+        server.requests('/_cluster/health').size() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the retries stop once the maximum retry timeout would be exceeded"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.maxRetryTimeoutMillis': 100,
+                'elasticsearch.retry.enabled': true,
+                'elasticsearch.retry.initial-delay': '1s',
+                'elasticsearch.retry.jitter': 0
+        )
+        rejections.set(1)
+
+        when:
+        applicationContext.getBean(ElasticsearchClient).cluster().health()
+
+        then:
+        thrown(ElasticsearchException)
+        server.requests('/_cluster/health').size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "only the rejected items of a bulk request are retried"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.retry.enabled': true,
+                'elasticsearch.retry.initial-delay': '10ms'
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        BulkResponse response = client.bulk { bulk ->
+            (1..4).each { int id ->
+                bulk.operations { op -> op.index { it.index('movies').id(String.valueOf(id)).document([title: "Movie $id"]) } }
+            }
+            bulk
+        }
+
+        then: "the item rejected with a non retryable status isn't retried"
+        server.requests('/_bulk').size() == 2
+        server.requests('/_bulk')[0].ndjsonLines.size() == 8
+        server.requests('/_bulk')[1].ndjsonLines.size() == 2
+        server.requests('/_bulk')[1].ndjsonLines[0].contains('"_id":"2"')
+
+        and: "the response has the items of both attempts in the original order"
+        response.items()*.id() == ['1', '2', '3', '4']
+        response.items()*.status() == [201, 201, 400, 201]
+        response.errors()
+        response.took() == 4
+        response.ingestTook() == 2
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the retried bulk request keeps the parameters of the original request"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.retry.enabled': true,
+                'elasticsearch.retry.initial-delay': '10ms'
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        client.bulk { bulk ->
+            bulk.pipeline('enrich')
+                .refresh(Refresh.WaitFor)
+                .requireAlias(false)
+                .requireDataStream(false)
+                .listExecutedPipelines(true)
+                .routing('user-1')
+                .timeout { it.time('5s') }
+                .waitForActiveShards { it.count(1) }
+                .sourceIncludes('title')
+            (1..2).each { int id ->
+                bulk.operations { op -> op.index { it.index('movies').id(String.valueOf(id)).document([title: "Movie $id"]) } }
+            }
+            bulk
+        }
+        Map<String, String> parameters = parameters(server.requests('/_bulk')[0].query)
+
+        then:
+        server.requests('/_bulk').size() == 2
+        server.requests('/_bulk')[1].ndjsonLines[0].contains('"_id":"2"')
+        parameters.subMap(['pipeline', 'refresh', 'require_alias', 'require_data_stream', 'list_executed_pipelines',
+                           'routing', 'timeout', 'wait_for_active_shards', '_source_includes']) == [
+                pipeline: 'enrich',
+                refresh: 'wait_for',
+                require_alias: 'false',
+                require_data_stream: 'false',
+                list_executed_pipelines: 'true',
+                routing: 'user-1',
+                timeout: '5s',
+                wait_for_active_shards: '1',
+                _source_includes: 'title'
+        ]
+        parameters(server.requests('/_bulk')[1].query) == parameters
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static Map<String, String> parameters(String query) {
+        query.split('&').collectEntries { String parameter ->
+            List<String> pair = parameter.split('=', 2) as List<String>
+            [(pair[0]): URLDecoder.decode(pair[1], 'UTF-8')]
+        }
+    }
+
+    private static RetryingTransport findRetryingTransport(ElasticsearchTransport transport) {
+        ElasticsearchTransport current = transport
+        while (current instanceof DelegatingElasticsearchTransport) {
+            if (current instanceof RetryingTransport) {
+                return (RetryingTransport) current
+            }
+            current = ((DelegatingElasticsearchTransport) current).delegate
+        }
+        return null
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.search
+
+import co.elastic.clients.elasticsearch.core.search.Hit
+import groovy.json.JsonSlurper
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.stream.Collectors
+import java.util.stream.Stream
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class PointInTimeSearchSpec extends Specification {
+
+    static final int DOCUMENTS = 25
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext
+
+    @Shared
+    PointInTimeSearch search
+
+    @Shared
+    boolean failSearch
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void setupSpec() {
+        server.on('/movies/_pit') { RecordedRequest request ->
+            json('{"id":"pit-1"}')
+        }
+        server.on('/_search') { RecordedRequest request ->
+            if (failSearch) {
+                return json('{"error":{"type":"search_phase_execution_exception","reason":"all shards failed"},"status":500}', 500)
+            }
+            Map body = new JsonSlurper().parseText(request.body) as Map
+            int size = body.size as int
+            long after = body.search_after ? (body.search_after[0] as long) : -1
+            int sliceId = body.slice ? (body.slice.id as int) : 0
+            int sliceMax = body.slice ? (body.slice.max as int) : 1
+            List<Integer> ids = (0..<DOCUMENTS).findAll { it > after && it % sliceMax == sliceId }.take(size)
+            String hits = ids.collect {
+                '{"_index":"movies","_id":"' + it + '","_score":null,"_source":{"title":"Movie ' + it + '"},"sort":[' + it + ']}'
+            }.join(',')
+            json('{"pit_id":"pit-1","took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"max_score":null,"hits":[' + hits + ']}}')
+        }
+        server.on('/_pit') { RecordedRequest request ->
+            json('{"succeeded":true,"num_freed":1}')
+        }
+        applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        search = applicationContext.getBean(PointInTimeSearch)
+    }
+
+    void setup() {
+        server.requests.clear()
+        failSearch = false
+    }
+
+    void "all the hits are streamed page by page"() {
+        when:
+        List<Hit<Map>> hits = Flux.from(search.publisher(PointInTimeSearchRequest.builder('movies').pageSize(10).build(), Map))
+                .collectList()
+                .block()
+
+        then:
+        hits*.id() == (0..<DOCUMENTS)*.toString()
+        hits[3].source().title == 'Movie 3'
+        server.requests('/movies/_pit').size() == 1
+        server.requests('/movies/_pit').first().query.contains('keep_alive=60000ms')
+        searchRequests().size() == 3
+        searchRequests()[0].pit.id == 'pit-1'
+        searchRequests()[0].search_after == null
+        searchRequests()[1].search_after == [9]
+        searchRequests()[2].search_after == [19]
+        searchRequests()*.sort.every { it.last() == [_shard_doc: [order: 'asc']] }
+        pitClosed()
+    }
+
+    void "pages are fetched on demand and the point in time is closed on cancel"() {
+        when:
+        List<Hit<Map>> hits = Flux.from(search.publisher(PointInTimeSearchRequest.builder('movies').pageSize(10).build(), Map))
+                .limitRate(5)
+                .take(5)
+                .collectList()
+                .block()
+
+        then:
+        hits.size() == 5
+        searchRequests().size() == 1
+        pitClosed()
+    }
+
+    void "the slices are fetched in parallel"() {
+        when:
+        List<Hit<Map>> hits = Flux.from(search.publisher(PointInTimeSearchRequest.builder('movies')
+                .pageSize(4)
+                .slices(3)
+                .search(s -> s.query(q -> q.matchAll(m -> m)))
+                .build(), Map))
+                .collectList()
+                .block()
+
+        then:
+        hits*.id().sort { it as int } == (0..<DOCUMENTS)*.toString()
+        searchRequests()*.slice.max.unique() == [3]
+        searchRequests()*.slice.id.unique().sort() == ['0', '1', '2']
+        searchRequests().every { it.query == [match_all: [:]] }
+        pitClosed()
+    }
+
+    void "hits can be consumed as a stream"() {
+        when:
+        List<String> ids = search.stream(PointInTimeSearchRequest.builder('movies').pageSize(7).build(), Map)
+                .withCloseable { Stream<Hit<Map>> stream -> stream.map { it.id() }.collect(Collectors.toList()) }
+
+        then:
+        ids == (0..<DOCUMENTS)*.toString()
+        pitClosed()
+
+        when:
+        server.requests.clear()
+        Stream<Hit<Map>> stream = search.stream(PointInTimeSearchRequest.builder('movies').pageSize(7).build(), Map)
+        List<Hit<Map>> first = stream.limit(2).collect(Collectors.toList())
+        stream.close()
+
+        then:
+        first*.id() == ['0', '1']
+        pitClosed()
+    }
+
+    void "errors are propagated and the point in time is closed"() {
+        given:
+        failSearch = true
+
+        when:
+        Flux.from(search.publisher(PointInTimeSearchRequest.builder('movies').build(), Map)).blockLast()
+
+        then:
+        thrown(Exception)
+        pitClosed()
+    }
+
+    private List<Map> searchRequests() {
+        server.requests('/_search').collect { new JsonSlurper().parseText(it.body) as Map }
+    }
+
+    private boolean pitClosed() {
+        conditions.eventually {
+            List<RecordedRequest> closes = server.requests('/_pit')
+            assert closes.size() == 1
+            assert closes.first().method == 'DELETE'
+            assert new JsonSlurper().parseText(closes.first().body).id == 'pit-1'
+        }
+        true
+    }
+}
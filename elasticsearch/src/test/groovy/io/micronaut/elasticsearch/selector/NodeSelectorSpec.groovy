@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.selector
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.DefaultElasticsearchConfigurationProperties
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import org.apache.http.HttpHost
+import org.elasticsearch.client.Node
+import org.elasticsearch.client.NodeSelector
+import org.elasticsearch.client.Request
+import org.elasticsearch.client.Response
+import org.elasticsearch.client.ResponseListener
+import org.elasticsearch.client.RestClient
+import spock.lang.Specification
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class NodeSelectorSpec extends Specification {
+
+    void "node selectors are converted from the configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': 'http://127.0.0.1:9200',
+                'elasticsearch.nodeSelector': value
+        )
+
+        expect:
+        applicationContext.getBean(DefaultElasticsearchConfigurationProperties).nodeSelector.toString() == expected
+
+        cleanup:
+        applicationContext.close()
+
+        where:
+        value                                         | expected
+        'least-outstanding-requests'                  | 'LEAST_OUTSTANDING_REQUESTS'
+        'LATENCY_WEIGHTED'                            | 'LATENCY_WEIGHTED'
+        'PREFER_ATTRIBUTE:zone=eu-west-1a'            | 'PREFER_ATTRIBUTE:zone=eu-west-1a'
+        'PREFER_ATTRIBUTE:zone=eu-west-1a,LATENCY_WEIGHTED' | 'PREFER_ATTRIBUTE:zone=eu-west-1a,LATENCY_WEIGHTED'
+    }
+
+    void "prefer attribute keeps the matching nodes if there are any"() {
+        given:
+        NodeSelector selector = new PreferAttributeNodeSelector('zone', 'a')
+        List<Node> nodes = [node(9201, 'a'), node(9202, 'b'), node(9203, 'a')]
+
+        when:
+        selector.select(nodes)
+
+        then:
+        nodes*.host*.port == [9201, 9203]
+
+        when:
+        nodes = [node(9202, 'b'), new Node(HttpHost.create('http://127.0.0.1:9204'))]
+        selector.select(nodes)
+
+        then:
+        nodes*.host*.port == [9202, 9204]
+    }
+
+    void "least outstanding requests avoids the node that is busy"() {
+        given:
+        StubElasticsearchServer fast = new StubElasticsearchServer().on('/') { json('{}') }
+        StubElasticsearchServer slow = new StubElasticsearchServer().on('/') { new StubElasticsearchServer.StubResponse(delayMillis: 2000) }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': "${fast.httpHost},${slow.httpHost}",
+                'elasticsearch.nodeSelector': 'LEAST_OUTSTANDING_REQUESTS'
+        )
+        RestClient restClient = applicationContext.getBean(RestClient)
+
+        when:
+        10.times {
+            restClient.performRequestAsync(new Request('GET', '/'), new ResponseListener() {
+                @Override
+                void onSuccess(Response response) {
+                }
+
+                @Override
+                void onFailure(Exception exception) {
+                }
+            })
+            sleep(100)
+        }
+
+        then: "the slow node keeps its first request in progress and is skipped"
+        slow.requests.size() == 1
+        fast.requests.size() == 9
+
+        cleanup:
+        applicationContext.close()
+        fast.close()
+        slow.close()
+    }
+
+    void "latency weighted selection avoids the slow node"() {
+        given:
+        StubElasticsearchServer fast = new StubElasticsearchServer().on('/') { json('{}') }
+        StubElasticsearchServer slow = new StubElasticsearchServer().on('/') { new StubElasticsearchServer.StubResponse(delayMillis: 300) }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': "${fast.httpHost},${slow.httpHost}",
+                'elasticsearch.nodeSelector': 'LATENCY_WEIGHTED'
+        )
+        RestClient restClient = applicationContext.getBean(RestClient)
+
+        when:
+        20.times {
+            restClient.performRequest(new Request('GET', '/'))
+        }
+
+        then: "the slow node is measured once and then skipped"
+        slow.requests.size() <= 2
+        fast.requests.size() >= 18
+
+        cleanup:
+        applicationContext.close()
+        fast.close()
+        slow.close()
+    }
+
+    private static Node node(int port, String zone) {
+        new Node(HttpHost.create("http://127.0.0.1:$port"), null, "node-$port", '8.15.2',
+                new Node.Roles(['data', 'ingest'] as Set<String>), [zone: [zone]])
+    }
+}
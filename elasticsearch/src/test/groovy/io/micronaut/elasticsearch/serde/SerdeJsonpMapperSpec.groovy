@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.serde
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import co.elastic.clients.json.JsonpMapper
+import co.elastic.clients.json.jackson.JacksonJsonpMapper
+import co.elastic.clients.transport.ElasticsearchTransport
+import groovy.json.JsonSlurper
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.serde.annotation.Serdeable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class SerdeJsonpMapperSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        server.on('/movies/_doc/') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"1","_version":1,"result":"created","_shards":{"total":1,"successful":1,"failed":0},"_seq_no":0,"_primary_term":1}', 201)
+        }
+        server.on('/movies/_search') { RecordedRequest request ->
+            json('{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix","year":1999,"unknown":true}}]}}')
+        }
+    }
+
+    void "the documents are mapped with Micronaut Serialization"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.serde.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        expect:
+        applicationContext.getBean(JsonpMapper) instanceof SerdeJsonpMapper
+        applicationContext.getBean(ElasticsearchTransport).jsonpMapper() instanceof SerdeJsonpMapper
+
+        when:
+        client.index { it.index('movies').id('1').document(new Movie(title: 'The Matrix', year: 1999)) }
+        SearchResponse<Movie> response = client.search({ it.index('movies') }, Movie)
+
+        then:
+        new JsonSlurper().parseText(server.requests('/movies/_doc/').first().body) == [title: 'The Matrix', year: 1999]
+        response.hits().hits().first().source().title == 'The Matrix'
+        response.hits().hits().first().source().year == 1999
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the Jackson mapper is used by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+
+        expect:
+        applicationContext.getBean(JsonpMapper) instanceof JacksonJsonpMapper
+        !applicationContext.containsBean(SerdeJsonpMapper)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Serdeable
+    static class Movie {
+        String title
+        Integer year
+    }
+}
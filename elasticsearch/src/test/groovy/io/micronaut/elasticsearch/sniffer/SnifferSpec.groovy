@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.sniffer
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.context.exceptions.NoSuchBeanException
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import org.elasticsearch.client.Request
+import org.elasticsearch.client.RestClient
+import org.elasticsearch.client.sniff.Sniffer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class SnifferSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer hot = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer warm = new StubElasticsearchServer()
+
+    @Shared
+    int deadPort = new ServerSocket(0).withCloseable { it.localPort }
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void "the sniffer is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': hot.httpHost)
+
+        when:
+        applicationContext.getBean(Sniffer)
+
+        then:
+        thrown(NoSuchBeanException)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the sniffed nodes replace the configured hosts"() {
+        given:
+        hot.on('/_nodes') { json(nodes(node('hot', hot.port, ['data_hot', 'ingest'], 'a'), node('warm', warm.port, ['data_warm'], 'b'), node('master', deadPort, ['master'], 'a'))) }
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'elasticsearch.httpHosts': hot.httpHost,
+                'elasticsearch.sniffer.enabled': true,
+                'elasticsearch.sniffer.roles': roles
+        ] + (zone ? ['elasticsearch.sniffer.attributes.zone': zone] : [:]))
+        RestClient restClient = applicationContext.getBean(RestClient)
+
+        expect:
+        conditions.eventually {
+            assert restClient.nodes*.host*.port as Set == expected.collect { it == 'hot' ? hot.port : it == 'warm' ? warm.port : deadPort } as Set
+        }
+
+        cleanup:
+        applicationContext.close()
+
+        where:
+        roles                | zone | expected
+        'data_hot,data_warm' | null | ['hot', 'warm']
+        'data_hot,data_warm' | 'b'  | ['warm']
+        'master'             | null | ['master']
+        'ingest'             | null | ['hot']
+    }
+
+    void "an unsupported role fails the startup"() {
+        when:
+        ApplicationContext.run(
+                'elasticsearch.httpHosts': hot.httpHost,
+                'elasticsearch.sniffer.enabled': true,
+                'elasticsearch.sniffer.roles': 'data_lukewarm'
+        )
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains("Unsupported node role 'data_lukewarm'")
+    }
+
+    void "the nodes are sniffed again when a node fails"() {
+        given:
+        boolean deadNodeRemoved = false
+        hot.on('/_nodes') {
+            List<String> entries = [node('hot', hot.port, ['data_hot'], 'a')]
+            if (!deadNodeRemoved) {
+                entries << node('dead', deadPort, ['data_hot'], 'a')
+            }
+            json(nodes(entries as String[]))
+        }
+        hot.on('/movies') { json('{}') }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': hot.httpHost,
+                'elasticsearch.sniffer.enabled': true,
+                'elasticsearch.sniffer.sniff-after-failure-delay': '10m'
+        )
+        RestClient restClient = applicationContext.getBean(RestClient)
+
+        expect:
+        conditions.eventually {
+            assert restClient.nodes.size() == 2
+        }
+
+        when: "a request is sent to the dead node and retried on the other one"
+        deadNodeRemoved = true
+        3.times {
+            restClient.performRequest(new Request('GET', '/movies'))
+        }
+
+        then:
+        conditions.eventually {
+            assert restClient.nodes*.host*.port == [hot.port]
+        }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static String nodes(String... nodes) {
+        '{"_nodes":{"total":' + nodes.length + ',"successful":' + nodes.length + ',"failed":0},"cluster_name":"docker-cluster","nodes":{' + nodes.join(',') + '}}'
+    }
+
+    private static String node(String name, int port, List<String> roles, String zone) {
+        '"' + name + '":{"name":"' + name + '","transport_address":"127.0.0.1:9300","host":"127.0.0.1","ip":"127.0.0.1",' +
+                '"version":"8.15.2","roles":[' + roles.collect { '"' + it + '"' }.join(',') + '],' +
+                '"attributes":{"zone":"' + zone + '"},' +
+                '"http":{"bound_address":["127.0.0.1:' + port + '"],"publish_address":"127.0.0.1:' + port + '",' +
+                '"max_content_length_in_bytes":104857600}}'
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.ssl
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.exceptions.BeanInstantiationException
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.inject.qualifiers.Qualifiers
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.net.ssl.KeyManagerFactory
+import javax.net.ssl.SSLContext
+import javax.net.ssl.SSLHandshakeException
+import java.security.KeyStore
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ElasticsearchSslSpec extends Specification {
+
+    private static final String INFO = '{"name":"node-1","cluster_name":"test","cluster_uuid":"uuid","version":{"number":"8.15.2","build_flavor":"default","build_type":"docker","build_hash":"hash","build_date":"2024-09-19T10:06:03.564Z","build_snapshot":false,"lucene_version":"9.11.1","minimum_wire_compatibility_version":"7.17.0","minimum_index_compatibility_version":"7.0.0"},"tagline":"You Know, for Search"}'
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer(serverSslContext())
+
+    void setupSpec() {
+        server.on('/') { RecordedRequest request ->
+            StubElasticsearchServer.StubResponse response = json(INFO)
+            response.headers['Connection'] = 'close'
+            response
+        }
+    }
+
+    void "the requests are sent over TLS and the new connections resume the session with #protocol"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchSslSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.ssl.enabled': true,
+                'elasticsearch.ssl.trust-store.path': 'classpath:ssl/truststore.p12',
+                'elasticsearch.ssl.trust-store.password': 'changeit',
+                'elasticsearch.ssl.trust-store.type': 'PKCS12',
+                'elasticsearch.ssl.protocols': protocol
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+        int requestCount = server.requests('/').size()
+
+        when: "each response closes the connection"
+        3.times { client.info() }
+
+        then:
+        server.requests('/').size() == requestCount + 3
+        meterRegistry.get('elasticsearch.client.tls.handshakes').tags('protocol', protocol, 'resumed', 'false').timer().count() == 1
+        meterRegistry.get('elasticsearch.client.tls.handshakes').tags('protocol', protocol, 'resumed', 'true').timer().count() == 2
+
+        cleanup:
+        applicationContext.close()
+
+        where:
+        protocol << ['TLSv1.2', 'TLSv1.3']
+    }
+
+    void "a certificate that is not trusted fails the handshake"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'ElasticsearchSslSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.ssl.enabled': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        MeterRegistry meterRegistry = applicationContext.getBean(MeterRegistry)
+
+        when:
+        client.info()
+
+        then:
+        thrown(SSLHandshakeException)
+        meterRegistry.find('elasticsearch.client.tls.handshakes').timers().isEmpty()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the TLS configuration only applies to the default cluster"() {
+        given:
+        StubElasticsearchServer plain = new StubElasticsearchServer()
+        plain.on('/') { RecordedRequest request -> json(INFO) }
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.ssl.enabled': true,
+                'elasticsearch.ssl.trust-store.path': 'classpath:ssl/truststore.p12',
+                'elasticsearch.ssl.trust-store.password': 'changeit',
+                'elasticsearch.ssl.trust-store.type': 'PKCS12',
+                'elasticsearch.clusters.analytics.httpHosts': plain.httpHost
+        )
+
+        when:
+        applicationContext.getBean(ElasticsearchClient).info()
+        applicationContext.getBean(ElasticsearchClient, Qualifiers.byName('analytics')).info()
+
+        then:
+        plain.requests('/').size() == 1
+
+        cleanup:
+        applicationContext.close()
+        plain.close()
+    }
+
+    void "TLS can't be configured under a named cluster"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': server.httpHost,
+                'elasticsearch.clusters.analytics.ssl.enabled': true
+        )
+
+        when:
+        applicationContext.getBean(ElasticsearchClient, Qualifiers.byName('analytics'))
+
+        then:
+        BeanInstantiationException e = thrown()
+        e.message.contains('elasticsearch.clusters.analytics.ssl is not supported by the named clusters')
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the session cache is configured"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.ssl.enabled': true,
+                'elasticsearch.ssl.session-cache-size': 10,
+                'elasticsearch.ssl.session-timeout': '5m'
+        )
+
+        when:
+        SSLContext sslContext = applicationContext.getBean(ElasticsearchSslConfigurer).buildSslContext()
+
+        then:
+        sslContext.clientSessionContext.sessionCacheSize == 10
+        sslContext.clientSessionContext.sessionTimeout == 300
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "TLS is not configured unless enabled"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost
+        )
+
+        expect:
+        !applicationContext.containsBean(ElasticsearchSslConfigurer)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static SSLContext serverSslContext() {
+        KeyStore keyStore = KeyStore.getInstance('PKCS12')
+        ElasticsearchSslSpec.getResourceAsStream('/ssl/keystore.p12').withCloseable {
+            keyStore.load(it, 'changeit'.toCharArray())
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.defaultAlgorithm)
+        keyManagerFactory.init(keyStore, 'changeit'.toCharArray())
+        SSLContext sslContext = SSLContext.getInstance('TLS')
+        sslContext.init(keyManagerFactory.keyManagers, null, null)
+        sslContext
+    }
+
+    @Factory
+    @Requires(property = 'spec.name', value = 'ElasticsearchSslSpec')
+    static class MeterRegistryFactory {
+
+        @Singleton
+        SimpleMeterRegistry simpleMeterRegistry() {
+            new SimpleMeterRegistry()
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch.core.BulkRequest
+import co.elastic.clients.elasticsearch.core.SearchResponse
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.elasticsearch.DefaultElasticsearchConfigurationProperties
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class CompressionSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        server.on('/_bulk') { RecordedRequest request ->
+            int operations = request.ndjsonLines.size() / 2
+            String items = (1..operations).collect {
+                '{"index":{"_index":"movies","_id":"' + it + '","status":201,"result":"created"}}'
+            }.join(',')
+            return json('{"took":1,"errors":false,"items":[' + items + ']}')
+        }
+        server.on('/movies/_search') { RecordedRequest request ->
+            def response = json('{"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},"hits":{"total":{"value":1,"relation":"eq"},"max_score":1.0,"hits":[{"_index":"movies","_id":"1","_score":1.0,"_source":{"title":"The Matrix"}}]}}')
+            response.gzip = true
+            return response
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "test compression configuration"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.compression.request': true,
+                'elasticsearch.compression.response': true,
+                'elasticsearch.compression.threshold': '2KB'
+        )
+
+        expect:
+        DefaultElasticsearchConfigurationProperties.CompressionConfigurationProperties compression =
+                applicationContext.getBean(DefaultElasticsearchConfigurationProperties).compression
+        compression.request
+        compression.response
+        compression.threshold == 2048
+        DelegatingElasticsearchTransport.unwrap(applicationContext.getBean(ElasticsearchTransport)) instanceof CompressingRestClientTransport
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "compression is disabled by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': server.httpHost)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        client.bulk(bulkRequest(100))
+
+        then:
+        RecordedRequest request = server.requests('/_bulk').first()
+        request.headers.getFirst('Content-Encoding') == null
+        request.headers.getFirst('Accept-Encoding') == null
+        !(DelegatingElasticsearchTransport.unwrap(applicationContext.getBean(ElasticsearchTransport)) instanceof CompressingRestClientTransport)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "request bodies above the threshold are compressed"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'spec.name': 'CompressionSpec',
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.compression.request': true,
+                'elasticsearch.compression.threshold': '1KB'
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        RecordingListener listener = applicationContext.getBean(RecordingListener)
+
+        when:
+        client.bulk(bulkRequest(1))
+        client.bulk(bulkRequest(100))
+
+        then: "the stub server decodes the gzip bodies"
+        List<RecordedRequest> requests = server.requests('/_bulk')
+        requests.size() == 2
+        requests[0].headers.getFirst('Content-Encoding') == null
+        requests[0].ndjsonLines.size() == 2
+        requests[1].headers.getFirst('Content-Encoding') == 'gzip'
+        requests[1].ndjsonLines.size() == 200
+
+        and:
+        listener.compressed.size() == 1
+        listener.compressed[0][0] == 'es/bulk'
+        listener.compressed[0][1] > 1024
+        listener.compressed[0][2] < listener.compressed[0][1]
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "compressed responses are requested and decompressed"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.compression.response': true
+        )
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        SearchResponse<Map> response = client.search({ it.index('movies') }, Map)
+
+        then:
+        server.requests('/movies/_search').first().headers.getFirst('Accept-Encoding') == 'gzip'
+        response.hits().hits().first().source().title == 'The Matrix'
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static BulkRequest bulkRequest(int operations) {
+        BulkRequest.of { bulk ->
+            (1..operations).each { id ->
+                bulk.operations { op ->
+                    op.index { it.index('movies').id(String.valueOf(id)).document([title: 'The Matrix', year: 1999, genres: ['Action', 'Sci-Fi']]) }
+                }
+            }
+            bulk
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'CompressionSpec')
+    static class RecordingListener implements RequestCompressionListener {
+
+        final List<List<Object>> compressed = new CopyOnWriteArrayList<>()
+
+        @Override
+        void onRequestCompressed(String endpointId, long uncompressedBytes, long compressedBytes) {
+            compressed << [endpointId, uncompressedBytes, compressedBytes]
+        }
+    }
+}
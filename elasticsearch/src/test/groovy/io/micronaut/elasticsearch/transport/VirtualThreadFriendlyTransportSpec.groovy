@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.transport
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import co.elastic.clients.elasticsearch._types.ElasticsearchException
+import co.elastic.clients.elasticsearch.core.GetResponse
+import co.elastic.clients.transport.ElasticsearchTransport
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordedFrame
+import jdk.jfr.consumer.RecordingFile
+import spock.lang.AutoCleanup
+import spock.lang.Requires
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class VirtualThreadFriendlyTransportSpec extends Specification {
+
+    private static final int CALLERS = 10_000
+    private static final String PINNED = 'jdk.VirtualThreadPinned'
+    private static final List<String> CLIENT_PACKAGES = ['org.apache.http.', 'org.elasticsearch.client.', 'co.elastic.clients.', 'io.micronaut.elasticsearch.']
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer server = new StubElasticsearchServer()
+
+    void setupSpec() {
+        server.on('/movies/_doc/') { RecordedRequest request ->
+            json('{"_index":"movies","_id":"1","_version":1,"_seq_no":0,"_primary_term":1,"found":true,"_source":{"title":"The Matrix"}}')
+        }
+        server.on('/missing/_doc/') { RecordedRequest request ->
+            json('{"error":{"root_cause":[{"type":"index_not_found_exception","reason":"no such index [missing]"}],"type":"index_not_found_exception","reason":"no such index [missing]"},"status":404}', 404)
+        }
+    }
+
+    void setup() {
+        server.requests.clear()
+    }
+
+    void "the blocking calls wait on the asynchronous path when virtual threads are enabled"() {
+        given:
+        ApplicationContext applicationContext = run(true)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        expect:
+        transports(applicationContext.getBean(ElasticsearchTransport)).any { it instanceof VirtualThreadFriendlyTransport }
+        client.get({ it.index('movies').id('1') }, Map).source().title == 'The Matrix'
+
+        when:
+        client.get({ it.index('missing').id('1') }, Map)
+
+        then: "the errors are the ones of the blocking path"
+        ElasticsearchException e = thrown()
+        e.status() == 404
+        e.error().type() == 'index_not_found_exception'
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "virtual threads are disabled by default"() {
+        given:
+        ApplicationContext applicationContext = run(false)
+
+        expect:
+        transports(applicationContext.getBean(ElasticsearchTransport)).every { !(it instanceof VirtualThreadFriendlyTransport) }
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "interrupting a blocking call cancels the request"() {
+        given:
+        server.on('/slow/_doc/') { RecordedRequest request ->
+            def response = json('{"_index":"slow","_id":"1","found":false}')
+            response.delayMillis = 5000
+            return response
+        }
+        ApplicationContext applicationContext = run(true)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+        Throwable error = null
+        Thread caller = Thread.start {
+            try {
+                client.get({ it.index('slow').id('1') }, Map)
+            } catch (Throwable t) {
+                error = t
+            }
+        }
+
+        when:
+        sleep(200)
+        caller.interrupt()
+        caller.join(2000)
+
+        then:
+        !caller.alive
+        error instanceof InterruptedIOException
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Requires({ Runtime.version().feature() >= 21 })
+    void "10k concurrent virtual threads do not pin their carrier threads"() {
+        given:
+        ApplicationContext applicationContext = run(true)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        LoadResult result = load(client, CALLERS)
+
+        then:
+        result.failures == 0
+        result.pinned.isEmpty()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Requires({ Runtime.version().feature() in 21..23 })
+    void "the default blocking path pins the carrier threads before JDK 24"() {
+        given:
+        ApplicationContext applicationContext = run(false)
+        ElasticsearchClient client = applicationContext.getBean(ElasticsearchClient)
+
+        when:
+        LoadResult result = load(client, CALLERS)
+
+        then: "the load test detects the pinning of the Apache HTTP client future"
+        result.failures == 0
+        !result.pinned.isEmpty()
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private ApplicationContext run(boolean virtualThreads) {
+        ApplicationContext.run(
+                'elasticsearch.httpHosts': server.httpHost,
+                'elasticsearch.http.virtual-threads': virtualThreads,
+                'elasticsearch.http.max-conn-per-route': 100,
+                'elasticsearch.http.max-conn-total': 100,
+                'elasticsearch.request.default.connectionRequestTimeout': 60000,
+                'elasticsearch.request.default.socketTimeout': 60000
+        )
+    }
+
+    private static List<ElasticsearchTransport> transports(ElasticsearchTransport transport) {
+        List<ElasticsearchTransport> transports = [transport]
+        while (transports.last() instanceof DelegatingElasticsearchTransport) {
+            transports << ((DelegatingElasticsearchTransport) transports.last()).delegate
+        }
+        return transports
+    }
+
+    /**
+     * Runs a blocking get per virtual thread while recording the pinning events of the client code. The client is
+     * warmed up first so that the class initializations are not recorded.
+     */
+    private static LoadResult load(ElasticsearchClient client, int callers) {
+        ExecutorService warmup = Executors.newVirtualThreadPerTaskExecutor()
+        try {
+            warmup.submit({ 10.times { client.get({ g -> g.index('movies').id('1') }, Map) } } as Runnable).get(1, TimeUnit.MINUTES)
+        } finally {
+            warmup.shutdown()
+        }
+        Recording recording = new Recording()
+        recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace()
+        recording.start()
+        long start = System.nanoTime()
+        int failures = 0
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()
+        try {
+            List<Future<GetResponse<Map>>> futures = (1..callers).collect {
+                executor.submit({ client.get({ g -> g.index('movies').id('1') }, Map) } as Callable<GetResponse<Map>>)
+            }
+            futures.each {
+                try {
+                    it.get(2, TimeUnit.MINUTES)
+                } catch (Exception ignored) {
+                    failures++
+                }
+            }
+        } finally {
+            executor.shutdown()
+        }
+        long elapsedNanos = System.nanoTime() - start
+        recording.stop()
+        Path file = Files.createTempFile('pinning', '.jfr')
+        try {
+            recording.dump(file)
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).findAll {
+                it.eventType.name == PINNED && it.stackTrace?.frames?.any { RecordedFrame frame -> isClientFrame(frame) }
+            }
+            return new LoadResult(callers, failures, callers * 1_000_000_000d / elapsedNanos, pinned)
+        } finally {
+            recording.close()
+            Files.deleteIfExists(file)
+        }
+    }
+
+    private static boolean isClientFrame(RecordedFrame frame) {
+        String type = frame.method?.type?.name
+        type != null && CLIENT_PACKAGES.any { type.startsWith(it) } && !type.contains('Spec')
+    }
+
+    static class LoadResult {
+        int callers
+        int failures
+        double throughput
+        List<RecordedEvent> pinned
+
+        LoadResult(int callers, int failures, double throughput, List<RecordedEvent> pinned) {
+            this.callers = callers
+            this.failures = failures
+            this.throughput = throughput
+            this.pinned = pinned
+        }
+
+        @Override
+        String toString() {
+            String.format('%d callers, %d failures, %.0f requests/s, %d pinning events', callers, failures, throughput, pinned.size())
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.elasticsearch.warmup
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient
+import io.micronaut.context.ApplicationContext
+import io.micronaut.elasticsearch.StubElasticsearchServer
+import io.micronaut.elasticsearch.StubElasticsearchServer.RecordedRequest
+import io.micronaut.elasticsearch.StubElasticsearchServer.StubResponse
+import io.micronaut.health.HealthStatus
+import io.micronaut.management.health.indicator.HealthResult
+import org.elasticsearch.client.RestClient
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import static io.micronaut.elasticsearch.StubElasticsearchServer.json
+
+class ElasticsearchWarmupSpec extends Specification {
+
+    private static final long HANDSHAKE_DELAY_MILLIS = 2000
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer first = new StubElasticsearchServer()
+
+    @Shared
+    @AutoCleanup
+    StubElasticsearchServer second = new StubElasticsearchServer()
+
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+
+    void setupSpec() {
+        [first, second].each { server ->
+            server.on('/') { RecordedRequest request ->
+                StubResponse response = json('{}')
+                response.delayMillis = request.method == 'HEAD' ? HANDSHAKE_DELAY_MILLIS : 0
+                return response
+            }
+        }
+    }
+
+    void setup() {
+        first.requests.clear()
+        second.requests.clear()
+    }
+
+    void "the clients are created on first use by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run('elasticsearch.httpHosts': "${first.httpHost},${second.httpHost}")
+
+        expect:
+        !applicationContext.containsBean(ElasticsearchWarmup)
+        applicationContext.getActiveBeanRegistrations(RestClient).isEmpty()
+        first.requests.isEmpty()
+
+        when:
+        applicationContext.getBean(ElasticsearchClient)
+
+        then:
+        applicationContext.getActiveBeanRegistrations(RestClient).size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the connections are opened in parallel in the background before the application is ready"() {
+        given:
+        long start = System.nanoTime()
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': "${first.httpHost},${second.httpHost}",
+                'elasticsearch.warmup.enabled': true,
+                'elasticsearch.warmup.connections-per-host': 3
+        )
+        long startupMillis = (System.nanoTime() - start).intdiv(1_000_000)
+        ElasticsearchWarmup warmup = applicationContext.getBean(ElasticsearchWarmup)
+        ElasticsearchWarmupHealthIndicator indicator = applicationContext.getBean(ElasticsearchWarmupHealthIndicator)
+
+        expect: "the startup does not wait for the connections"
+        startupMillis < HANDSHAKE_DELAY_MILLIS
+        !warmup.done
+        result(indicator).status == HealthStatus.DOWN
+
+        when:
+        conditions.eventually {
+            assert warmup.done
+        }
+
+        then: "the connections of both hosts were held at the same time"
+        result(indicator).status == HealthStatus.UP
+        result(indicator).details.opened_connections == 6
+        warmup.duration.toMillis() < HANDSHAKE_DELAY_MILLIS * 2
+        [first, second].every { server ->
+            List<RecordedRequest> heads = server.requests('/').findAll { it.method == 'HEAD' }
+            heads.size() == 3 && heads*.remotePort.toSet().size() == 3
+        }
+        applicationContext.getActiveBeanRegistrations(RestClient).size() == 1
+        applicationContext.getActiveBeanRegistrations(ElasticsearchClient).size() == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the named clusters are warmed up as well"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': first.httpHost,
+                'elasticsearch.clusters.analytics.httpHosts': second.httpHost,
+                'elasticsearch.warmup.enabled': true,
+                'elasticsearch.warmup.connections-per-host': 1
+        )
+        ElasticsearchWarmup warmup = applicationContext.getBean(ElasticsearchWarmup)
+
+        when:
+        conditions.eventually {
+            assert warmup.done
+        }
+
+        then:
+        warmup.openedConnections == 2
+        applicationContext.getActiveBeanRegistrations(RestClient).size() == 2
+        first.requests('/').count { it.method == 'HEAD' } == 1
+        second.requests('/').count { it.method == 'HEAD' } == 1
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "the application is ready once the warmup times out"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'elasticsearch.httpHosts': first.httpHost,
+                'elasticsearch.warmup.enabled': true,
+                'elasticsearch.warmup.timeout': '200ms'
+        )
+        ElasticsearchWarmup warmup = applicationContext.getBean(ElasticsearchWarmup)
+
+        when:
+        warmup.warmup().get()
+
+        then:
+        warmup.done
+        warmup.duration.toMillis() < HANDSHAKE_DELAY_MILLIS
+        result(applicationContext.getBean(ElasticsearchWarmupHealthIndicator)).status == HealthStatus.UP
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    private static HealthResult result(ElasticsearchWarmupHealthIndicator indicator) {
+        Mono.from(indicator.result).block()
+    }
+}
@@ -0,0 +1,36 @@
+package micronaut.example;
+
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import micronaut.example.repository.MovieRepository;
+import micronaut.example.service.Movie;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+
+@MicronautTest
+class MovieRepositoryTest {
+
+    @Test
+    void testRepository(MovieRepository movieRepository) {
+        List<String> ids = movieRepository.saveAll(List.of(
+            new Movie("tt0095016", "Heat Wave"),
+            new Movie("tt0113277", "Heat")
+        ));
+        Assertions.assertEquals(2, ids.size());
+        Assertions.assertEquals("Heat", movieRepository.findById(ids.get(1)).orElseThrow().getTitle());
+        Assertions.assertEquals(2, movieRepository.findAllById(ids).size());
+
+        await().atMost(10, SECONDS).until(() ->
+            movieRepository.countByTitle(List.of("Heat", "Wave")) == 2
+        );
+        Assertions.assertEquals(2, movieRepository.findTop10ByTitle("heat").size());
+        Assertions.assertTrue(movieRepository.findFirstByTitle("wave").isPresent());
+
+        movieRepository.deleteAllById(ids);
+        Assertions.assertTrue(movieRepository.findAllById(ids).isEmpty());
+    }
+}
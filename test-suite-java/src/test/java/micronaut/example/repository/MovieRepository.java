@@ -0,0 +1,18 @@
+package micronaut.example.repository;
+
+import io.micronaut.elasticsearch.repository.ElasticsearchCrudRepository;
+import io.micronaut.elasticsearch.repository.ElasticsearchRepository;
+import micronaut.example.service.Movie;
+
+import java.util.List;
+import java.util.Optional;
+
+@ElasticsearchRepository("${elasticsearch.indexes.movies}")
+public interface MovieRepository extends ElasticsearchCrudRepository<Movie> {
+
+    List<Movie> findTop10ByTitle(String title);
+
+    Optional<Movie> findFirstByTitle(String title);
+
+    long countByTitle(List<String> titles);
+}